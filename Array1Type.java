@@ -21,7 +21,7 @@ public class Array1Type extends ArrayType {
 
   public static final Array1Type array1Type = new Array1Type ();
 
-  public Array1Type () {}
+  private Array1Type () {}
 
   public String toString(boolean smtlib1) {
     if (smtlib1)
@@ -21,7 +21,7 @@ public class Array2Type extends ArrayType {
 
   public static final Array2Type array2Type = new Array2Type ();
 
-  public Array2Type () {}
+  private Array2Type () {}
 
   public String toString(boolean smtlib1) {
 	    if (smtlib1)
@@ -21,7 +21,7 @@ public class ArrayType extends SMTType {
 
   public static final ArrayType arrayType = new ArrayType ();
 
-  public ArrayType () {}
+  protected ArrayType () {}
 
   public String toString(boolean smtlib1) {
     return "Array";
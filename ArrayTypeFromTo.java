@@ -17,22 +17,63 @@
  *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
 
+import java.util.*;
+
 public class ArrayTypeFromTo extends SMTType {
 
-		SMTType from, to;
+  /* by the SMT-LIB 2 names of index and element type. Keyed by name
+   * rather than by the identity of the types, so interning hashes no
+   * objects and leaves the identity hash codes of -legacy-rng runs as
+   * they were */
+  private static final HashMap<String, HashMap<String, ArrayTypeFromTo>> types =
+    new HashMap<String, HashMap<String, ArrayTypeFromTo>>();
+
+  private static int typesGeneration;
+
+		final SMTType from, to;
+
+		String smtlib2_name; /* built on first use, as before interning */
 	
-  public ArrayTypeFromTo (SMTType from, SMTType to) 
+  private ArrayTypeFromTo (SMTType from, SMTType to) 
   {
 	  this.from = from;
 	  this.to = to;
-	  
+  }
+
+  public static ArrayTypeFromTo get (SMTType from, SMTType to)
+  {
+	  HashMap<String, ArrayTypeFromTo> byTo;
+	  ArrayTypeFromTo result;
+
+	  synchronized (types)
+	  {
+		  if (typesGeneration != getGeneration())
+		  {
+			  types.clear();
+			  typesGeneration = getGeneration();
+		  }
+		  byTo = types.get (from.toString(false));
+		  if (byTo == null)
+		  {
+			  byTo = new HashMap<String, ArrayTypeFromTo>();
+			  types.put (from.toString(false), byTo);
+		  }
+		  result = byTo.get (to.toString(false));
+		  if (result == null)
+		  {
+			  result = new ArrayTypeFromTo (from, to);
+			  byTo.put (to.toString(false), result);
+		  }
+	  }
+	  return result;
   }
 
   public String toString(boolean smtlib1) {
 	  if (smtlib1)
 		  return "Array";
-	  else
-		  return "(Array " + from.toString(smtlib1) + " " + to.toString(smtlib1) +")";
+	  if (this.smtlib2_name == null)
+		  this.smtlib2_name = "(Array " + from.toString(false) + " " + to.toString(false) +")";
+	  return this.smtlib2_name;
   }
 
 }
@@ -0,0 +1,118 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.util.*;
+import java.math.*;
+
+/* concrete array value: a default element plus finitely many exceptions.
+ * Entries that map to the default element are never stored, so two
+ * arrays with the same default are extensionally equal iff their
+ * entries are equal. Over a finite index domain, arrays with different
+ * defaults are equal if their entries cover the domain and agree. */
+public class ArrayValue {
+
+  protected Object defaultValue;
+
+  protected HashMap<Object, Object> entries;
+
+  /* number of indices, null if the domain is infinite or not known */
+  protected BigInteger indexSize;
+
+  public ArrayValue (Object defaultValue, BigInteger indexSize){
+    assert (defaultValue != null);
+    assert (indexSize == null || indexSize.signum() > 0);
+    this.defaultValue = defaultValue;
+    this.entries = new HashMap<Object, Object>();
+    this.indexSize = indexSize;
+  }
+
+  /* number of values of 'type', null if it is infinite or not known */
+  public static BigInteger domainSize (SMTType type){
+    if (type instanceof BoolType)
+      return BigInteger.valueOf (2);
+    if (type instanceof BVType)
+      return BigInteger.ONE.shiftLeft (((BVType) type).width);
+    return null;
+  }
+
+  public Object select (Object index){
+    Object result;
+
+    assert (index != null);
+    result = this.entries.get (index);
+    if (result == null)
+      return this.defaultValue;
+    return result;
+  }
+
+  public ArrayValue store (Object index, Object value){
+    ArrayValue result;
+
+    assert (index != null);
+    assert (value != null);
+    result = new ArrayValue (this.defaultValue, this.indexSize);
+    result.entries.putAll (this.entries);
+    if (value.equals (this.defaultValue))
+      result.entries.remove (index);
+    else
+      result.entries.put (index, value);
+    return result;
+  }
+
+  public boolean equals (Object o){
+    ArrayValue a;
+    HashSet<Object> indices;
+
+    if (! (o instanceof ArrayValue))
+      return false;
+    a = (ArrayValue) o;
+    if (this.defaultValue.equals (a.defaultValue))
+      return this.entries.equals (a.entries);
+    /* every index takes the default of one of the arrays, so the other
+     * one needs an entry for it */
+    if (this.indexSize == null ||
+        this.indexSize.compareTo (BigInteger.valueOf (this.entries.size() +
+                                                      a.entries.size())) > 0)
+      return false;
+    indices = new HashSet<Object> (this.entries.keySet());
+    indices.addAll (a.entries.keySet());
+    if (!this.indexSize.equals (BigInteger.valueOf (indices.size())))
+      return false;
+    for (Object index : indices) {
+      if (!this.select (index).equals (a.select (index)))
+        return false;
+    }
+    return true;
+  }
+
+  /* over a finite domain, the sum of the hash codes of the elements of
+   * all indices, which does not depend on the default */
+  public int hashCode(){
+    int result;
+
+    if (this.indexSize == null)
+      return this.defaultValue.hashCode() * 31 + this.entries.hashCode();
+    result = this.indexSize.subtract (BigInteger.valueOf (
+               this.entries.size())).intValue() * this.defaultValue.hashCode();
+    for (Object value : this.entries.values())
+      result += value.hashCode();
+    return result;
+  }
+
+}
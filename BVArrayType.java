@@ -17,17 +17,25 @@
  *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
 
+import java.util.*;
+
 public class BVArrayType extends ArrayType 
 {
 
-  protected String smtlib1_name;
-  protected String smtlib2_name;
+  /* by index width in the upper and value width in the lower half */
+  private static final HashMap<Long, BVArrayType> types =
+    new HashMap<Long, BVArrayType>();
+
+  private static int typesGeneration;
+
+  protected final String smtlib1_name;
+  protected final String smtlib2_name;
   
-  protected int indexWidth;
+  protected final int indexWidth;
 
-  protected int valWidth;
+  protected final int valWidth;
 
-  public BVArrayType (int indexWidth, int valWidth){
+  private BVArrayType (int indexWidth, int valWidth){
     StringBuilder builder;
 
     assert (indexWidth > 0);
@@ -48,6 +56,25 @@ public class BVArrayType extends ArrayType
     this.smtlib2_name = builder.toString();
   }
 
+  public static BVArrayType get (int indexWidth, int valWidth){
+    BVArrayType result;
+    Long key;
+
+    key = ((long) indexWidth << 32) | valWidth;
+    synchronized (types) {
+      if (typesGeneration != getGeneration()) {
+        types.clear();
+        typesGeneration = getGeneration();
+      }
+      result = types.get (key);
+      if (result == null) {
+        result = new BVArrayType (indexWidth, valWidth);
+        types.put (key, result);
+      }
+    }
+    return result;
+  }
+
   public String toString (boolean smtlib1){
 	  if (smtlib1)
 		  return this.smtlib1_name;
@@ -17,21 +17,56 @@
  *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
 
+import java.util.*;
+
 public class BVType extends SMTType 
 {
 
-  protected String smtlib1_name;
-  protected String smtlib2_name;
+  /* by width, grown on demand */
+  private static volatile BVType []types = new BVType[65];
+
+  private static volatile int typesGeneration;
+
+  protected final String smtlib1_name;
+  protected final String smtlib2_name;
 
-  protected int width;
+  protected final int width;
 
-  public BVType (int width){
+  private BVType (int width){
     assert (width > 0);
     this.width = width;
     this.smtlib1_name = "BitVec["+ width + "]";
     this.smtlib2_name = "(_ BitVec "+ width + ")";
   }
 
+  public static BVType get (int width){
+    BVType []cached;
+
+    assert (width > 0);
+    cached = types;
+    if (typesGeneration == getGeneration() &&
+        width < cached.length && cached[width] != null)
+      return cached[width];
+    return intern (width);
+  }
+
+  private static synchronized BVType intern (int width){
+    BVType []cached;
+
+    cached = types;
+    if (typesGeneration != getGeneration())
+      cached = new BVType[Math.max (width + 1, 65)];
+    else if (width >= cached.length)
+      cached = Arrays.copyOf (cached, Math.max (width + 1, 2 * cached.length));
+    else
+      cached = cached.clone();
+    if (cached[width] == null)
+      cached[width] = new BVType (width);
+    types = cached;
+    typesGeneration = getGeneration();
+    return cached[width];
+  }
+
   public String toString (boolean smtlib1){
     if (smtlib1)
 	  return this.smtlib1_name;
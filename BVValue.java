@@ -0,0 +1,85 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.math.*;
+
+/* concrete bit-vector value, 'value' is kept in [0, 2^width) */
+public class BVValue {
+
+  protected int width;
+
+  protected BigInteger value;
+
+  public BVValue (int width, BigInteger value){
+    assert (width > 0);
+    assert (value != null);
+    this.width = width;
+    if (value.signum() < 0 || value.bitLength() > width)
+      value = value.and (mask (width));
+    this.value = value;
+  }
+
+  public static BigInteger mask (int width){
+    return BigInteger.ONE.shiftLeft (width).subtract (BigInteger.ONE);
+  }
+
+  public int getWidth(){
+    return this.width;
+  }
+
+  public BigInteger getValue(){
+    return this.value;
+  }
+
+  public boolean msb(){
+    return this.value.testBit (this.width - 1);
+  }
+
+  /* two's complement interpretation */
+  public BigInteger getSigned(){
+    if (this.msb())
+      return this.value.subtract (BigInteger.ONE.shiftLeft (this.width));
+    return this.value;
+  }
+
+  public boolean equals (Object o){
+    BVValue bv;
+
+    if (! (o instanceof BVValue))
+      return false;
+    bv = (BVValue) o;
+    return this.width == bv.width && this.value.equals (bv.value);
+  }
+
+  public int hashCode(){
+    return this.value.hashCode() * 31 + this.width;
+  }
+
+  /* SMT-LIB 2 binary literal */
+  public String toString(){
+    StringBuilder builder;
+
+    builder = new StringBuilder (this.width + 2);
+    builder.append ("#b");
+    for (int i = this.width - 1; i >= 0; i--)
+      builder.append (this.value.testBit (i) ? '1' : '0');
+    return builder.toString();
+  }
+
+}
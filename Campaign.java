@@ -0,0 +1,212 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/* progress of a resumable campaign in a directory.
+ * The checkpoint file holds the options, the campaign seed, the index of
+ * the next instance, the length of the results log up to that instance
+ * and the accumulated result counts. It is replaced by an atomic rename,
+ * so it is always either the old or the new checkpoint. Results of
+ * instances after the checkpoint are cut off the log on resume, as these
+ * instances are generated again. */
+public class Campaign {
+
+  public static final String CHECKPOINT = "checkpoint";
+
+  public static final String RESULTS = "results.log";
+
+  protected File dir;
+
+  protected String options;
+
+  protected long seed;
+
+  protected boolean legacyRng; /* java.util.Random instead of FastRandom */
+
+  protected int next;
+
+  protected long logLength;
+
+  protected TreeMap<String, Integer> counts;
+
+  protected PrintStream log;
+
+  protected FileOutputStream logStream;
+
+  protected Campaign (File dir, String options, long seed, boolean legacyRng){
+    assert (dir != null);
+    assert (options != null);
+    this.dir = dir;
+    this.options = options;
+    this.seed = seed;
+    this.legacyRng = legacyRng;
+    this.next = 0;
+    this.logLength = 0;
+    this.counts = new TreeMap<String, Integer>();
+  }
+
+  /* resumes the campaign in 'dir' or starts a new one with 'seed' */
+  public static Campaign open (File dir, String options, long seed,
+                               boolean legacyRng) throws IOException {
+    Campaign result;
+    Properties props;
+    File file;
+    RandomAccessFile raf;
+    InputStream in;
+
+    assert (dir != null);
+    assert (options != null);
+    if (!dir.isDirectory() && !dir.mkdirs())
+      throw new IOException ("can not create directory " + dir);
+    file = new File (dir, CHECKPOINT);
+    if (!file.exists()) {
+      result = new Campaign (dir, options, seed, legacyRng);
+    } else {
+      props = new Properties();
+      in = new FileInputStream (file);
+      try {
+        props.load (in);
+      } finally {
+        in.close();
+      }
+      if (!options.equals (props.getProperty ("options")))
+        throw new IOException ("campaign in " + dir +
+                               " was started with different options: " +
+                               props.getProperty ("options"));
+      /* checkpoints without rng were written with java.util.Random */
+      result = new Campaign (dir, options,
+                             Long.parseLong (props.getProperty ("seed")),
+                             !"fast".equals (props.getProperty ("rng")));
+      result.next = Integer.parseInt (props.getProperty ("next"));
+      result.logLength = Long.parseLong (props.getProperty ("log"));
+      for (String key : props.stringPropertyNames()) {
+        if (key.startsWith ("count."))
+          result.counts.put (key.substring (6),
+                             Integer.valueOf (props.getProperty (key)));
+      }
+    }
+    raf = new RandomAccessFile (new File (dir, RESULTS), "rw");
+    try {
+      raf.setLength (result.logLength);
+    } finally {
+      raf.close();
+    }
+    result.logStream = new FileOutputStream (new File (dir, RESULTS), true);
+    result.log = new PrintStream (result.logStream, true);
+    return result;
+  }
+
+  public File getDirectory(){
+    return this.dir;
+  }
+
+  public long getSeed(){
+    return this.seed;
+  }
+
+  public boolean isLegacyRng(){
+    return this.legacyRng;
+  }
+
+  /* index of the first instance which has not been completed */
+  public int getNext(){
+    return this.next;
+  }
+
+  /* records the completion of instance 'next'. The results of the
+   * solvers are separated by " | " in 'report', with several solvers
+   * each status is counted per solver, e.g. as "solver2 unsat" */
+  public void completed (String name, String report){
+    String []results;
+    String key;
+    Integer count;
+
+    assert (name != null);
+    if (report != null) {
+      this.log.println (this.next + " " + name + ": " + report);
+      results = report.split (" \\| ");
+      for (int i = 0; i < results.length; i++) {
+        key = results[i].split (" ")[0];
+        if (results.length > 1)
+          key = "solver" + (i + 1) + " " + key;
+        count = this.counts.get (key);
+        this.counts.put (key, count == null ? 1 : count + 1);
+      }
+      if (report.indexOf ("WRONG") >= 0 ||
+          report.indexOf ("DISAGREEMENT") >= 0) {
+        count = this.counts.get ("wrong");
+        this.counts.put ("wrong", count == null ? 1 : count + 1);
+      }
+    }
+    this.next++;
+  }
+
+  public void checkpoint () throws IOException {
+    Properties props;
+    File tmp;
+    FileOutputStream out;
+
+    this.log.flush();
+    this.logStream.getFD().sync();
+    this.logLength = this.logStream.getChannel().size();
+    props = new Properties();
+    props.setProperty ("options", this.options);
+    props.setProperty ("seed", Long.toString (this.seed));
+    props.setProperty ("rng", this.legacyRng ? "legacy" : "fast");
+    props.setProperty ("next", Integer.toString (this.next));
+    props.setProperty ("log", Long.toString (this.logLength));
+    for (Map.Entry<String, Integer> e : this.counts.entrySet())
+      props.setProperty ("count." + e.getKey(), e.getValue().toString());
+    tmp = new File (this.dir, CHECKPOINT + ".tmp");
+    out = new FileOutputStream (tmp);
+    try {
+      props.store (out, "fuzzsmt campaign");
+      out.getFD().sync();
+    } finally {
+      out.close();
+    }
+    Files.move (tmp.toPath(), new File (this.dir, CHECKPOINT).toPath(),
+                StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /* accumulated result counts, e.g. "sat 10, unsat 3" */
+  public String summary (){
+    StringBuilder builder;
+
+    builder = new StringBuilder();
+    builder.append (this.next);
+    builder.append (" instances");
+    for (Map.Entry<String, Integer> e : this.counts.entrySet()) {
+      builder.append (", ");
+      builder.append (e.getKey());
+      builder.append (" ");
+      builder.append (e.getValue());
+    }
+    return builder.toString();
+  }
+
+  public void close (){
+    this.log.close();
+  }
+
+}
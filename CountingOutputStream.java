@@ -0,0 +1,50 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.io.*;
+
+/* passes bytes on to another stream and counts them */
+public class CountingOutputStream extends FilterOutputStream {
+
+  protected long count;
+
+  public CountingOutputStream (OutputStream out){
+    super (out);
+  }
+
+  public void write (int b) throws IOException {
+    this.out.write (b);
+    this.count++;
+  }
+
+  public void write (byte []b, int off, int len) throws IOException {
+    this.out.write (b, off, len);
+    this.count += len;
+  }
+
+  /* stream printing into this stream */
+  public PrintStream printStream (){
+    return new PrintStream (this);
+  }
+
+  public long getCount(){
+    return this.count;
+  }
+
+}
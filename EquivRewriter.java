@@ -0,0 +1,441 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.util.*;
+
+/* rewrites parsed terms into equivalent ones by applying valid rewrite
+ * rules at random positions. Every rule holds for all inputs, including
+ * division by zero, so a term and its rewritten copy are always equal */
+public class EquivRewriter {
+
+  private static final int COMMUTE = 0;
+  private static final int BVSUB = 1;
+  private static final int DE_MORGAN_BV = 2;
+  private static final int BVNEG = 3;
+  private static final int SWAP_COMPARISON = 4;
+  private static final int MINUS = 5;
+  private static final int IMPLIES = 6;
+  private static final int ITE = 7;
+  private static final int ZERO_EXTEND = 8;
+  private static final int EXTRACT_CONCAT = 9;
+  private static final int SPLIT = 10;
+  private static final int DE_MORGAN = 11;
+  private static final int NUM_RULES = 12;
+
+  private static final Set<String> commutative = new HashSet<String>
+    (Arrays.asList (new String[] {"bvadd", "bvmul", "bvand", "bvor", "bvxor",
+                                  "bvnand", "bvnor", "bvxnor", "bvcomp", "=",
+                                  "distinct", "and", "or", "xor", "iff", "+",
+                                  "*"}));
+
+  private static final Set<String> predicates = new HashSet<String>
+    (Arrays.asList (new String[] {"not", "and", "or", "xor", "=>", "implies",
+                                  "iff", "=", "distinct", "bvult", "bvule",
+                                  "bvugt", "bvuge", "bvslt", "bvsle", "bvsgt",
+                                  "bvsge", "<", "<=", ">", ">=", "true",
+                                  "false"}));
+
+  private static final String [][]swapped = {
+    {"bvult", "bvugt"}, {"bvule", "bvuge"}, {"bvslt", "bvsgt"},
+    {"bvsle", "bvsge"}, {"<", ">"}, {"<=", ">="}};
+
+  protected Random r;
+
+  protected boolean smtlib1;
+
+  protected HashMap<String, SMTType> sorts; /* declared symbols and lets */
+
+  protected HashMap<String, String> renaming;
+
+  protected boolean syntactic;
+
+  public EquivRewriter (Random r, boolean smtlib1){
+    this (r, smtlib1, false);
+  }
+
+  /* if 'syntactic', only operands of commutative operators are shuffled
+   * and bvsub, bvnand, bvnor, bvxnor and implications are desugared */
+  public EquivRewriter (Random r, boolean smtlib1, boolean syntactic){
+    assert (r != null);
+    this.r = r;
+    this.smtlib1 = smtlib1;
+    this.syntactic = syntactic;
+    this.sorts = new HashMap<String, SMTType>();
+    this.renaming = new HashMap<String, String>();
+  }
+
+  /* records the result sorts of all symbols declared in 'script' */
+  public void declare (List<Object> script){
+    Object []cmd, list, decl;
+    String attr;
+
+    assert (script != null);
+    for (Object o : script) {
+      if (! (o instanceof Object[]))
+        continue;
+      cmd = (Object []) o;
+      if (cmd.length == 4 && "declare-fun".equals (cmd[0])) {
+        this.sorts.put ((String) cmd[1], SMTEvaluator.parseSort (cmd[3]));
+      } else if (cmd.length > 0 && "benchmark".equals (cmd[0])) {
+        for (int i = 2; i < cmd.length - 1; i++) {
+          attr = cmd[i] instanceof String ? (String) cmd[i] : "";
+          if (!attr.equals (":extrafuns") && !attr.equals (":extrapreds"))
+            continue;
+          list = (Object []) cmd[i + 1];
+          for (int j = 0; j < list.length; j++) {
+            decl = (Object []) list[j];
+            this.sorts.put ((String) decl[0], attr.equals (":extrapreds") ?
+                            BoolType.boolType :
+                            SMTEvaluator.parseSort (decl[decl.length - 1]));
+          }
+        }
+      }
+    }
+  }
+
+  /* the formula of the last assertion, or of the SMT-LIB 1.2 benchmark */
+  public static Object findFormula (List<Object> script){
+    Object []cmd;
+    Object result;
+
+    assert (script != null);
+    result = null;
+    for (Object o : script) {
+      if (! (o instanceof Object[]))
+        continue;
+      cmd = (Object []) o;
+      if (cmd.length == 2 && "assert".equals (cmd[0])) {
+        result = cmd[1];
+      } else if (cmd.length > 0 && "benchmark".equals (cmd[0])) {
+        for (int i = 2; i < cmd.length - 1; i++)
+          if (":formula".equals (cmd[i]))
+            result = cmd[i + 1];
+      }
+    }
+    if (result == null)
+      throw new IllegalArgumentException ("no formula found");
+    return result;
+  }
+
+  public void setSort (String name, SMTType type){
+    assert (name != null);
+    if (type != null)
+      this.sorts.put (name, type);
+  }
+
+  /* occurrences of 'name' are replaced by 'newName' from now on */
+  public void rename (String name, String newName){
+    assert (name != null);
+    assert (newName != null);
+    this.renaming.put (name, newName);
+    setSort (newName, this.sorts.get (name));
+  }
+
+/*----------------------------------------------------------------------------*/
+/* Sorts                                                                      */
+/*----------------------------------------------------------------------------*/
+
+  private static int []indices (Object head){
+    Object []l;
+    String s;
+    int []result;
+
+    if (head instanceof Object[]) {
+      l = (Object []) head;
+      result = new int[l.length - 2];
+      for (int i = 0; i < result.length; i++)
+        result[i] = Integer.parseInt ((String) l[i + 2]);
+      return result;
+    }
+    s = (String) head;
+    if (s.indexOf ('[') < 0 || !s.endsWith ("]"))
+      return null;
+    return parseIndices (s.substring (s.indexOf ('[') + 1, s.length() - 1));
+  }
+
+  private static int []parseIndices (String s){
+    String []parts;
+    int []result;
+
+    parts = s.split (":");
+    result = new int[parts.length];
+    for (int i = 0; i < parts.length; i++)
+      result[i] = Integer.parseInt (parts[i]);
+    return result;
+  }
+
+  /* name of an operator, without indices */
+  private static String opName (Object head){
+    String s;
+
+    if (head instanceof Object[])
+      return (String) ((Object []) head)[1];
+    s = (String) head;
+    if (s.indexOf ('[') > 0 && s.endsWith ("]"))
+      return s.substring (0, s.indexOf ('['));
+    return s;
+  }
+
+  private static int width (SMTType type){
+    if (type instanceof BVType)
+      return ((BVType) type).width;
+    return -1;
+  }
+
+  /* sort of 't', or null if it can not be determined */
+  public SMTType sortOf (Object t){
+    Object []l;
+    String s, op;
+    SMTType type;
+    int []idx;
+    int w;
+
+    if (t instanceof String) {
+      s = (String) t;
+      type = this.sorts.get (s);
+      if (type != null)
+        return type;
+      if (predicates.contains (s))
+        return BoolType.boolType;
+      if (s.startsWith ("#b"))
+        return BVType.get (s.length() - 2);
+      if (s.startsWith ("#x"))
+        return BVType.get ((s.length() - 2) * 4);
+      if (s.startsWith ("bv") && s.endsWith ("]"))
+        return BVType.get (indices (s)[0]);
+      if (s.length() > 0 && Character.isDigit (s.charAt(0)))
+        return s.indexOf ('.') >= 0 ? RealType.realType : IntType.intType;
+      return null;
+    }
+    l = (Object []) t;
+    if ("_".equals (l[0]))
+      return BVType.get (Integer.parseInt ((String) l[2]));
+    op = opName (l[0]);
+    if (predicates.contains (op))
+      return BoolType.boolType;
+    idx = indices (l[0]);
+    w = l.length > 1 ? width (sortOf (l[1])) : -1;
+    if (op.equals ("extract"))
+      return BVType.get (idx[0] - idx[1] + 1);
+    if (op.equals ("zero_extend") || op.equals ("sign_extend"))
+      return w < 0 ? null : BVType.get (w + idx[0]);
+    if (op.equals ("repeat"))
+      return w < 0 ? null : BVType.get (w * idx[0]);
+    if (op.equals ("bvcomp"))
+      return BVType.get (1);
+    if (op.equals ("concat")) {
+      for (int i = 2; i < l.length && w > 0; i++) {
+        if (width (sortOf (l[i])) < 0)
+          return null;
+        w += width (sortOf (l[i]));
+      }
+      return w < 0 ? null : BVType.get (w);
+    }
+    if (op.startsWith ("bv") || op.startsWith ("rotate_"))
+      return sortOf (l[1]);
+    if (op.equals ("ite") || op.equals ("if_then_else"))
+      return sortOf (l[2]);
+    if (op.equals ("select")) {
+      type = sortOf (l[1]);
+      return type instanceof ArrayTypeFromTo ? ((ArrayTypeFromTo) type).to : null;
+    }
+    if (op.equals ("store"))
+      return sortOf (l[1]);
+    if (op.equals ("/"))
+      return RealType.realType;
+    if (op.equals ("+") || op.equals ("-") || op.equals ("~") || op.equals ("*"))
+      return sortOf (l[1]);
+    return this.sorts.get (op);
+  }
+
+/*----------------------------------------------------------------------------*/
+/* Rewriting                                                                  */
+/*----------------------------------------------------------------------------*/
+
+  private Object []app (Object head, Object ... args){
+    Object []result;
+
+    result = new Object[args.length + 1];
+    result[0] = head;
+    System.arraycopy (args, 0, result, 1, args.length);
+    return result;
+  }
+
+  private Object indexed (String op, int i, int j){
+    if (this.smtlib1)
+      return op + "[" + i + (j >= 0 ? ":" + j : "") + "]";
+    if (j >= 0)
+      return new Object[] {"_", op, Integer.toString (i), Integer.toString (j)};
+    return new Object[] {"_", op, Integer.toString (i)};
+  }
+
+  private Object bvConst (int value, int w){
+    if (this.smtlib1)
+      return "bv" + value + "[" + w + "]";
+    return new Object[] {"_", "bv" + value, Integer.toString (w)};
+  }
+
+  private Object not (Object t){
+    return app ("not", t);
+  }
+
+  private boolean applicable (int rule, String op, Object []a, int w){
+    int []idx;
+    int wc;
+
+    if (this.syntactic && rule != COMMUTE && rule != BVSUB &&
+        rule != DE_MORGAN_BV && rule != IMPLIES)
+      return false;
+    switch (rule) {
+      case COMMUTE:
+        return a.length >= 3 && commutative.contains (op);
+      case BVSUB:
+        return a.length == 3 && op.equals ("bvsub");
+      case DE_MORGAN_BV:
+        return a.length == 3 && (op.equals ("bvnand") || op.equals ("bvnor") ||
+                                 op.equals ("bvxnor"));
+      case BVNEG:
+        return a.length == 2 && op.equals ("bvneg") && w > 0;
+      case SWAP_COMPARISON:
+        for (int i = 0; i < swapped.length; i++)
+          if (op.equals (swapped[i][0]) || op.equals (swapped[i][1]))
+            return a.length == 3;
+        return false;
+      case MINUS:
+        return a.length == 3 && op.equals ("-");
+      case IMPLIES:
+        return a.length == 3 && (op.equals ("=>") || op.equals ("implies"));
+      case ITE:
+        return a.length == 4 && (op.equals ("ite") || op.equals ("if_then_else"));
+      case ZERO_EXTEND:
+        return op.equals ("zero_extend") && indices (a[0])[0] > 0;
+      case EXTRACT_CONCAT:
+        if (!op.equals ("extract") || ! (a[1] instanceof Object[]))
+          return false;
+        if (!"concat".equals (((Object []) a[1])[0]) ||
+            ((Object []) a[1]).length != 3)
+          return false;
+        wc = width (sortOf (((Object []) a[1])[2]));
+        idx = indices (a[0]);
+        return wc > 0 && (idx[1] >= wc || idx[0] < wc);
+      case SPLIT:
+        return w >= 2;
+      default:
+        assert (rule == DE_MORGAN);
+        return a.length >= 3 && (op.equals ("and") || op.equals ("or"));
+    }
+  }
+
+  private Object apply (int rule, String op, Object []a, int w){
+    ArrayList<Object> args;
+    Object []result, concat;
+    int []idx;
+    int wc, k;
+
+    switch (rule) {
+      case COMMUTE:
+        args = new ArrayList<Object>();
+        for (int i = 1; i < a.length; i++)
+          args.add (a[i]);
+        Collections.shuffle (args, this.r);
+        result = new Object[a.length];
+        result[0] = a[0];
+        for (int i = 1; i < a.length; i++)
+          result[i] = args.get (i - 1);
+        return result;
+      case BVSUB:
+        return app ("bvadd", a[1], app ("bvneg", a[2]));
+      case DE_MORGAN_BV:
+        if (op.equals ("bvnand"))
+          return app ("bvor", app ("bvnot", a[1]), app ("bvnot", a[2]));
+        if (op.equals ("bvnor"))
+          return app ("bvand", app ("bvnot", a[1]), app ("bvnot", a[2]));
+        return app ("bvnot", (Object) app ("bvxor", a[1], a[2]));
+      case BVNEG:
+        return app ("bvadd", app ("bvnot", a[1]), bvConst (1, w));
+      case SWAP_COMPARISON:
+        for (int i = 0; i < swapped.length; i++) {
+          if (op.equals (swapped[i][0]))
+            return app (swapped[i][1], a[2], a[1]);
+          if (op.equals (swapped[i][1]))
+            return app (swapped[i][0], a[2], a[1]);
+        }
+        assert (false);
+        return a;
+      case MINUS:
+        return app ("+", a[1], app (this.smtlib1 ? "~" : "-", a[2]));
+      case IMPLIES:
+        return app ("or", not (a[1]), a[2]);
+      case ITE:
+        return app (a[0], not (a[1]), a[3], a[2]);
+      case ZERO_EXTEND:
+        return app ("concat", bvConst (0, indices (a[0])[0]), a[1]);
+      case EXTRACT_CONCAT:
+        concat = (Object []) a[1];
+        wc = width (sortOf (concat[2]));
+        idx = indices (a[0]);
+        if (idx[1] >= wc)
+          return app (indexed ("extract", idx[0] - wc, idx[1] - wc), concat[1]);
+        return app (indexed ("extract", idx[0], idx[1]), concat[2]);
+      case SPLIT:
+        k = 1 + this.r.nextInt (w - 1);
+        return app ("concat", app (indexed ("extract", w - 1, k), (Object) a),
+                    app (indexed ("extract", k - 1, 0), (Object) a));
+      default:
+        assert (rule == DE_MORGAN);
+        args = new ArrayList<Object>();
+        args.add (op.equals ("and") ? "or" : "and");
+        for (int i = 1; i < a.length; i++)
+          args.add (not (a[i]));
+        return not (args.toArray());
+    }
+  }
+
+  /* returns a term equivalent to 't' */
+  public Object rewrite (Object t){
+    Object []l, a;
+    String op, renamed;
+    ArrayList<Integer> rules;
+    int w;
+
+    if (t instanceof String) {
+      renamed = this.renaming.get (t);
+      return renamed == null ? t : renamed;
+    }
+    l = (Object []) t;
+    if (l.length == 0 || "_".equals (l[0]))
+      return t;
+    a = new Object[l.length];
+    a[0] = l[0];
+    for (int i = 1; i < l.length; i++)
+      a[i] = rewrite (l[i]);
+    if (this.r.nextBoolean())
+      return a;
+    op = opName (a[0]);
+    w = width (sortOf (a));
+    rules = new ArrayList<Integer>();
+    for (int i = 0; i < NUM_RULES; i++)
+      if (applicable (i, op, a, w))
+        rules.add (i);
+    if (rules.isEmpty())
+      return a;
+    return apply (rules.get (this.r.nextInt (rules.size())), op, a, w);
+  }
+
+}
@@ -0,0 +1,522 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.io.*;
+import java.util.*;
+
+/* deterministic families of unsatisfiable instances which scale with a
+ * size parameter n, used to measure how solver performance grows with n.
+ *
+ * Quantifier instantiation families (AUFLIA, AUFLIRA, AUFNIRA):
+ *   pattern-chain   axioms (f_i x) = (f_i+1 (g x)) with trigger (f_i x)
+ *                   for i < chain, refuted by n ground terms, each of
+ *                   which needs a chain of instantiations
+ *   matching-loop   as pattern-chain, but (f_chain x) = (f_1 (g x)) closes
+ *                   the chain into a matching loop
+ *   multi-pattern   a monotonicity axiom for h with the multi-trigger
+ *                   (h x) (h y), refuted by n ordered ground terms, so
+ *                   the trigger has n * n matches
+ * Quantifier alternation family (LRA, which has no function symbols and
+ * therefore no triggers):
+ *   alternation     negation of a true sentence with n alternations
+ *                   forall x_i exists y_i
+ * Quantifier-free families:
+ *   mul-commute     miter of x * y and y * x at bit-width n (QF_BV,
+ *                   QF_UFBV, QF_ABV, QF_AUFBV)
+ *   let-chain       n let bindings of random bit-vector operations over
+ *                   widths 8, 16 and 32, closed by the miter of e + x and
+ *                   x + e for the last binding e (as mul-commute). Nodes
+ *                   are kept in a NodeStore and the instance is written
+ *                   while it is generated, so n may be 10^8
+ *   store-chain     read over a chain of n writes compared to its
+ *                   expansion into if-then-else (QF_AX, QF_ABV, QF_AUFBV)
+ *   dl-cycle        cycle of n difference constraints x_i - x_i+1 <= -1
+ *                   (QF_IDL, QF_RDL, QF_UFIDL, QF_LIA, QF_LRA)
+ *   congruence-chain  c_0 = ... = c_n, but f^n (c_0) and f^n (c_n)
+ *                   differ (QF_UF) */
+public class Families {
+
+  private static final String []ufFamilies = {"pattern-chain", "matching-loop",
+                                              "multi-pattern"};
+
+  private static final String []lraFamilies = {"alternation"};
+
+  private static final String []bvFamilies = {"mul-commute", "let-chain"};
+
+  /* operators of let-chain, results of zero_extend and extract have
+   * twice and half the width of the operand */
+  private static final SMTNodeKind []letChainOps = {
+    SMTNodeKind.BVNOT, SMTNodeKind.BVNEG, SMTNodeKind.BVAND, SMTNodeKind.BVOR,
+    SMTNodeKind.BVXOR, SMTNodeKind.BVADD, SMTNodeKind.BVMUL, SMTNodeKind.BVSUB,
+    SMTNodeKind.ZERO_EXTEND, SMTNodeKind.EXTRACT};
+
+  private static final int []letChainWidths = {8, 16, 32};
+
+  private static final String []arrayFamilies = {"store-chain"};
+
+  private static final String []dlFamilies = {"dl-cycle"};
+
+  private static final String []ufFamiliesQF = {"congruence-chain"};
+
+  protected boolean smtlib1;
+
+  protected StringBuilder builder;
+
+  protected String formula; /* last assertion, the :formula in SMT-LIB 1 */
+
+  protected Families (boolean smtlib1){
+    this.smtlib1 = smtlib1;
+    this.builder = new StringBuilder();
+  }
+
+  /* names of the families of 'logic' */
+  public static List<String> getFamilies (SMTLogic logic){
+    ArrayList<String> result;
+
+    result = new ArrayList<String>();
+    switch (logic) {
+      case AUFLIA:
+      case AUFLIRA:
+      case AUFNIRA:
+        result.addAll (Arrays.asList (ufFamilies));
+        break;
+      case LRA:
+        result.addAll (Arrays.asList (lraFamilies));
+        break;
+      case QF_ABV:
+      case QF_AUFBV:
+        result.addAll (Arrays.asList (arrayFamilies));
+        result.addAll (Arrays.asList (bvFamilies));
+        break;
+      case QF_BV:
+      case QF_UFBV:
+        result.addAll (Arrays.asList (bvFamilies));
+        break;
+      case QF_AX:
+        result.addAll (Arrays.asList (arrayFamilies));
+        break;
+      case QF_IDL:
+      case QF_RDL:
+      case QF_UFIDL:
+      case QF_LIA:
+      case QF_LRA:
+        result.addAll (Arrays.asList (dlFamilies));
+        break;
+      case QF_UF:
+        result.addAll (Arrays.asList (ufFamiliesQF));
+        break;
+    }
+    return result;
+  }
+
+  /* smallest n of 'family' */
+  public static int getMinSize (String family){
+    if (family.equals ("multi-pattern"))
+      return 2;
+    return 1;
+  }
+
+  private void header (SMTLogic logic, String version){
+    if (this.smtlib1) {
+      this.builder.append ("(benchmark fuzzsmt" + version + "\n");
+      this.builder.append (":logic " + logic + "\n");
+      this.builder.append (":status unsat\n");
+    } else {
+      this.builder.append ("(set-info :source | fuzzsmt " + version + " |)\n");
+      this.builder.append ("(set-logic " + logic + ")\n");
+      this.builder.append ("(set-info :status unsat)\n");
+    }
+  }
+
+  private void declareSort (String name){
+    if (this.smtlib1)
+      this.builder.append (":extrasorts (" + name + ")\n");
+    else
+      this.builder.append ("(declare-sort " + name + " 0)\n");
+  }
+
+  private void declare (String name, String []operands, String result){
+    if (this.smtlib1) {
+      this.builder.append (":extrafuns ((" + name);
+      for (int i = 0; i < operands.length; i++)
+        this.builder.append (" " + operands[i]);
+      this.builder.append (" " + result + "))\n");
+    } else {
+      this.builder.append ("(declare-fun " + name + " (");
+      for (int i = 0; i < operands.length; i++)
+        this.builder.append ((i > 0 ? " " : "") + operands[i]);
+      this.builder.append (") " + result + ")\n");
+    }
+  }
+
+  private void assertion (String formula){
+    if (this.formula != null) {
+      if (this.smtlib1)
+        this.builder.append (":assumption\n" + this.formula + "\n");
+      else
+        this.builder.append ("(assert " + this.formula + ")\n");
+    }
+    this.formula = formula;
+  }
+
+  private String footer (){
+    assert (this.formula != null);
+    if (this.smtlib1) {
+      this.builder.append (":formula\n" + this.formula + "\n");
+      this.builder.append (")\n");
+    } else {
+      this.builder.append ("(assert " + this.formula + ")\n");
+      this.builder.append ("(check-sat)\n");
+    }
+    return this.builder.toString();
+  }
+
+  /* 'body' quantified by 'quantifier' over 'vars' of 'sort', with the
+   * multi-trigger 'pattern' unless it is null */
+  private String quantify (String quantifier, String []vars, String sort,
+                           String body, String []pattern){
+    StringBuilder result;
+
+    result = new StringBuilder();
+    result.append ("(" + quantifier + " ");
+    if (!this.smtlib1)
+      result.append ("(");
+    for (int i = 0; i < vars.length; i++)
+      result.append ((i > 0 ? " " : "") + "(" + vars[i] + " " + sort + ")");
+    if (!this.smtlib1)
+      result.append (")");
+    if (pattern == null) {
+      result.append (" " + body + ")");
+    } else if (this.smtlib1) {
+      result.append (" " + body + " :pat {");
+      for (int i = 0; i < pattern.length; i++)
+        result.append (" " + pattern[i]);
+      result.append (" })");
+    } else {
+      result.append (" (! " + body + " :pattern (");
+      for (int i = 0; i < pattern.length; i++)
+        result.append ((i > 0 ? " " : "") + pattern[i]);
+      result.append (")))");
+    }
+    return result.toString();
+  }
+
+  /* 'args' combined by n-ary 'op', or the only argument */
+  private static String nary (String op, List<String> args){
+    StringBuilder result;
+
+    assert (!args.isEmpty());
+    if (args.size() == 1)
+      return args.get(0);
+    result = new StringBuilder ("(" + op);
+    for (String arg : args)
+      result.append (" " + arg);
+    result.append (")");
+    return result.toString();
+  }
+
+  private String distinct (String a, String b){
+    if (this.smtlib1)
+      return "(not (= " + a + " " + b + "))";
+    return "(distinct " + a + " " + b + ")";
+  }
+
+  private static String apply (String f, String arg, int times){
+    String result = arg;
+
+    for (int i = 0; i < times; i++)
+      result = "(" + f + " " + result + ")";
+    return result;
+  }
+
+  private String chain (SMTLogic logic, int n, int length, boolean loop){
+    String value;
+    ArrayList<String> goals;
+    String []one = {"Int"};
+
+    value = logic == SMTLogic.AUFLIA ? "Int" : "Real";
+    declare ("g", one, "Int");
+    for (int i = 1; i <= length; i++)
+      declare ("f" + i, one, value);
+    for (int j = 0; j < n; j++)
+      declare ("c" + j, new String[0], "Int");
+    for (int i = 1; i < length; i++)
+      assertion (quantify ("forall", new String[] {"?x"}, "Int",
+                           "(= (f" + i + " ?x) (f" + (i + 1) + " (g ?x)))",
+                           new String[] {"(f" + i + " ?x)"}));
+    if (loop)
+      assertion (quantify ("forall", new String[] {"?x"}, "Int",
+                           "(= (f" + length + " ?x) (f1 (g ?x)))",
+                           new String[] {"(f" + length + " ?x)"}));
+    goals = new ArrayList<String>();
+    for (int j = 0; j < n; j++)
+      goals.add (distinct ("(f1 c" + j + ")",
+                           "(f" + length + " " + apply ("g", "c" + j, length - 1) + ")"));
+    assertion (nary ("or", goals));
+    return footer();
+  }
+
+  private String multiPattern (SMTLogic logic, int n){
+    String value;
+
+    value = logic == SMTLogic.AUFLIA ? "Int" : "Real";
+    declare ("h", new String[] {"Int"}, value);
+    for (int j = 0; j < n; j++)
+      declare ("c" + j, new String[0], "Int");
+    assertion (quantify ("forall", new String[] {"?x", "?y"}, "Int",
+                         "(" + (this.smtlib1 ? "implies" : "=>") +
+                         " (< ?x ?y) (< (h ?x) (h ?y)))",
+                         new String[] {"(h ?x)", "(h ?y)"}));
+    for (int j = 0; j + 1 < n; j++)
+      assertion ("(< c" + j + " c" + (j + 1) + ")");
+    assertion ("(>= (h c0) (h c" + (n - 1) + "))");
+    return footer();
+  }
+
+  private String alternation (int n){
+    StringBuilder body;
+    String formula;
+    ArrayList<String> conjuncts;
+
+    conjuncts = new ArrayList<String>();
+    for (int i = 1; i <= n; i++)
+      conjuncts.add ("(> ?y" + i + " (+ ?x" + i + " " +
+                     (i == 1 ? "1.0" : "?y" + (i - 1)) + "))");
+    formula = nary ("and", conjuncts);
+    for (int i = n; i >= 1; i--) {
+      formula = quantify ("exists", new String[] {"?y" + i}, "Real", formula,
+                          null);
+      formula = quantify ("forall", new String[] {"?x" + i}, "Real", formula,
+                          null);
+    }
+    body = new StringBuilder ("(not ");
+    body.append (formula);
+    body.append (")");
+    assertion (body.toString());
+    return footer();
+  }
+
+  private String op (SMTNodeKind kind){
+    return kind.getString (this.smtlib1);
+  }
+
+  private String mulCommute (int n){
+    String sort;
+
+    sort = BVType.get (n).toString (this.smtlib1);
+    declare ("x", new String[0], sort);
+    declare ("y", new String[0], sort);
+    assertion ("(" + op (SMTNodeKind.NOT) + " (" + op (SMTNodeKind.EQ) +
+               " (" + op (SMTNodeKind.BVMUL) + " x y) (" +
+               op (SMTNodeKind.BVMUL) + " y x)))");
+    return footer();
+  }
+
+  private String letChainName (int node, int numVars){
+    if (node < numVars)
+      return "v" + node;
+    return (this.smtlib1 ? "?e" : "e") + node;
+  }
+
+  /* flushes the buffered text to 'out' once it is large */
+  private void flush (PrintStream out, boolean force){
+    if (force || this.builder.length() >= 1 << 16) {
+      out.append (this.builder);
+      this.builder.setLength (0);
+    }
+  }
+
+  private void letChain (int n, PrintStream out){
+    NodeStore store;
+    Random r;
+    SMTNodeKind kind;
+    SMTType type;
+    String x;
+    int numVars, width, node;
+
+    store = new NodeStore();
+    r = new FastRandom (n);
+    for (int i = 0; i < letChainWidths.length; i++) {
+      type = BVType.get (letChainWidths[i]);
+      for (int j = 0; j < 2; j++)
+        declare (letChainName (store.add (type), Integer.MAX_VALUE),
+                 new String[0], type.toString (this.smtlib1));
+    }
+    numVars = store.size();
+    this.builder.append (this.smtlib1 ? ":formula\n" : "(assert\n");
+    for (int i = 0; i < n; i++) {
+      kind = letChainOps[r.nextInt (letChainOps.length)];
+      if (kind == SMTNodeKind.ZERO_EXTEND)
+        width = letChainWidths[r.nextInt (letChainWidths.length - 1)];
+      else if (kind == SMTNodeKind.EXTRACT)
+        width = letChainWidths[1 + r.nextInt (letChainWidths.length - 1)];
+      else
+        width = letChainWidths[r.nextInt (letChainWidths.length)];
+      node = store.select (r, BVType.get (width));
+      this.builder.append (this.smtlib1 ? "(let (" : "(let ((");
+      this.builder.append (letChainName (store.size(), numVars));
+      this.builder.append (" (");
+      this.builder.append (op (kind));
+      if (kind == SMTNodeKind.ZERO_EXTEND) {
+        this.builder.append (this.smtlib1 ? "[" + width + "]" : " " + width + ")");
+        width *= 2;
+      } else if (kind == SMTNodeKind.EXTRACT) {
+        this.builder.append (this.smtlib1 ? "[" + (width / 2 - 1) + ":0]" :
+                             " " + (width / 2 - 1) + " 0)");
+        width /= 2;
+      }
+      this.builder.append (" ");
+      this.builder.append (letChainName (node, numVars));
+      if (kind.getArity() == 2) {
+        this.builder.append (" ");
+        this.builder.append (letChainName (store.select (r, BVType.get (width)),
+                                           numVars));
+      }
+      this.builder.append (this.smtlib1 ? "))\n" : ")))\n");
+      store.add (BVType.get (width));
+      flush (out, false);
+    }
+    node = store.size() - 1;
+    width = ((BVType) store.getType (node)).getWidth();
+    /* the first variable of the width of the last binding */
+    x = letChainName (2 * Arrays.binarySearch (letChainWidths, width), numVars);
+    this.builder.append ("(" + op (SMTNodeKind.NOT) + " (" + op (SMTNodeKind.EQ) +
+                         " (" + op (SMTNodeKind.BVADD) + " " +
+                         letChainName (node, numVars) + " " + x + ") (" +
+                         op (SMTNodeKind.BVADD) + " " + x + " " +
+                         letChainName (node, numVars) + ")))");
+    for (int i = 0; i < n; i++) {
+      this.builder.append (")");
+      flush (out, false);
+    }
+    this.builder.append (this.smtlib1 ? "\n)\n" : ")\n(check-sat)\n");
+    flush (out, true);
+  }
+
+  private String storeChain (SMTLogic logic, int n){
+    String index, element, array, stores, expansion;
+
+    if (logic == SMTLogic.QF_AX) {
+      index = "Index";
+      element = "Element";
+      if (this.smtlib1) {
+        array = ArrayType.arrayType.toString (true);
+      } else {
+        declareSort (index);
+        declareSort (element);
+        array = "(Array " + index + " " + element + ")";
+      }
+    } else {
+      index = BVType.get (32).toString (this.smtlib1);
+      element = BVType.get (8).toString (this.smtlib1);
+      array = BVArrayType.get (32, 8).toString (this.smtlib1);
+      if (!this.smtlib1)
+        array = "(Array " + array + ")";
+    }
+    declare ("a", new String[0], array);
+    declare ("j", new String[0], index);
+    stores = "a";
+    expansion = "(" + op (SMTNodeKind.SELECT) + " a j)";
+    for (int i = 1; i <= n; i++) {
+      declare ("i" + i, new String[0], index);
+      declare ("e" + i, new String[0], element);
+      stores = "(" + op (SMTNodeKind.STORE) + " " + stores + " i" + i +
+               " e" + i + ")";
+      expansion = "(" + op (SMTNodeKind.ITE) + " (" + op (SMTNodeKind.EQ) +
+                  " j i" + i + ") e" + i + " " + expansion + ")";
+    }
+    assertion ("(" + op (SMTNodeKind.NOT) + " (" + op (SMTNodeKind.EQ) +
+               " (" + op (SMTNodeKind.SELECT) + " " + stores + " j) " +
+               expansion + "))");
+    return footer();
+  }
+
+  private String dlCycle (SMTLogic logic, int n){
+    String sort;
+
+    sort = logic == SMTLogic.QF_RDL || logic == SMTLogic.QF_LRA ? "Real" : "Int";
+    for (int i = 0; i < n; i++)
+      declare ("x" + i, new String[0], sort);
+    for (int i = 0; i < n; i++)
+      assertion ("(" + op (SMTNodeKind.LE) + " (" + op (SMTNodeKind.BINMINUS) +
+                 " x" + i + " x" + ((i + 1) % n) + ") (" +
+                 op (SMTNodeKind.UNMINUS) + " 1))");
+    return footer();
+  }
+
+  private String congruenceChain (int n){
+    declareSort ("U");
+    declare ("f", new String[] {"U"}, "U");
+    for (int i = 0; i <= n; i++)
+      declare ("c" + i, new String[0], "U");
+    for (int i = 0; i < n; i++)
+      assertion ("(" + op (SMTNodeKind.EQ) + " c" + i + " c" + (i + 1) + ")");
+    assertion (distinct (apply ("f", "c0", n), apply ("f", "c" + n, n)));
+    return footer();
+  }
+
+  /* writes the instance of 'family' to 'out', see generate. Instances of
+   * let-chain are written while they are generated, as they may be too
+   * large for one string */
+  public static void write (String family, SMTLogic logic, int n, int length,
+                            boolean smtlib1, String version, PrintStream out){
+    Families families;
+
+    assert (out != null);
+    if (!family.equals ("let-chain")) {
+      out.print (generate (family, logic, n, length, smtlib1, version));
+      return;
+    }
+    assert (getFamilies (logic).contains (family));
+    families = new Families (smtlib1);
+    families.header (logic, version);
+    families.letChain (n, out);
+  }
+
+  /* instance of 'family' of 'logic' with size 'n' and, for chains, the
+   * number of functions 'length' */
+  public static String generate (String family, SMTLogic logic, int n,
+                                 int length, boolean smtlib1, String version){
+    Families families;
+
+    assert (getFamilies (logic).contains (family));
+    assert (!family.equals ("let-chain"));
+    assert (n >= getMinSize (family));
+    assert (length >= 2);
+    families = new Families (smtlib1);
+    families.header (logic, version);
+    if (family.equals ("pattern-chain"))
+      return families.chain (logic, n, length, false);
+    if (family.equals ("matching-loop"))
+      return families.chain (logic, n, length, true);
+    if (family.equals ("multi-pattern"))
+      return families.multiPattern (logic, n);
+    if (family.equals ("mul-commute"))
+      return families.mulCommute (n);
+    if (family.equals ("store-chain"))
+      return families.storeChain (logic, n);
+    if (family.equals ("dl-cycle"))
+      return families.dlCycle (logic, n);
+    if (family.equals ("congruence-chain"))
+      return families.congruenceChain (n);
+    assert (family.equals ("alternation"));
+    return families.alternation (n);
+  }
+
+}
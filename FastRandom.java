@@ -0,0 +1,90 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.util.*;
+
+/* xoshiro256** generator seeded by SplitMix64. It replaces the atomic
+ * linear congruential state of java.util.Random by four plain longs, so
+ * it must not be shared between threads. As a subclass of Random it can
+ * be passed wherever a Random is expected, e.g. to new BigInteger. */
+public class FastRandom extends Random {
+
+  private static final long serialVersionUID = 1L;
+
+  /* not initialized in declarations, as the constructor of Random calls
+   * setSeed before the fields of a subclass are initialized */
+  protected long s0, s1, s2, s3;
+
+  public FastRandom (long seed){
+    super (seed);
+  }
+
+  /* generator for 'seed', typed as Random so that verifying a caller
+   * which creates java.util.Random as well does not load this class */
+  public static Random forSeed (long seed){
+    return new FastRandom (seed);
+  }
+
+  public void setSeed (long seed){
+    long z;
+
+    z = seed;
+    z += 0x9E3779B97F4A7C15l;
+    this.s0 = mix (z);
+    z += 0x9E3779B97F4A7C15l;
+    this.s1 = mix (z);
+    z += 0x9E3779B97F4A7C15l;
+    this.s2 = mix (z);
+    z += 0x9E3779B97F4A7C15l;
+    this.s3 = mix (z);
+  }
+
+  private static long mix (long z){
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9l;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBl;
+    return z ^ (z >>> 31);
+  }
+
+  public long nextLong (){
+    long result, t;
+
+    result = Long.rotateLeft (this.s1 * 5, 7) * 9;
+    t = this.s1 << 17;
+    this.s2 ^= this.s0;
+    this.s3 ^= this.s1;
+    this.s1 ^= this.s2;
+    this.s0 ^= this.s3;
+    this.s2 ^= t;
+    this.s3 = Long.rotateLeft (this.s3, 45);
+    return result;
+  }
+
+  protected int next (int bits){
+    return (int) (nextLong() >>> (64 - bits));
+  }
+
+  public int nextInt (){
+    return (int) (nextLong() >>> 32);
+  }
+
+  public boolean nextBoolean (){
+    return nextLong() < 0;
+  }
+
+}
@@ -23,8 +23,20 @@ import java.math.*;
 public class FuzzSMT {
 
 	static boolean smtlib1; // if true output in smtlib1 format.
+	static boolean legacyRng; // if true java.util.Random is used as before.
 	static String bulkPrefix =""; // Prepend to bulk output. 	
 	static java.io.PrintStream output; // where output is written to.
+	static ResultCache cache; // solver results, shared by campaign instances.
+	static InstanceFeatures features; // of the current instance, if collected.
+	static GenerationProfile profile; // phase timings, shared by campaign instances.
+	static boolean events; // if true flight recorder events are emitted.
+	static Metrics metrics; // served over http, shared by campaign instances.
+	static SeedCorpus corpus; // imported terms, shared by campaign instances.
+	static String corpusPath; // from which corpus was loaded.
+	static PerfComparison perf; // of two solver builds, shared by campaign instances.
+	static String perfPath; // directory of perf.
+	static ArrayDeque<GeneratorEvent> generatorEvents = new ArrayDeque<GeneratorEvent>(); // of the generators currently running.
+	static HashMap<String, InteractiveSolver> sessions = new HashMap<String, InteractiveSolver>(); // interactive solvers, by command and timeout.
 		
 
 /*----------------------------------------------------------------------------*/
@@ -55,25 +67,6 @@ public class FuzzSMT {
     return result;
   }
 
-  private static void updateStringRefs (HashMap<String, Integer> map, 
-                                        String string, int minRefs){
-    Integer refs;
-
-    assert (map != null);
-    assert (string != null);
-    assert (minRefs > 0);
-
-    refs = map.get(string);
-    if (refs != null) {
-      refs = new Integer (refs.intValue() + 1);
-      if (refs.intValue() >= minRefs)
-        map.remove(string);
-      else
-        map.put (string, refs);
-    }
-  }
-
-
   private static void updateNodeRefs (HashMap<SMTNode, Integer> map, 
                                       SMTNode node, int minRefs){
     Integer refs;
@@ -288,6 +281,7 @@ public class FuzzSMT {
 
   private static int generateVarsOfOneType (List<SMTNode> nodes, int numVars, 
                                             SMTType type){
+    long started = startPhase();
     String name;
     StringBuilder builder;
 
@@ -318,12 +312,14 @@ public class FuzzSMT {
       nodes.add (new SMTNode (type, name));
     }
     output.print (builder.toString());
+    endPhase ("generateVarsOfOneType", started);
     return numVars;
   }
 
 
   private static int generateBVVars (Random r, List<SMTNode> nodes, int numVars,
                                      int minBW, int maxBW) {
+    long started = startPhase();
     int bw;
     String name;
     SMTNode node;
@@ -357,16 +353,18 @@ public class FuzzSMT {
 	      builder.append (bw);
 	      builder.append ("))\n");
       }
-      node = new SMTNode (new BVType (bw), name);
+      node = new SMTNode (BVType.get (bw), name);
       nodes.add (node);
     }
     output.print (builder.toString());
 
+    endPhase ("generateBVVars", started);
     return numVars;
   }
 
   private static int generateBVConsts (Random r, List<SMTNode> nodes,
                                        int numConsts, int minBW, int maxBW) {
+    long started = startPhase();
     int bw;
     int size;
     String name;
@@ -408,11 +406,12 @@ public class FuzzSMT {
       }
       
       builder.append (letClose());
-      node = new SMTNode (new BVType (bw), name);
+      node = new SMTNode (BVType.get (bw), name);
       nodes.add (node);
     }
     output.print (builder.toString());
 
+    endPhase ("generateBVConsts", started);
     return numConsts;
   }
 
@@ -424,9 +423,67 @@ public class FuzzSMT {
 		  return "(let ((";
   }
 
+  /* name of operator 'kind', which is counted in the features of the
+   * current instance */
+  private static String opName (SMTNodeKind kind)
+  {
+	  if (features != null)
+		  features.addKind (kind);
+	  return kind.getString(smtlib1);
+  }
+
+  /* random number generator for 'seed', java.util.Random only reproduces
+   * instances generated before FastRandom was added */
+  private static Random newRandom (long seed)
+  {
+	  if (legacyRng)
+		  return new Random (seed);
+	  return FastRandom.forSeed (seed);
+  }
+
+  /* forgets all interned types. Versions before interning created new
+   * types for every instance, and -legacy-rng instances after the first
+   * depend on the identity hash codes of these new types. The classes
+   * drop their types on their next lookup rather than here, so classes
+   * the instance does not use are neither verified nor initialized */
+  private static void resetTypes ()
+  {
+	  SMTType.newGeneration();
+  }
+
+  /* start of a phase span, 0 if no profile is recorded */
+  private static long startPhase ()
+  {
+	  if (events)
+	  {
+		  GeneratorEvent event = new GeneratorEvent();
+		  event.begin();
+		  generatorEvents.push (event);
+	  }
+	  return profile == null ? 0 : System.nanoTime();
+  }
+
+  private static void endPhase (String phase, long started)
+  {
+	  if (profile != null)
+		  profile.add (phase, started);
+	  if (events)
+	  {
+		  GeneratorEvent event = generatorEvents.pop();
+		  event.kind = phase;
+		  event.commit();
+	  }
+  }
+
+  /* suffix of bulk export files */
+  private static String fileSuffix ()
+  {
+	  return smtlib1 ? ".smt" : ".smt2";
+  }
+
   private static String uMinus()
   {
-	  return SMTNodeKind.UNMINUS.getString(smtlib1);
+	  return opName (SMTNodeKind.UNMINUS);
   }
 
   
@@ -487,6 +544,7 @@ public class FuzzSMT {
   
   private static int generateBVArrayVars (Random r, List<SMTNode> nodes,
                                           int numArrays, int minBW, int maxBW) {
+    long started = startPhase();
     int indexWidth, valWidth;
     String name;
     SMTNode node;
@@ -527,11 +585,12 @@ public class FuzzSMT {
 			builder.append(")))\n");
       }
       
-      node = new SMTNode (new BVArrayType (indexWidth, valWidth), name);
+      node = new SMTNode (BVArrayType.get (indexWidth, valWidth), name);
       nodes.add (node);
     }
     output.print (builder.toString());
 
+    endPhase ("generateBVArrayVars", started);
     return numArrays;
   }
 
@@ -543,6 +602,7 @@ public class FuzzSMT {
 
   private static int generateIntConsts (Random r, List<SMTNode> nodes,
                                         int numConsts, int maxBW){
+    long started = startPhase();
     String name;
     BigInteger bi;
     int bw;
@@ -568,6 +628,7 @@ public class FuzzSMT {
     }
     output.print (builder.toString());
 
+    endPhase ("generateIntConsts", started);
     return numConsts;
   }
 
@@ -583,6 +644,7 @@ public class FuzzSMT {
                                                      List<SMTNode> nodes,
                                                      Set<SMTNode> zeroConsts, 
                                                      int numConsts, int maxBW){
+    long started = startPhase();
     String name;
     BigInteger bi;
     int bw;
@@ -617,6 +679,7 @@ public class FuzzSMT {
     }
     output.print (builder.toString());
 
+    endPhase ("generateIntConstsNotFilledZero", started);
     return numConsts;
   }
 
@@ -627,6 +690,7 @@ public class FuzzSMT {
                                                       Set<SMTNode> zeroConsts, 
                                                       int numConsts, int maxBW,
                                                       boolean printAsReal){
+    long started = startPhase();
     String name;
     BigInteger bi;
     int bw;
@@ -663,10 +727,12 @@ public class FuzzSMT {
     }
     output.print (builder.toString());
 
+    endPhase ("generateRealConstsNotFilledZero", started);
     return numConsts;
   }
 
   private static int generateUTypes (List<SMTType> types, int numUTypes){
+    long started = startPhase();
     String name;
     StringBuilder builder;
 
@@ -676,7 +742,7 @@ public class FuzzSMT {
     builder = new StringBuilder();
     for (int i = 0; i < numUTypes; i++) {
       name = "S" + i;
-      types.add (new UType (name));
+      types.add (UType.get (name));
 
       if (smtlib1)
       {
@@ -693,11 +759,13 @@ public class FuzzSMT {
       
     }
     output.print (builder.toString());
+    endPhase ("generateUTypes", started);
     return numUTypes;
   }
 
   private static int generateUVars (List<SMTType> sorts, List<SMTNode> nodes,
                                     int numVars) {
+    long started = startPhase();
     int generated = 0;
     int sizeSorts;
 
@@ -710,12 +778,14 @@ public class FuzzSMT {
       generated += generateVarsOfOneType (nodes, numVars, sorts.get(i));
 
     assert (generated == sizeSorts * numVars);
+    endPhase ("generateUVars", started);
     return generated;
   }
 
   private static int generateUFuncs (Random r, List<SMTType> sorts, 
                                      List<UFunc> funcs, int minNumFuncs, 
                                      int minArgs, int maxArgs) {
+    long started = startPhase();
     int generated = 0;
     int numArgs, sizeSorts;
     Signature sig;
@@ -797,12 +867,14 @@ public class FuzzSMT {
     }
     output.print (builder.toString());
     assert (generated > 0);
+    endPhase ("generateUFuncs", started);
     return generated;
   }
 
   private static int generateUPreds (Random r, List<SMTType> sorts, 
                                      List<UPred> preds, int minNumPreds, 
                                      int minArgs, int maxArgs) {
+    long started = startPhase();
     int generated = 0;
     int numArgs, sizeSorts;
     Signature sig;
@@ -868,12 +940,14 @@ public class FuzzSMT {
     }
     output.print (builder.toString());
     assert (generated > 0);
+    endPhase ("generateUPreds", started);
     return generated;
   }
 
   private static int generateUFuncsBV (Random r, List<UFunc> funcs, 
                                        int numFuncs, int minArgs, int maxArgs,
                                        int minBW, int maxBW) {
+    long started = startPhase();
     int numArgs, bw;
     Signature sig;
     ArrayList<SMTType> operandTypes;
@@ -900,12 +974,12 @@ public class FuzzSMT {
         bw = selectRandValRange (r, minBW, maxBW);
         assert (bw >= minBW);
         assert (bw <= maxBW);
-        operandTypes.add (new BVType (bw));
+        operandTypes.add (BVType.get (bw));
       }
       bw = selectRandValRange (r, minBW, maxBW);
       assert (bw >= minBW);
       assert (bw <= maxBW);
-      resultType = new BVType (bw);
+      resultType = BVType.get (bw);
       sig = new Signature (operandTypes, resultType);
       funcs.add (new UFunc (name, sig));
 
@@ -938,12 +1012,14 @@ public class FuzzSMT {
       
     }
     output.print (builder.toString());
+    endPhase ("generateUFuncsBV", started);
     return numFuncs;
   }
 
   private static int generateUPredsBV (Random r, List<UPred> preds, 
                                        int numPreds, int minArgs, int maxArgs,
                                        int minBW, int maxBW) {
+    long started = startPhase();
     int numArgs, bw;
     Signature sig;
     ArrayList<SMTType> operandTypes;
@@ -970,7 +1046,7 @@ public class FuzzSMT {
         bw = selectRandValRange(r, minBW, maxBW);
         assert (bw >= minBW);
         assert (bw <= maxBW);
-        operandTypes.add (new BVType(bw));
+        operandTypes.add (BVType.get (bw));
       }
       sig = new Signature (operandTypes, BoolType.boolType);
       preds.add (new UPred (name, sig));
@@ -999,9 +1075,121 @@ public class FuzzSMT {
 
     }
     output.print (builder.toString());
+    endPhase ("generateUPredsBV", started);
     return numPreds;
   }
 
+/*----------------------------------------------------------------------------*/
+/* Imported terms                                                             */
+/*----------------------------------------------------------------------------*/
+
+  /* selects 'numTerms' terms of the corpus with at most 'maxBW' bits,
+   * which only apply functions if 'uf', adds them to 'terms' and declares
+   * their symbols under the names in 'names'. Bit-vector constants are
+   * added to 'nodes', functions on bit-vectors to 'funcs' and 'preds',
+   * so the layers use them as well, if they have at most 'maxBW' bits. */
+  private static int generateCorpusVars (Random r, int numTerms, int maxBW,
+                                         boolean uf, List<Integer> terms,
+                                         Map<Signature, String> names,
+                                         List<SMTNode> nodes,
+                                         List<UFunc> funcs, List<UPred> preds){
+    long started = startPhase();
+    int term;
+    boolean bv;
+    String name;
+    ArrayList<Signature> symbols;
+    HashSet<String> locals;
+    StringBuilder builder;
+
+    assert (r != null);
+    assert (corpus != null);
+    assert (numTerms > 0);
+    assert (terms != null);
+    assert (names != null);
+    terms.clear();
+    names.clear();
+    symbols = new ArrayList<Signature>();
+    locals = new HashSet<String>();
+    for (int i = 0; i < numTerms; i++) {
+      term = corpus.select (r, maxBW, uf);
+      if (term < 0)
+        break;
+      terms.add (term);
+      corpus.getSymbols (term, symbols);
+      corpus.getLocals (term, locals);
+    }
+    builder = new StringBuilder();
+    for (Signature sig : symbols) {
+      /* bound variables of the terms may look like imported names */
+      name = "s" + names.size();
+      while (locals.contains (name))
+        name += "_";
+      names.put (sig, name);
+      builder.append ("(declare-fun ");
+      builder.append (name);
+      builder.append (" (");
+      bv = true;
+      for (SMTType type : sig.getOperandTypes()) {
+        builder.append (" ");
+        builder.append (type == BoolType.boolType ? "Bool" :
+                        type.toString (smtlib1));
+        bv &= type instanceof BVType && ((BVType) type).getWidth() <= maxBW;
+      }
+      builder.append (") ");
+      builder.append (sig.getResultType() == BoolType.boolType ? "Bool" :
+                      sig.getResultType().toString (smtlib1));
+      builder.append (")\n");
+      /* the layers only handle up to maxBW bits */
+      if (sig.getResultType() instanceof BVType &&
+          ((BVType) sig.getResultType()).getWidth() > maxBW)
+        continue;
+      if (sig.getOperandTypes().isEmpty()) {
+        if (sig.getResultType() instanceof BVType)
+          nodes.add (new SMTNode (sig.getResultType(), name));
+      } else if (bv && sig.getResultType() instanceof BVType) {
+        funcs.add (new UFunc (name, sig));
+      } else if (bv && sig.getResultType() == BoolType.boolType) {
+        preds.add (new UPred (name, sig));
+      }
+    }
+    output.print (builder.toString());
+    endPhase ("generateCorpusVars", started);
+    return symbols.size();
+  }
+
+  /* binds the imported 'terms' with the symbols renamed to 'names' and
+   * adds bit-vectors to 'nodes' and formulas to 'boolNodes' */
+  private static int generateCorpusLayer (List<Integer> terms,
+                                          Map<Signature, String> names,
+                                          List<SMTNode> nodes,
+                                          List<SMTNode> boolNodes){
+    long started = startPhase();
+    String name;
+    SMTType type;
+    StringBuilder builder;
+
+    assert (corpus != null);
+    assert (terms != null);
+    assert (names != null);
+    builder = new StringBuilder();
+    for (int term : terms) {
+      type = corpus.getSort (term);
+      name = letName();
+      builder.append (letStart());
+      builder.append (name);
+      builder.append (" ");
+      builder.append (corpus.getText (term, names));
+      builder.append (letClose());
+      if (type instanceof BVType)
+        nodes.add (new SMTNode (type, name));
+      else
+        boolNodes.add (new SMTNode (type, name));
+    }
+    output.print (builder.toString());
+    endPhase ("generateCorpusLayer", started);
+    return terms.size();
+  }
+
 /*----------------------------------------------------------------------------*/
 /* Main layer                                                                 */
 /*----------------------------------------------------------------------------*/
@@ -1012,6 +1200,7 @@ public class FuzzSMT {
                                       HashMap<SMTNode, SMTNodeKind> guards,
                                       boolean noBlowup, List<UFunc> uFuncs,
                                       List<UPred> uPreds){
+    long started = startPhase();
     int oldSize, upper, lower, maxRep, rep, ext, rotate, pos, tmp;
     int sizeOpTypes, n1BW, n2BW, n3BW, resBW = 0;
     int sizeUFuncs, sizeUPreds;
@@ -1104,7 +1293,7 @@ public class FuzzSMT {
       n1BW = ((BVType) n1.getType()).width;
       switch (kind.arity) {
         case 1:
-          builder.append (kind.getString(smtlib1));
+          builder.append (opName (kind));
           switch (kind) {
             case BVNOT:
             case BVNEG:
@@ -1221,14 +1410,14 @@ public class FuzzSMT {
             case EQ:
               /* encode boolean results into bit-vector */
               builder.append ("ite (");
-              builder.append (kind.getString(smtlib1));
+              builder.append (opName (kind));
               builder.append (" ");
               builder.append (wrapEqualBW (r, n1, n2));
            	  builder.append (")"+oneBit() +" " +zeroBit());
               resBW = 1;
               break;
             case CONCAT:
-              builder.append (kind.getString(smtlib1));
+              builder.append (opName (kind));
               builder.append (" ");
               builder.append (n1.getName());
               builder.append (" ");
@@ -1263,7 +1452,7 @@ public class FuzzSMT {
                 /* fall through by intention */
               }
             default:
-              builder.append (kind.getString(smtlib1));
+              builder.append (opName (kind));
               builder.append (" ");
               builder.append (wrapEqualBW (r, n1, n2));
               if (kind == SMTNodeKind.BVCOMP) {
@@ -1288,7 +1477,7 @@ public class FuzzSMT {
           assert (n3.getType() instanceof BVType);
           n3BW = ((BVType) n3.getType()).width;
           pos = r.nextInt(n1BW);
-          builder.append (kind.getString(smtlib1));
+          builder.append (opName (kind));
           /* ite condition: is bit at random bit position set to 1? */
           if (smtlib1)
           {
@@ -1392,7 +1581,7 @@ public class FuzzSMT {
               assert (n2.getType() instanceof BVType);
               n2BW = ((BVType) n2.getType()).width;
               builder.append ("ite (");
-              builder.append (kind.getString(smtlib1));
+              builder.append (opName (kind));
               builder.append (" ");
               builder.append (wrapEqualBW (r, n1, n2));
               builder.append (")"+oneBit() +" " +zeroBit());
@@ -1407,16 +1596,18 @@ public class FuzzSMT {
       builder.append (")");
       builder.append (letClose());
       assert (resBW <= maxBW);
-      nodes.add (new SMTNode (new BVType (resBW), name));
+      nodes.add (new SMTNode (BVType.get (resBW), name));
 
     }
     output.print (builder.toString());
     assert (nodes.size() - oldSize > 0);
+    endPhase ("generateBVLayer", started);
     return nodes.size() - oldSize;
   }
 
   private static int generateBVWriteLayer (Random r, List<SMTNode> arrays, 
                                            List<SMTNode> bvs, int numWrites){
+    long started = startPhase();
 
     int aIndexWidth, aValWidth, indexWidth, valWidth;
     SMTNode array, index, val;
@@ -1439,7 +1630,9 @@ public class FuzzSMT {
       aValWidth = ((BVArrayType) array.getType()).valWidth;
       builder.append (letStart());
       builder.append (name);
-      builder.append (" (store ");
+      builder.append (" (");
+      builder.append (opName (SMTNodeKind.STORE));
+      builder.append (" ");
       builder.append (array.getName());
       builder.append (" ");
 
@@ -1455,14 +1648,16 @@ public class FuzzSMT {
       builder.append (adaptBW (r, val, aValWidth));
       builder.append (")");
       builder.append (letClose());
-      arrays.add (new SMTNode (new BVArrayType (aIndexWidth, aValWidth), name));
+      arrays.add (new SMTNode (BVArrayType.get (aIndexWidth, aValWidth), name));
     }
     output.print (builder.toString());
+    endPhase ("generateBVWriteLayer", started);
     return numWrites;
   }
 
   private static int generateBVReadLayer (Random r, List<SMTNode> arrays, 
                                           List<SMTNode> bvs, int numReads){
+    long started = startPhase();
 
     int aIndexWidth, aValWidth, indexWidth, sizeArrays;
     SMTNode array, index;
@@ -1486,7 +1681,9 @@ public class FuzzSMT {
       aValWidth = ((BVArrayType) array.getType()).valWidth;
       builder.append (letStart());
       builder.append (name);
-      builder.append (" (select ");
+      builder.append (" (");
+      builder.append (opName (SMTNodeKind.SELECT));
+      builder.append (" ");
       builder.append (array.getName());
       builder.append (" ");
 
@@ -1497,14 +1694,16 @@ public class FuzzSMT {
       builder.append (adaptBW (r, index, aIndexWidth));
       builder.append (")");
       builder.append (letClose());
-      bvs.add (new SMTNode (new BVType (aValWidth), name));
+      bvs.add (new SMTNode (BVType.get (aValWidth), name));
     }
     output.print (builder.toString());
+    endPhase ("generateBVReadLayer", started);
     return numReads;
   }
 
   private static int generateBVArrayExtBVLayer (Random r, List<SMTNode> arrays, 
                                                 List<SMTNode> bvs, int numExt) {
+    long started = startPhase();
 
     SMTNode a1, a2;
     int oldSize, sizeArrays;
@@ -1534,12 +1733,13 @@ public class FuzzSMT {
       builder.append (a1.getName());
       builder.append (" ");
       builder.append (a2.getName());
-      builder.append (")"+oneBit() +" " +zeroBit());
+      builder.append (")"+oneBit() +" " +zeroBit() + ")");
       builder.append (letClose());
-      bvs.add (new SMTNode (new BVType (1), name));
+      bvs.add (new SMTNode (BVType.get (1), name));
     }
     output.print (builder.toString());
     assert (bvs.size() - oldSize >= 0);
+    endPhase ("generateBVArrayExtBVLayer", started);
     return bvs.size() - oldSize;
   }
 
@@ -1548,6 +1748,7 @@ public class FuzzSMT {
                                          List<SMTNode> elements, 
                                          SMTType resultType,
                                          int numWrites) {
+    long started = startPhase();
 
     int oldSize, sizeIndices, sizeElements; 
     SMTNode array, index, element;
@@ -1573,7 +1774,9 @@ public class FuzzSMT {
       assert (array.getType() instanceof ArrayType);
       builder.append (letStart());
       builder.append (name);
-      builder.append (" (store ");
+      builder.append (" (");
+      builder.append (opName (SMTNodeKind.STORE));
+      builder.append (" ");
       builder.append (array.getName());
       builder.append (" ");
       index = indices.get(r.nextInt(sizeIndices));
@@ -1586,6 +1789,7 @@ public class FuzzSMT {
       arrays.add (new SMTNode (resultType, name));
     }
     output.print (builder.toString());
+    endPhase ("generateWriteLayer", started);
     return numWrites;
   }
 
@@ -1594,6 +1798,7 @@ public class FuzzSMT {
                                         List<SMTNode> elements,
                                         SMTType resultType,
                                         int numReads){
+    long started = startPhase();
 
     int sizeArrays, sizeIndices;
     SMTNode array, index;
@@ -1618,7 +1823,9 @@ public class FuzzSMT {
       assert (array.getType() instanceof ArrayType);
       builder.append (letStart());
       builder.append (name);
-      builder.append (" (select ");
+      builder.append (" (");
+      builder.append (opName (SMTNodeKind.SELECT));
+      builder.append (" ");
       builder.append (array.getName());
       builder.append (" ");
       index = indices.get(r.nextInt(sizeIndices));
@@ -1628,6 +1835,7 @@ public class FuzzSMT {
       elements.add (new SMTNode (resultType, name));
     }
     output.print (builder.toString());
+    endPhase ("generateReadLayer", started);
     return numReads;
   }
 
@@ -1636,6 +1844,7 @@ public class FuzzSMT {
                                        List<UFunc> uFuncs, List<UPred> uPreds,
                                        boolean linear, int minRefs, 
                                        boolean noBlowup){ 
+    long started = startPhase();
     HashMap<SMTNode, Integer> todoIntNodes; 
     HashMap<SMTNode, Integer> todoIntConsts; 
     HashMap<UFunc, Integer> todoUFuncs; 
@@ -1709,7 +1918,7 @@ public class FuzzSMT {
       switch (kind) {
         case PLUS:
         case BINMINUS:
-          builder.append (kind.getString(smtlib1));
+          builder.append (opName (kind));
           builder.append (" ");
           n2 = intNodes.get(r.nextInt(intNodes.size()));
           assert (n2.getType() == IntType.intType);
@@ -1720,7 +1929,7 @@ public class FuzzSMT {
           updateNodeRefs (todoIntNodes, n2, minRefs);
           break;
         case MUL:
-          builder.append (kind.getString(smtlib1));
+          builder.append (opName (kind));
           builder.append (" ");
           if (linear || r.nextBoolean()) {
             n2 = intConsts.get(r.nextInt(sizeIntConsts));
@@ -1761,7 +1970,7 @@ public class FuzzSMT {
           updateNodeRefs (todoIntNodes, n1, minRefs);
           break;
         case UNMINUS:
-          builder.append (kind.getString(smtlib1));
+          builder.append (opName (kind));
           builder.append (" ");
           builder.append (n1.getName());
           updateNodeRefs (todoIntNodes, n1, minRefs);
@@ -1830,6 +2039,7 @@ public class FuzzSMT {
     }
     output.print (builder.toString());
     assert (intNodes.size() - oldSize > 0);
+    endPhase ("generateIntLayer", started);
     return intNodes.size() - oldSize;
   }
 
@@ -1840,6 +2050,7 @@ public class FuzzSMT {
                                         boolean linear, 
                                         boolean printConstsAsReal,
                                         int minRefs, boolean noBlowup){ 
+    long started = startPhase();
     HashMap<SMTNode, Integer> todoRealNodes; 
     HashMap<SMTNode, Integer> todoIntConsts; 
     HashMap<UFunc, Integer> todoUFuncs; 
@@ -1916,7 +2127,7 @@ public class FuzzSMT {
       switch (kind) {
         case PLUS:
         case BINMINUS:
-          builder.append (kind.getString(smtlib1));
+          builder.append (opName (kind));
           builder.append (" ");
           n2 = realNodes.get(r.nextInt(realNodes.size()));
           assert (n2.getType() == RealType.realType);
@@ -1927,7 +2138,7 @@ public class FuzzSMT {
           updateNodeRefs (todoRealNodes, n2, minRefs);
           break;
         case MUL:
-          builder.append (kind.getString(smtlib1));
+          builder.append (opName (kind));
           builder.append (" ");
           if (linear || r.nextBoolean()) {
             n2 = intConstsAsReal.get(r.nextInt(sizeIntConsts));
@@ -1968,13 +2179,13 @@ public class FuzzSMT {
           updateNodeRefs (todoRealNodes, n1, minRefs);
           break;
         case UNMINUS:
-          builder.append (kind.getString(smtlib1));
+          builder.append (opName (kind));
           builder.append (" ");
           builder.append (n1.getName());
           updateNodeRefs (todoRealNodes, n1, minRefs);
           break;
         case DIV:
-          builder.append (kind.getString(smtlib1));
+          builder.append (opName (kind));
           builder.append (" ");
           if (noBlowup && r.nextBoolean() && !todoIntConsts.isEmpty()){
             todoArray = todoIntConsts.keySet().toArray (new SMTNode[0]);
@@ -2065,12 +2276,14 @@ public class FuzzSMT {
     }
     output.print (builder.toString());
     assert (realNodes.size() - oldSize > 0);
+    endPhase ("generateRealLayer", started);
     return realNodes.size() - oldSize;
   }
 
   private static int generateUTermLayer (Random r, List<SMTType> sorts, 
                                          List<SMTNode> nodes, 
                                          List<UFunc> funcs, int minRefs) {
+    long started = startPhase();
 
     int oldSize, sizeFuncs, sizeSorts, sizeOperandTypes;
     String name;
@@ -2191,11 +2404,13 @@ public class FuzzSMT {
     }
     output.print (builder.toString());
     assert (nodes.size() - oldSize > 0);
+    endPhase ("generateUTermLayer", started);
     return nodes.size() - oldSize;
   }
 
   private static int generateITELayer (Random r, List<SMTNode> nodes,
                                        List<SMTNode> boolNodes, int minRefs){
+    long started = startPhase();
     int generated = 0;
     int sizeBoolNodes;
     HashMap<SMTNode, Integer> todoNodes;
@@ -2265,6 +2480,7 @@ public class FuzzSMT {
     }
     output.print (builder.toString());
     assert (generated > 0);
+    endPhase ("generateITELayer", started);
     return generated;
   }
 
@@ -2277,6 +2493,7 @@ public class FuzzSMT {
                                                List<SMTNode> boolNodes,
                                                int minRefs, 
                                                List<UPred> uPreds) {
+    long started = startPhase();
     SMTNodeKind kind;
     EnumSet<SMTNodeKind> kindSet;
     SMTNodeKind [] kinds;
@@ -2357,7 +2574,7 @@ public class FuzzSMT {
         assert (n1.getType() instanceof BVType);
         n2 = bvNodes.get(r.nextInt(sizeBVNodes));
         assert (n2.getType() instanceof BVType);
-        builder.append (kind.getString(smtlib1));
+        builder.append (opName (kind));
         builder.append (" ");
         builder.append (wrapEqualBW (r, n1, n2));
         updateNodeRefs (todoNodes, n1, minRefs);
@@ -2369,12 +2586,14 @@ public class FuzzSMT {
     }
     output.print (builder.toString());
     assert (boolNodes.size() - oldSize > 0);
+    endPhase ("generateBVPredicateLayer", started);
     return boolNodes.size() - oldSize;
   }
 
   private static int generateIDLLayer (Random r, List<SMTNode> intVars,
                                        List<SMTNode> intConsts,
                                        List<SMTNode> boolNodes, int minRefs){
+    long started = startPhase();
 
     int oldSize, sizeIntConsts, sizeIntVars;
     EnumSet<SMTNodeKind> kindSet;
@@ -2412,7 +2631,7 @@ public class FuzzSMT {
       builder.append (fletStart());
       builder.append (name);
       builder.append (" (");
-      builder.append (kind.getString(smtlib1));
+      builder.append (opName (kind));
       builder.append (" ");
       v1 = intVars.get(r.nextInt(sizeIntVars));
       v2 = intVars.get(r.nextInt(sizeIntVars));
@@ -2447,6 +2666,7 @@ public class FuzzSMT {
     }
     output.print (builder.toString());
     assert (boolNodes.size() - oldSize > 0);
+    endPhase ("generateIDLLayer", started);
     return boolNodes.size() - oldSize;
   }
 
@@ -2455,6 +2675,7 @@ public class FuzzSMT {
                                        Set<SMTNode> zeroConsts,
                                        List<SMTNode> boolNodes, int minRefs, 
                                        int maxBW){
+    long started = startPhase();
 
     int oldSize, sizeRealVars, sizeIntConsts;
     EnumSet<SMTNodeKind> kindSet;
@@ -2496,7 +2717,7 @@ public class FuzzSMT {
       builder.append (fletStart());
       builder.append (name);
       builder.append (" (");
-      builder.append (kind.getString(smtlib1));
+      builder.append (opName (kind));
       builder.append (" ");
       v1 = realVars.get(r.nextInt(sizeRealVars));
       v2 = realVars.get(r.nextInt(sizeRealVars));
@@ -2579,6 +2800,7 @@ public class FuzzSMT {
     }
     output.print (builder.toString());
     assert (boolNodes.size() - oldSize > 0);
+    endPhase ("generateRDLLayer", started);
     return boolNodes.size() - oldSize;
   }
 
@@ -2587,6 +2809,7 @@ public class FuzzSMT {
                                               List<UPred> uPreds,
                                               int minRefs, RelCompMode compMode,
                                               boolean noBlowup) {
+    long started = startPhase();
 
     int oldSize, sizeNodes, sizeOpTypes, sizeUPreds = 0;
     EnumSet<SMTNodeKind> kindSet = null;
@@ -2676,7 +2899,7 @@ public class FuzzSMT {
           updateNodeRefs (todoNodes, n2, minRefs);
         }
       } else {
-        builder.append (kind.getString(smtlib1));
+        builder.append (opName (kind));
         builder.append (" ");
         n2 = nodes.get(r.nextInt(sizeNodes));
         assert (n1.getType() == n2.getType());
@@ -2692,12 +2915,14 @@ public class FuzzSMT {
     }
     output.print (builder.toString());
     assert (boolNodes.size() - oldSize > 0);
+    endPhase ("generateComparisonLayer", started);
     return boolNodes.size() - oldSize;
   }
 
   private static int generateUPredLayer (Random r, List<SMTNode> nodes, 
                                          List<SMTNode> boolNodes, 
                                          List<UPred> preds, int minRefs) {
+    long started = startPhase();
 
     int oldSize, sizePreds, sizeOperandTypes;
     String name;
@@ -2756,9 +2981,9 @@ public class FuzzSMT {
         }
       } else {
         if (r.nextBoolean())
-          builder.append (SMTNodeKind.EQ.getString(smtlib1));
+          builder.append (opName (SMTNodeKind.EQ));
         else
-          builder.append (SMTNodeKind.DISTINCT.getString(smtlib1));
+          builder.append (opName (SMTNodeKind.DISTINCT));
         builder.append (" ");
         /* select at least one of the todo nodes,
          * to prevent blowup because of type incompatibility */
@@ -2780,6 +3005,7 @@ public class FuzzSMT {
     }
     output.print (builder.toString());
     assert (boolNodes.size() - oldSize > 0);
+    endPhase ("generateUPredLayer", started);
     return boolNodes.size() - oldSize;
   }
 
@@ -2788,6 +3014,7 @@ public class FuzzSMT {
 /*----------------------------------------------------------------------------*/
 
   private static int generateBooleanLayer (Random r, List<SMTNode> nodes){
+    long started = startPhase();
     int generated = 0;
     SMTNode n1, n2, n3;
     SMTNodeKind [] kinds;
@@ -2823,7 +3050,7 @@ public class FuzzSMT {
         kind = kindsNoIfThenElse[r.nextInt(kindsNoIfThenElse.length)];
       switch (kind) {
         case NOT:
-          builder.append (SMTNodeKind.NOT.getString(smtlib1));
+          builder.append (opName (SMTNodeKind.NOT));
           builder.append (" ");
           builder.append (n1.getName());
           break;
@@ -2833,7 +3060,7 @@ public class FuzzSMT {
           assert (n2.getType() == BoolType.boolType);
           n3 = nodes.get(r.nextInt(nodes.size()));
           assert (n3.getType() == BoolType.boolType);
-          builder.append (SMTNodeKind.IF_THEN_ELSE.getString(smtlib1));
+          builder.append (opName (SMTNodeKind.IF_THEN_ELSE));
           builder.append (" ");
           builder.append (n1.getName());
           builder.append (" ");
@@ -2845,7 +3072,7 @@ public class FuzzSMT {
         /* binary operators */
         n2 = nodes.get(r.nextInt(nodes.size()));
         assert (n2.getType() == BoolType.boolType);
-        builder.append (kind.getString(smtlib1));
+        builder.append (opName (kind));
         builder.append (" ");
         builder.append (n1.getName());
         builder.append (" ");
@@ -2864,10 +3091,12 @@ public class FuzzSMT {
     }
     output.print (builder.toString());
 
+    endPhase ("generateBooleanLayer", started);
     return generated;
   }
 
   protected static int generateBooleanTopOp (List<SMTNode> nodes, String op){
+    long started = startPhase();
 
     SMTNode cur;
     String name;
@@ -2877,8 +3106,10 @@ public class FuzzSMT {
     assert (!nodes.isEmpty());
     assert (op != null);
 
-    if (nodes.size() == 1)
+    if (nodes.size() == 1) {
+      endPhase ("generateBooleanTopOp", started);
       return 0;
+    }
 
     name = fletName();
     builder = new StringBuilder(); 
@@ -2900,6 +3131,7 @@ public class FuzzSMT {
     builder.append (")");
     builder.append (letClose());
     output.print (builder.toString());
+    endPhase ("generateBooleanTopOp", started);
     return 1;
   }
 
@@ -2907,19 +3139,20 @@ public class FuzzSMT {
 
     assert (nodes != null);
     assert (!nodes.isEmpty());
-    return generateBooleanTopOp (nodes, SMTNodeKind.AND.getString(smtlib1));
+    return generateBooleanTopOp (nodes, opName (SMTNodeKind.AND));
   }
 
   private static int generateBooleanTopOr (List<SMTNode> nodes){
 
     assert (nodes != null);
     assert (!nodes.isEmpty());
-    return generateBooleanTopOp (nodes, SMTNodeKind.OR.getString(smtlib1));
+    return generateBooleanTopOp (nodes, opName (SMTNodeKind.OR));
   }
 
 
   private static int generateBooleanCNF (Random r, List<SMTNode> nodes, 
                                          double factor){
+    long started = startPhase();
     SMTNode cur;
     String name;
     int numClauses;
@@ -2930,8 +3163,10 @@ public class FuzzSMT {
     assert (!nodes.isEmpty());
     assert (factor >= 0.0);
 
-    if (nodes.size() == 1)
+    if (nodes.size() == 1) {
+      endPhase ("generateBooleanCNF", started);
       return 0;
+    }
 
     numClauses = (int) (nodes.size() * factor);
     if (numClauses <= 1)
@@ -2962,11 +3197,13 @@ public class FuzzSMT {
     nodes.clear();
     nodes.add (new SMTNode (BoolType.boolType, name));
     output.print (builder.toString());
+    endPhase ("generateBooleanCNF", started);
     return 1;
   }
 
   private static int addBVDivGuards (List<SMTNode> root, 
                                      HashMap<SMTNode, SMTNodeKind> guardsMap){
+    long started = startPhase();
     int generated = 0;
     int bw;
     String name;
@@ -3047,11 +3284,13 @@ public class FuzzSMT {
     root.clear();
     root.add(cur);
 
+    endPhase ("addBVDivGuards", started);
     return generated;
   }
 
   static int addArrayExt (Random r, List<SMTNode> arrays, 
                           List<SMTNode> boolNodes, int numExt){
+    long started = startPhase();
     int oldSize, sizeArrays;
     SMTNode a1, a2;
     String name;
@@ -3087,9 +3326,39 @@ public class FuzzSMT {
     output.print (builder.toString());
 
     assert (boolNodes.size() - oldSize >= 0);
+    endPhase ("addArrayExt", started);
     return boolNodes.size() - oldSize;
   }
 
+  /* removes the elements at the distinct positions 'pos' of the first
+   * 'size' elements of 'array' by moving the last elements into their
+   * places and returns the new size. There are at most three positions,
+   * which are sorted by insertion rather than by Arrays.sort, as loading
+   * its implementation would shift the identity hash codes -legacy-rng
+   * depends on */
+  private static int removePositions (int []array, int size, int []pos,
+                                      int numPos){
+    int p, j;
+
+    for (int i = 1; i < numPos; i++) {
+      p = pos[i];
+      for (j = i; j > 0 && pos[j - 1] > p; j--)
+        pos[j] = pos[j - 1];
+      pos[j] = p;
+    }
+    for (int i = numPos - 1; i >= 0; i--) {
+      if (i < numPos - 1 && pos[i] == pos[i + 1])
+        continue;
+      size--;
+      array[pos[i]] = array[size];
+    }
+    return size;
+  }
+
+  /* quantified variables and boolean subterms are numbered, and a
+   * formula's variables and open subterms are kept in int arrays, so
+   * random selection and removal take constant time and the generation
+   * time is linear in the number of formulas */
   private static void generateQFormulasUF (Random r, SMTType type, 
                                            List<UFunc> uFuncs, 
                                            List<UPred> uPreds, 
@@ -3097,6 +3366,7 @@ public class FuzzSMT {
                                            int maxQVars, int minQNestings, 
                                            int maxQNestings, boolean onlyEqComp,
                                            int minRefs) {
+    long started = startPhase();
 
     int qVarCounter = 0;
     int nodeCounter = 0;
@@ -3107,15 +3377,19 @@ public class FuzzSMT {
     SMTNodeKind []kindsComp;
     SMTNodeKind []kindsBoolNoIfThenElse;
     SMTNodeKind kind;
-    String name, s1, s2, s3;
-    String []qVarNamesArray;
-    String []boolNamesArray;
-    HashMap<String, Integer> todoQVarNames; 
+    String typeName;
+    int firstQVar, numFormulaQVars, numTodo, numBools, qVar, numPos;
+    int []todoPos; /* position of each variable of the formula in 'todo' */
+    int []todo; /* variables which have not been referenced yet */
+    int []bools; /* subterms which are not operands of other subterms */
+    int []pos;
+    int []qVarOrder = null;
+    HashMap<String, Integer> qVarNames = null;
+    HashSet<String> boolNames = null;
     UFunc uFunc;
     UPred uPred;
     UFunc [] uFuncsArray = null;
     UPred [] uPredsArray = null;
-    HashSet<String> boolNames;
     StringBuilder builder;
     Signature sig;
     List<SMTType> operandTypes;
@@ -3133,8 +3407,17 @@ public class FuzzSMT {
     assert (maxQVars >= minQVars);
     assert (minRefs > 0);
 
-    todoQVarNames = new HashMap<String, Integer>();
-    boolNames = new HashSet<String>();
+    todoPos = new int[16];
+    todo = new int[16];
+    bools = new int[16];
+    pos = new int[3];
+    typeName = type.toString(smtlib1);
+    if (legacyRng) {
+      /* earlier versions selected operands by the iteration order of
+       * these hash tables, which is kept for old seeds */
+      qVarNames = new HashMap<String, Integer>();
+      boolNames = new HashSet<String>();
+    }
 
     if (onlyEqComp)
       kindSetComp = EnumSet.range (SMTNodeKind.EQ, SMTNodeKind.DISTINCT);
@@ -3155,14 +3438,15 @@ public class FuzzSMT {
 
     builder = new StringBuilder();
     for (int i = 0; i < numQFormulas; i++) {
-      assert (todoQVarNames.isEmpty());
-      assert (boolNames.isEmpty());
       numQNestings = selectRandValRange (r, minQNestings, maxQNestings); 
+      if (features != null)
+        features.addQuantifiers (numQNestings + 1);
       if (smtlib1)
     	  builder.append (":assumption\n");
       else
     	  builder.append ("(assert\n");
       pars = 0;
+      firstQVar = qVarCounter;
       for (int j = 0; j <= numQNestings; j++) {
         pars++;
         numQVars = selectRandValRange (r, minQVars, maxQVars); 
@@ -3175,12 +3459,12 @@ public class FuzzSMT {
         	builder.append ("(");
         
         for (int k = 0; k < numQVars; k++) {
-          name = "?qvar" + qVarCounter++;
-          todoQVarNames.put (name, new Integer (minRefs));
-          builder.append ("(");
-          builder.append (name);
+          if (qVarNames != null)
+            qVarNames.put ("?qvar" + qVarCounter, minRefs);
+          builder.append ("(?qvar");
+          builder.append (qVarCounter++);
           builder.append (" ");
-          builder.append (type.toString(smtlib1));
+          builder.append (typeName);
           builder.append ( ") ");
         }
 
@@ -3189,17 +3473,34 @@ public class FuzzSMT {
 
         builder.append ("\n");
       }
-      qVarNamesArray = todoQVarNames.keySet().toArray(new String[0]);
-      while (!todoQVarNames.isEmpty()){
-        name = "$qf" + nodeCounter++;
+      numFormulaQVars = qVarCounter - firstQVar;
+      if (todo.length < numFormulaQVars) {
+        todo = new int[2 * numFormulaQVars];
+        todoPos = new int[2 * numFormulaQVars];
+      }
+      for (int j = 0; j < numFormulaQVars; j++) {
+        todo[j] = j;
+        todoPos[j] = j;
+      }
+      numTodo = numFormulaQVars;
+      numBools = 0;
+      if (qVarNames != null) {
+        qVarOrder = new int[numFormulaQVars];
+        numPos = 0;
+        for (String name : qVarNames.keySet())
+          qVarOrder[numPos++] = Integer.parseInt (name.substring (5)) - firstQVar;
+        qVarNames.clear();
+      }
+      while (numTodo > 0){
         builder.append (fletStart());
-        builder.append (name);
+        builder.append ("$qf");
+        builder.append (nodeCounter);
         builder.append (" (");
         pars++;
         if ((!uFuncs.isEmpty() && r.nextBoolean()) || uPreds.isEmpty()) {
           assert (!uFuncs.isEmpty());
           kind = kindsComp[r.nextInt(kindsComp.length)];
-          builder.append (kind.getString(smtlib1));
+          builder.append (opName (kind));
           for (int j = 0; j < 2; j++) {
             uFunc = uFuncsArray[r.nextInt(uFuncsArray.length)];
             sig = uFunc.getSignature();
@@ -3210,11 +3511,13 @@ public class FuzzSMT {
             builder.append (" (");
             builder.append (uFunc.getName());
             for (int k = 0; k < sizeOpTypes; k++){
-              s1 = qVarNamesArray[r.nextInt(qVarNamesArray.length)];
+              qVar = r.nextInt(numFormulaQVars);
+              if (qVarOrder != null)
+                qVar = qVarOrder[qVar];
               assert (operandTypes.get(k) == type);
-              builder.append (" ");
-              builder.append (s1);
-              updateStringRefs (todoQVarNames, s1, minRefs);
+              builder.append (" ?qvar");
+              builder.append (firstQVar + qVar);
+              numTodo = removeTodo (todo, todoPos, numTodo, qVar);
             }
             builder.append (")");
           }
@@ -3228,74 +3531,81 @@ public class FuzzSMT {
           assert (sizeOpTypes > 0);
           builder.append (uPred.getName());
           for (int j = 0; j < sizeOpTypes; j++){
-            s1 = qVarNamesArray[r.nextInt(qVarNamesArray.length)];
+            qVar = r.nextInt(numFormulaQVars);
+            if (qVarOrder != null)
+              qVar = qVarOrder[qVar];
             assert (operandTypes.get(j) == type);
-            builder.append (" ");
-            builder.append (s1);
-            updateStringRefs (todoQVarNames, s1, minRefs);
+            builder.append (" ?qvar");
+            builder.append (firstQVar + qVar);
+            numTodo = removeTodo (todo, todoPos, numTodo, qVar);
           }
         }
         builder.append (")");
         builder.append (letClose());
         
-        boolNames.add (name);
+        if (numBools == bools.length)
+          bools = Arrays.copyOf (bools, 2 * bools.length);
+        if (boolNames != null)
+          boolNames.add ("$qf" + nodeCounter);
+        bools[numBools++] = nodeCounter++;
       }
-      assert (boolNames.size() > 0);
-      while (boolNames.size() > 1) {
-        boolNamesArray = boolNames.toArray(new String[0]);
-        name = "$qf" + nodeCounter++;
+      assert (numBools > 0);
+      while (numBools > 1) {
+        if (boolNames != null) {
+          numBools = 0;
+          for (String name : boolNames)
+            bools[numBools++] = Integer.parseInt (name.substring (3));
+        }
         builder.append (fletStart());
-        builder.append (name);
+        builder.append ("$qf");
+        builder.append (nodeCounter);
         builder.append (" (");
-        s1 = boolNamesArray[r.nextInt(boolNamesArray.length)];
-        s2 = s3 = null;
-        if (boolNames.size() >= 3)
+        pos[0] = r.nextInt(numBools);
+        numPos = 1;
+        if (numBools >= 3)
           kind = kindsBool[r.nextInt(kindsBool.length)];
         else
           kind = kindsBoolNoIfThenElse[r.nextInt(kindsBoolNoIfThenElse.length)];
         switch (kind) {
           case NOT:
-            builder.append (SMTNodeKind.NOT.getString(smtlib1));
-            builder.append (" ");
-            builder.append (s1);
+            builder.append (opName (SMTNodeKind.NOT));
             break;
           case IF_THEN_ELSE:
-            assert (boolNames.size() >= 3);
-            s2 = boolNamesArray[r.nextInt(boolNamesArray.length)];
-            s3 = boolNamesArray[r.nextInt(boolNamesArray.length)];
-            builder.append (SMTNodeKind.IF_THEN_ELSE.getString(smtlib1));
-            builder.append (" ");
-            builder.append (s1);
-            builder.append (" ");
-            builder.append (s2);
-            builder.append (" ");
-            builder.append (s3);
+            assert (numBools >= 3);
+            pos[1] = r.nextInt(numBools);
+            pos[2] = r.nextInt(numBools);
+            numPos = 3;
+            builder.append (opName (SMTNodeKind.IF_THEN_ELSE));
             break;
         default:
           /* binary operators */
-          s2 = boolNamesArray[r.nextInt(boolNamesArray.length)];
-          builder.append (kind.getString(smtlib1));
-          builder.append (" ");
-          builder.append (s1);
-          builder.append (" ");
-          builder.append (s2);
+          pos[1] = r.nextInt(numBools);
+          numPos = 2;
+          builder.append (opName (kind));
           break;
         }
+        for (int j = 0; j < numPos; j++) {
+          builder.append (" $qf");
+          builder.append (bools[pos[j]]);
+        }
         builder.append (")");
         builder.append (letClose());
 
-        boolNames.add (name);
-        boolNames.remove (s1);
-        if (s2 != null)
-          boolNames.remove (s2);
-        if (s3 != null)
-          boolNames.remove (s3);
+        if (boolNames != null) {
+          boolNames.add ("$qf" + nodeCounter);
+          for (int j = 0; j < numPos; j++)
+            boolNames.remove ("$qf".concat (Integer.toString (bools[pos[j]])));
+        }
+        numBools = removePositions (bools, numBools, pos, numPos);
+        bools[numBools++] = nodeCounter++;
         pars++;
       }
-      assert (boolNames.size() == 1);
-      builder.append (boolNames.toArray(new String[0])[0]);
+      assert (numBools == 1);
+      builder.append ("$qf");
+      builder.append (bools[0]);
       builder.append ("\n");
-      boolNames.clear();
+      if (boolNames != null)
+        boolNames.clear();
       for (int j = 0; j < pars; j++)
         builder.append (")");
       if (!smtlib1)
@@ -3303,6 +3613,26 @@ public class FuzzSMT {
       builder.append ("\n");
     }
     output.print (builder.toString());
+    endPhase ("generateQFormulasUF", started);
+  }
+
+  /* removes variable 'qVar' from the first 'numTodo' elements of 'todo'
+   * if it is still there and returns the new number of elements. As
+   * before, a quantified variable is done once it has been referenced */
+  private static int removeTodo (int []todo, int []todoPos, int numTodo,
+                                 int qVar){
+    int p, last;
+
+    p = todoPos[qVar];
+    if (p >= numTodo || todo[p] != qVar)
+      return numTodo;
+    numTodo--;
+    last = todo[numTodo];
+    todo[p] = last;
+    todoPos[last] = p;
+    todo[numTodo] = qVar;
+    todoPos[qVar] = numTodo;
+    return numTodo;
   }
 
 
@@ -3331,6 +3661,86 @@ public class FuzzSMT {
       printErrAndExit ("minimum number of " + str + " must be <= maximum");
   }
 
+  /* which options of generate can be combined. A row "requires" one of
+   * the options it lists, or "excludes" all of them. Besides the options
+   * given, checkOptions sees the logic, "-bulk-export" if -family implies
+   * it, "quantified logics" and "campaigns" */
+  private static final String [][]optionRules = {
+    {"-check-model", "requires", "-solver"},
+    {"-check-model", "excludes", "-smtlib1"},
+    {"-interactive", "requires", "-solver"},
+    {"-interactive", "excludes", "-smtlib1"},
+    {"-triage", "requires", "-solver"},
+    {"-triage", "requires", "-bulk-export"},
+    {"-perf", "requires", "-bulk-export"},
+    {"-perf", "excludes", "-interactive", "-heavy-cost", "-check-model",
+                          "-triage", "-cache", "-twin"},
+    {"-heavy-cost", "requires", "-solver"},
+    {"-heavy-cost", "excludes", "-interactive", "campaigns"},
+    {"-heavy-timeout", "requires", "-heavy-cost"},
+    {"-corpus", "requires", "QF_BV", "QF_UFBV", "QF_ABV", "QF_AUFBV"},
+    {"-corpus", "excludes", "-smtlib1", "-plant", "-equiv", "-family"},
+    {"-family", "excludes", "-plant", "-equiv"},
+    {"-exec", "requires", "-bulk-export"},
+    /* instances are only complete in the file once it is closed */
+    {"-exec", "excludes", "-arena"},
+    {"-arena", "requires", "-bulk-export"},
+    {"-arena", "excludes", "campaigns"},
+    {"-cache", "requires", "-solver"},
+    {"-cache-errors", "requires", "-cache"},
+    {"-plant", "excludes", "-equiv", "quantified logics"},
+    {"-equiv", "excludes", "quantified logics"},
+    {"-twin", "requires", "-bulk-export", "-solver"},
+    {"-twin", "excludes", "quantified logics", "-family", "-corpus", "-arena"}
+  };
+
+  /* exits unless the options 'given' obey optionRules */
+  private static void checkOptions (Set<String> given){
+    StringBuilder message;
+    boolean found;
+
+    for (String []rule : optionRules) {
+      if (!given.contains (rule[0]))
+        continue;
+      if (rule[1].equals ("requires")) {
+        found = false;
+        for (int i = 2; i < rule.length; i++)
+          found |= given.contains (rule[i]);
+        if (!found) {
+          message = new StringBuilder (rule[0] + " requires " + rule[2]);
+          for (int i = 3; i < rule.length; i++)
+            message.append (i == rule.length - 1 ? " or " : ", ").append (rule[i]);
+          printErrAndExit (message.toString());
+        }
+      } else {
+        assert (rule[1].equals ("excludes"));
+        for (int i = 2; i < rule.length; i++)
+          if (given.contains (rule[i]))
+            printErrAndExit (rule[0] + " can not be combined with " + rule[i]);
+      }
+    }
+  }
+
+  /* a mode which handles every complete instance, such as -twin,
+   * -validate or -solver. Instances are buffered while any hook is set */
+  private interface InstanceHook {
+    /* returns false if the later hooks are to skip 'instance' */
+    boolean handle (BufferedInstance instance);
+  }
+
+  /* a complete instance as passed to the hooks */
+  private static class BufferedInstance {
+    java.io.ByteArrayOutputStream buffer;
+    String text; /* of buffer */
+    String twin; /* set by the hook of -twin */
+    int fileId;
+    String fileName; /* its file, or its slot in the arena */
+    String name; /* in reports, "instance" without -bulk-export */
+    byte []fingerprint; /* with -cache */
+    int nodes;
+    String report; /* set by the hook of -solver */
+  }
+
   private static void printHelpAndExit () {
     output.println (usage);
     System.exit (0);
@@ -3341,6 +3751,51 @@ public class FuzzSMT {
     System.exit (0);
   }
 
+  /* file name of the instance of size 'size' of a family which is
+   * generated for a range of sizes */
+  private static String familyFileName (String prefix, String family, int size){
+    return prefix + "_" + family + "_" + size + fileSuffix();
+  }
+
+  /* file name of the twin of instance 'fileId' written by -twin */
+  private static String twinFileName (String prefix, int fileId){
+    return prefix + "_file_" + fileId + "_twin" + fileSuffix();
+  }
+
+  /* runs the -exec hook 'commandLine' with the instance file 'fileName'
+   * as last argument, its output is printed if it fails */
+  private static void runExecHook (String commandLine, String fileName){
+    String []command;
+    SolverResult result;
+
+    command = commandLine.trim().split ("\\s+");
+    command = Arrays.copyOf (command, command.length + 1);
+    command[command.length - 1] = fileName;
+    result = new Solver (command, 0).solve ("");
+    if (result.getExitCode() != 0)
+      System.err.print ("exec " + fileName + ": " +
+                        Triage.exitStatus (result.getExitCode()) + "\n" +
+                        result.getOutput());
+  }
+
+  /* adds the instance which has just been written, and whose generation
+   * started at 'started', to the metrics and commits its flight recorder
+   * event */
+  private static void recordInstance (InstanceEvent event, SMTLogic logic,
+                                      long seed, int fileId, long nodes,
+                                      CountingOutputStream bytes, long started){
+    if (metrics != null)
+      metrics.instance (logic, bytes.getCount(), System.nanoTime() - started);
+    if (event == null)
+      return;
+    event.logic = logic.toString();
+    event.seed = seed;
+    event.fileId = fileId;
+    event.nodes = nodes;
+    event.bytes = bytes.getCount();
+    event.commit();
+  }
+
   private static int parseIntOption (String []args, int pos, int minVal, 
                                      String errorMsg) {
     int result = 0;
@@ -3391,6 +3846,299 @@ public class FuzzSMT {
   }
   
   
+  /* runs all 'solvers' on 'instance' and returns a one line report.
+   * If the instance fails, i.e. a solver crashes, answers differently
+   * than expected or than another solver, or returns a wrong model,
+   * its normalized failure signature is appended to 'signature'.
+   * Results are looked up in and added to 'cache' unless it is null.
+   * Unless 'twin' is null, every solver also solves 'twin', which is
+   * not cached, and fails if it answers differently on it */
+  private static String runSolvers (List<Solver> solvers, String instance,
+                                    String twin, boolean checkModel,
+                                    SolverResult.Status expected,
+                                    StringBuilder signature,
+                                    ResultCache cache, byte []fingerprint){
+    SolverResult result, twinResult;
+    StringBuilder builder, pattern;
+    String check;
+    byte []key = null;
+    boolean failed = false, sat = false, unsat = false;
+
+    assert (solvers != null);
+    assert (!solvers.isEmpty());
+    assert (instance != null);
+    assert (signature != null);
+    builder = new StringBuilder();
+    pattern = new StringBuilder();
+    for (int i = 0; i < solvers.size(); i++) {
+      result = null;
+      if (cache != null) {
+        key = ResultCache.key (fingerprint, solvers.get(i).getIdentity());
+        result = cache.lookup (key);
+      }
+      if (i > 0) {
+        builder.append (" | ");
+        pattern.append (" | ");
+      }
+      if (result != null) {
+        builder.append (result.getStatus());
+        builder.append (" ");
+        builder.append (result.getTime());
+        builder.append (" ms (cached)");
+      } else {
+        result = solvers.get(i).solve (instance);
+        builder.append (result.getStatus());
+        builder.append (" ");
+        builder.append (result.getTime());
+        builder.append (" ms");
+        if (cache != null && cache.accepts (result)) {
+          try {
+            cache.add (key, result);
+          } catch (java.io.IOException e) {
+            printErrAndExit ("result cache failed: " + e.getMessage());
+          }
+        }
+      }
+      if (metrics != null)
+        metrics.outcome (solvers.get(i), result);
+      pattern.append (result.getStatus());
+      sat |= result.getStatus() == SolverResult.Status.SAT;
+      unsat |= result.getStatus() == SolverResult.Status.UNSAT;
+      if (result.getStatus() == SolverResult.Status.ERROR) {
+        failed = true;
+        pattern.append (" ");
+        pattern.append (Triage.exitStatus (result.getExitCode()));
+        pattern.append (" ");
+        pattern.append (Triage.errorLine (result.getOutput()));
+      }
+      if (expected != null &&
+          (result.getStatus() == SolverResult.Status.SAT ||
+           result.getStatus() == SolverResult.Status.UNSAT) &&
+          result.getStatus() != expected) {
+        builder.append (", WRONG STATUS (expected ");
+        builder.append (expected);
+        builder.append (")");
+        pattern.append (" expected ");
+        pattern.append (expected);
+        failed = true;
+      }
+      if (checkModel && result.getStatus() == SolverResult.Status.SAT) {
+        check = SolverModel.check (instance, result);
+        builder.append (", ");
+        builder.append (check);
+        if (check.startsWith ("WRONG")) {
+          pattern.append (" wrong model");
+          failed = true;
+        }
+      }
+      if (twin != null) {
+        twinResult = solvers.get(i).solve (twin);
+        builder.append (", twin ");
+        builder.append (twinResult.getStatus());
+        builder.append (" ");
+        builder.append (twinResult.getTime());
+        builder.append (" ms");
+        if (twinResult.getStatus() == SolverResult.Status.ERROR &&
+            result.getStatus() != SolverResult.Status.ERROR) {
+          pattern.append (" twin ");
+          pattern.append (Triage.exitStatus (twinResult.getExitCode()));
+          pattern.append (" ");
+          pattern.append (Triage.errorLine (twinResult.getOutput()));
+          failed = true;
+        } else if ((twinResult.getStatus() == SolverResult.Status.SAT ||
+                    twinResult.getStatus() == SolverResult.Status.UNSAT) &&
+                   (result.getStatus() == SolverResult.Status.SAT ||
+                    result.getStatus() == SolverResult.Status.UNSAT) &&
+                   twinResult.getStatus() != result.getStatus()) {
+          builder.append (", TWIN DISAGREEMENT");
+          pattern.append (" twin ");
+          pattern.append (twinResult.getStatus());
+          failed = true;
+        }
+      }
+    }
+    if (sat && unsat) {
+      builder.append (", DISAGREEMENT");
+      failed = true;
+    }
+    if (failed) {
+      signature.append (pattern);
+      if (metrics != null)
+        metrics.failure (sat && unsat);
+    }
+    return builder.toString();
+  }
+
+  /* runs all 'solvers' on 'instance' named 'name' with 'nodes' generated
+   * nodes, and on 'twin' unless it is null, adds it to 'triage' if it
+   * fails and returns the report */
+  private static String checkInstance (List<Solver> solvers, String instance,
+                                       String twin, boolean checkModel,
+                                       SolverResult.Status expected,
+                                       ResultCache cache, byte []fingerprint,
+                                       Triage triage, SMTLogic logic,
+                                       int nodes, String name){
+    StringBuilder signature;
+    String report;
+
+    signature = new StringBuilder();
+    report = runSolvers (solvers, instance, twin, checkModel, expected,
+                         signature, cache, fingerprint);
+    if (triage != null && signature.length() > 0) {
+      try {
+        synchronized (triage) {
+          report += ", bucket " + triage.add (logic + ": " + signature.toString(),
+                                              instance, nodes, name);
+        }
+      } catch (java.io.IOException e) {
+        printErrAndExit ("triage failed: " + e.getMessage());
+      }
+    }
+    return report;
+  }
+
+  /* pool of 'threads' threads queueing up to four tasks per thread. Once
+   * the queue is full, the submitting thread runs the task itself, so a
+   * generator which is faster than the pool waits instead of queueing
+   * an unbounded number of instances */
+  private static java.util.concurrent.ExecutorService newBoundedPool (int threads){
+    return new java.util.concurrent.ThreadPoolExecutor (
+             threads, threads, 0, java.util.concurrent.TimeUnit.SECONDS,
+             new java.util.concurrent.ArrayBlockingQueue<Runnable> (4 * threads),
+             new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  /* checks 'instance' in 'pool' and reports it with 'features' on stderr
+   * once it has been solved */
+  private static void schedule (java.util.concurrent.ExecutorService pool,
+                                final List<Solver> solvers,
+                                final String instance,
+                                final String twin,
+                                final boolean checkModel,
+                                final SolverResult.Status expected,
+                                final ResultCache cache,
+                                final byte []fingerprint,
+                                final Triage triage, final SMTLogic logic,
+                                final int nodes, final String name,
+                                final String features){
+    pool.execute (new Runnable() {
+      public void run(){
+        String report;
+
+        report = checkInstance (solvers, instance, twin, checkModel, expected,
+                                cache, fingerprint, triage, logic, nodes,
+                                new java.io.File (name).getName());
+        System.err.println (name + ": " + report + ", " + features);
+      }
+    });
+  }
+
+  /* checks the sorts of the instance 'text' and reports it as 'name' if
+   * it is ill-sorted, returns true if it is well-sorted */
+  private static boolean checkSorts (byte []text, String name,
+                                     java.util.concurrent.atomic.AtomicLong
+                                     illSorted){
+    String error;
+
+    assert (text != null);
+    error = SortChecker.forThread().check (text, text.length);
+    if (error == null)
+      return true;
+    illSorted.incrementAndGet();
+    System.err.println (name + ": ILL-SORTED " + error);
+    return false;
+  }
+
+  private static void scheduleCheckSorts (java.util.concurrent.ExecutorService
+                                          pool, final byte []text,
+                                          final String name,
+                                          final java.util.concurrent.atomic.AtomicLong
+                                          illSorted){
+    pool.execute (new Runnable() {
+      public void run(){
+        checkSorts (text, name, illSorted);
+      }
+    });
+  }
+
+  /* appends a copy of the let chain of 'text' + 'closing' rewritten into
+   * an equivalent one and asserts that the two roots are distinct */
+  private static int generateEquivalenceLayer (Random r, List<SMTNode> boolNodes,
+                                               String text, String closing){
+    long started = startPhase();
+    int generated = 0;
+    List<Object> script;
+    Object []let, bindings, binding;
+    Object formula, term;
+    String name, root;
+    SMTType type;
+    EquivRewriter rewriter;
+    StringBuilder builder;
+
+    assert (r != null);
+    assert (boolNodes != null);
+    assert (boolNodes.size() == 1);
+    assert (text != null);
+    assert (closing != null);
+    /* the evaluator and the rewriter throw on instances they can not
+     * parse, the caller reports them */
+    try {
+      root = boolNodes.get(0).getName();
+      script = SMTEvaluator.parse (text + root + "\n" + closing);
+      rewriter = new EquivRewriter (r, smtlib1);
+      rewriter.declare (script);
+      formula = EquivRewriter.findFormula (script);
+      builder = new StringBuilder();
+      while (formula instanceof Object[]) {
+        let = (Object []) formula;
+        assert (let.length == 3);
+        bindings = (Object []) let[1];
+        if (smtlib1)
+          bindings = new Object[] {bindings};
+        for (int i = 0; i < bindings.length; i++) {
+          binding = (Object []) bindings[i];
+          term = binding[1];
+          type = rewriter.sortOf (term);
+          rewriter.setSort ((String) binding[0], type);
+          if (let[0].equals ("flet")) {
+            name = fletName();
+            builder.append (fletStart());
+          } else {
+            name = letName();
+            builder.append (letStart());
+          }
+          builder.append (name);
+          builder.append (" ");
+          builder.append (SMTEvaluator.toString (rewriter.rewrite (term)));
+          builder.append (letClose());
+          new SMTNode (type == null ? BoolType.boolType : type, name);
+          rewriter.rename ((String) binding[0], name);
+          generated++;
+        }
+        formula = let[2];
+      }
+      assert (root.equals (formula));
+      name = fletName();
+      builder.append (fletStart());
+      builder.append (name);
+      if (smtlib1)
+        builder.append (" (not (iff ");
+      else
+        builder.append (" (distinct ");
+      builder.append (root);
+      builder.append (" ");
+      builder.append (rewriter.rewrite (root));
+      builder.append (smtlib1 ? "))" : ")");
+      builder.append (letClose());
+      boolNodes.set (0, new SMTNode (BoolType.boolType, name));
+      generated++;
+      output.print (builder.toString());
+    } finally {
+      endPhase ("generateEquivalenceLayer", started);
+    }
+    return generated;
+  }
+
   private static double parseDoubleOption (String []args, int pos, double minVal, 
                                            String errorMsg) {
     double result = 0.0;
@@ -3422,7 +4170,8 @@ public class FuzzSMT {
 "*              written by Robert Daniel Brummayer, 2009                        *\n" + 
 "********************************************************************************\n" +
 "\n" +
-"usage: fuzzsmt <logic> [option...]\n\n" +
+"usage: fuzzsmt <logic> [option...]\n" +
+"       fuzzsmt -logics <logic>[:<weight>],... -bulk-export <num> [option...]\n\n" +
 "  <logic> is one of the following:\n" + 
 "  QF_A, QF_ABV, QF_AUFBV, QF_AUFLIA, QF_AX, QF_BV, QF_IDL, QF_LIA, QF_LRA,\n" + 
 "  QF_NIA, QF_NRA, QF_RDL, QF_UF, QF_UFBV, QF_UFIDL, QF_UFLIA, QF_UFLRA,\n" +
@@ -3435,9 +4184,109 @@ public class FuzzSMT {
 "  -V                   print version and exit\n" +
 "  -smtlib1             output smtlib1 format instead of smtlib2\n"+
 "  -seed <seed>         initialize random number generator with <seed>\n" +
+"  -legacy-rng          use java.util.Random and identity hash codes as before\n" +
+"                       FastRandom was added, to reproduce instances from\n" +
+"                       old seeds on the same Java runtime\n" +
 "  -bulk-export <num>   create <num> instances in the current directory\n"+
 "\n" +
 "  -bulk-prefix <string> prepend the string prefix to the file names created\n"+
+"  -family <name>       generate an instance of a deterministic, scalable and\n"+
+"                       unsatisfiable family instead of a random instance:\n"+
+"                       pattern-chain, matching-loop, multi-pattern (AUFLIA,\n"+
+"                       AUFLIRA, AUFNIRA), alternation (LRA), mul-commute,\n"+
+"                       let-chain (QF_BV, QF_UFBV, QF_ABV, QF_AUFBV), store-chain\n"+
+"                       (QF_AX, QF_ABV, QF_AUFBV), dl-cycle (QF_IDL, QF_RDL,\n"+
+"                       QF_UFIDL, QF_LIA, QF_LRA) or congruence-chain (QF_UF)\n"+
+"  -size <n>            size of the family instance, e.g. the number of\n"+
+"                       ground terms, the bit-width, the depth or the\n"+
+"                       number of let bindings\n"+
+"  -size <k..m>         one instance of each size from k to m, written as\n"+
+"                       <prefix>_<family>_<size> by -bulk-export\n"+
+"  -chain <len>         number of functions in the chain of pattern-chain\n"+
+"                       and matching-loop                       (default 3)\n"+
+"  -corpus <path>       import the terms of the SMT-LIB 2 benchmark <path>,\n"+
+"                       or of all .smt2 files below it, as operands (QF_BV,\n"+
+"                       QF_UFBV, QF_ABV and QF_AUFBV, SMT-LIB 2 only)\n"+
+"  -corpus-terms <n>    imported terms per instance             (default 8)\n"+
+"  -arena <file>        write all instances of -bulk-export into <file>, with\n"+
+"                       offset and length of each instance in <file>.idx\n"+
+"  -logics <spec>       interleave instances of several logics in one bulk\n"+
+"                       export, e.g. QF_BV:4,QF_LIA:2,QF_AUFBV:1\n"+
+"  -campaign <dir>      generate the bulk export as resumable campaign in <dir>,\n"+
+"                       rerunning the same command resumes after the last\n"+
+"                       checkpoint, solver results are kept in <dir>/results.log\n"+
+"  -checkpoint-interval <n> write a checkpoint every <n> instances (default 10)\n"+
+"  -sweep <spec>        generate -bulk-export instances for every point of a\n"+
+"                       parameter sweep, e.g. \"-Mv 1..64x2 -Mbw 1..64+8\",\n"+
+"                       and print generator statistics and solver results\n"+
+"                       as CSV, one row per instance; a range is lo..hi,\n"+
+"                       lo..hi+<step>, lo..hix<factor> or a list a,b,c\n"+
+"  -sweep-lhs <n>       sample <n> points by Latin hypercube sampling\n"+
+"                       instead of sweeping the full grid\n"+
+"  -logic-options <logic> <options>\n"+
+"                       additional options for <logic> only, e.g.\n"+
+"                       -logic-options QF_BV \"-Mbw 32 -g\"\n"+
+"  -plant               plant a random model and make the instance satisfiable\n"+
+"                       (quantifier-free logics and LRA only, not with -g\n"+
+"                       in smtlib1, where division by zero is unspecified)\n"+
+"  -equiv               rewrite the instance into an equivalent copy and\n"+
+"                       assert that both differ, making it unsatisfiable\n"+
+"                       (quantifier-free logics only)\n"+
+"  -twin                write an equisatisfiable twin of every instance into\n"+
+"                       <prefix>_file_<n>_twin with renamed symbols, shuffled\n"+
+"                       declarations and operands, desugared operators and\n"+
+"                       define-funs; every solver also solves the twin and\n"+
+"                       fails if it answers differently (quantifier-free\n"+
+"                       logics only)\n"+
+"  -solver <cmd>        run solver <cmd> on every instance (read from stdin)\n"+
+"                       and report its result on stderr, may be given more\n"+
+"                       than once to compare solvers\n"+
+"  -timeout <secs>      solver time limit in seconds       (default none)\n"+
+"  -check-model         ask the solver for a model with (get-model) and\n"+
+"                       validate it against the instance (smtlib2 only)\n"+
+"  -heavy-cost <c>      predict the cost of solving each instance from the\n"+
+"                       generated operators, bit-widths, array accesses and\n"+
+"                       quantifiers, and run instances with cost >= <c> in a\n"+
+"                       separate pool, so cheap instances do not wait for\n"+
+"                       expensive ones\n"+
+"  -heavy-timeout <secs>\n"+
+"                       solver time limit in the pool for expensive\n"+
+"                       instances                          (default none)\n"+
+"  -interactive         keep each solver running and pass it one instance\n"+
+"                       after the other, separated by (reset); it is only\n"+
+"                       restarted after a crash or timeout (smtlib2 only)\n"+
+"  -triage <dir>        bucket failing instances in <dir> by their normalized\n"+
+"                       failure signature (crash, disagreement, wrong model)\n"+
+"  -triage-keep <k>     keep the <k> smallest instances per bucket (default 5)\n"+
+"  -cache <file>        cache solver results in <file> by a hash of the\n"+
+"                       instance text and by solver binary, options and\n"+
+"                       timeout; errors are solved again\n"+
+"  -cache-errors        cache errors of -cache as well\n"+
+"  -perf <dir>          compare two builds of a solver, the first -solver is\n"+
+"                       the old and the second the new build, and keep the\n"+
+"                       instances on which the new build regresses in <dir>\n"+
+"                       with a summary of their features\n"+
+"  -perf-repeat <n>     solve each instance <n> times per build and compare\n"+
+"                       the medians (default 3)\n"+
+"  -perf-time <x>       report the new build if it is more than <x> times\n"+
+"                       slower (default 2.0)\n"+
+"  -perf-memory <y>     report the new build if it needs more than <y> times\n"+
+"                       the peak memory (default 2.0)\n"+
+"  -profile             time every generator call, the emission and the\n"+
+"                       output of each instance, and print totals and\n"+
+"                       percentiles per phase on stderr at the end\n"+
+"  -jfr                 emit flight recorder events for every instance,\n"+
+"                       generator call and external process; record them\n"+
+"                       with java -XX:StartFlightRecording\n"+
+"  -validate            check every instance with a streaming sort checker\n"+
+"                       on all cores and report ill-sorted ones on stderr;\n"+
+"                       they are not passed to solvers\n"+
+"  -exec <cmd>          run <cmd> with the file name of every instance as\n"+
+"                       last argument once it is written (bulk export only)\n"+
+"  -metrics <port>      serve instances and bytes per logic, generation\n"+
+"                       latency, solver results, failures and queue depths\n"+
+"                       in the Prometheus text format on\n"+
+"                       http://localhost:<port>/metrics\n"+
 "  -bool-random         generate a random boolean layer (default)\n" +
 "  -bool-and            use an n-ary AND for the boolean layer\n" +
 "  -bool-or             use an n-ary OR for the boolean layer\n" +
@@ -3694,10 +4543,460 @@ public class FuzzSMT {
 "                       in input and main layer to <refs>      (default  1)\n" +
 "\n";
 
+  /* parses a campaign specification such as "QF_BV:4,QF_LIA:2,QF_AUFBV",
+   * weights default to 1 */
+  private static void parseLogicsSpec (String spec, List<SMTLogic> logics,
+                                       List<Integer> weights){
+    String []entries, parts;
+    SMTLogic logic;
+    int weight;
+
+    assert (spec != null);
+    assert (logics != null);
+    assert (weights != null);
+    entries = spec.split (",");
+    for (int i = 0; i < entries.length; i++) {
+      parts = entries[i].split (":");
+      if (parts.length > 2)
+        printErrAndExit ("invalid logic specification: " + entries[i]);
+      logic = SMTLogic.stringToLogic.get (parts[0]);
+      if (logic == null)
+        printErrAndExit ("invalid logic: " + parts[0]);
+      weight = 1;
+      if (parts.length == 2) {
+        try {
+          weight = Integer.parseInt (parts[1]);
+        } catch (NumberFormatException nfe) {
+          printErrAndExit ("invalid weight for " + parts[0]);
+        }
+        if (weight < 1)
+          printErrAndExit ("invalid weight for " + parts[0]);
+      }
+      if (logics.contains (logic))
+        printErrAndExit ("logic specified twice: " + parts[0]);
+      logics.add (logic);
+      weights.add (weight);
+    }
+  }
+
+  /* seed of instance 'index' of a campaign with seed 'seed',
+   * mixed by the SplitMix64 finalizer */
+  private static long deriveSeed (long seed, int index){
+    long z;
+
+    z = seed + (index + 1) * 0x9E3779B97F4A7C15l;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9l;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBl;
+    return z ^ (z >>> 31);
+  }
+
+  /* generates a bulk of instances, possibly from several logics and
+   * possibly as resumable campaign.
+   * Logics are interleaved by smooth weighted round robin, each instance
+   * is generated with the defaults of its logic, the common options and
+   * the options given for the logic with -logic-options. Each instance
+   * has its own seed derived from the campaign seed and its index, so
+   * a campaign can be resumed at any instance */
+  private static void generateCampaign (String args[]){
+    ArrayList<SMTLogic> logics = new ArrayList<SMTLogic>();
+    ArrayList<Integer> weights = new ArrayList<Integer>();
+    HashMap<SMTLogic, List<String>> logicOptions;
+    ArrayList<String> commonOptions, instanceArgs;
+    SMTLogic logic;
+    Campaign campaign = null;
+    String campaignDir = null, prefix = "", report, name;
+    StringBuilder options;
+    boolean seeded = false;
+    long seed = 0;
+    int []current;
+    int bulkExport = 0, sum, pick, interval = 10, first = 0;
+    String arg;
+
+    logicOptions = new HashMap<SMTLogic, List<String>>();
+    commonOptions = new ArrayList<String>();
+    options = new StringBuilder();
+    for (int i = 0; i < args.length; i++) {
+      options.append (i > 0 ? " " : "");
+      options.append (args[i]);
+    }
+    for (int i = 0; i < args.length; i++) {
+      arg = args[i];
+      if (i == 0 && SMTLogic.stringToLogic.containsKey (arg)) {
+        logics.add (SMTLogic.stringToLogic.get (arg));
+        weights.add (1);
+      } else if (arg.equals ("-logics")) {
+        if (i == args.length - 1)
+          printErrAndExit ("option argument missing");
+        parseLogicsSpec (args[++i], logics, weights);
+      } else if (arg.equals ("-logic-options")) {
+        if (i >= args.length - 2)
+          printErrAndExit ("option argument missing");
+        logic = SMTLogic.stringToLogic.get (args[++i]);
+        if (logic == null)
+          printErrAndExit ("invalid logic: " + args[i]);
+        logicOptions.put (logic, Arrays.asList (args[++i].trim().split ("\\s+")));
+      } else if (arg.equals ("-campaign")) {
+        if (i == args.length - 1)
+          printErrAndExit ("option argument missing");
+        campaignDir = args[++i];
+      } else if (arg.equals ("-checkpoint-interval")) {
+        interval = parseIntOption (args, i++, 1, "invalid checkpoint interval");
+      } else if (arg.equals ("-seed")) {
+        seed = parseLongOption (args, i++, 0l, "invalid seed");
+        seeded = true;
+      } else if (arg.equals ("-bulk-prefix")) {
+        if (i == args.length - 1)
+          printErrAndExit ("option argument missing");
+        prefix = args[++i];
+      } else {
+        if (arg.equals ("-bulk-export"))
+          bulkExport = parseIntOption (args, i, 1, "invalid bulk export amount");
+        commonOptions.add (arg);
+      }
+    }
+    if (logics.isEmpty())
+      printHelpAndExit();
+    if (bulkExport == 0)
+      printErrAndExit ((campaignDir == null ? "-logics" : "-campaign") +
+                       " requires -bulk-export");
+    for (SMTLogic l : logicOptions.keySet())
+      if (!logics.contains (l))
+        printErrAndExit ("options given for unused logic " + l);
+    if (!seeded)
+      seed = new Random().nextLong();
+    SMTNode.setStableHashCodes (true);
+    if (campaignDir != null) {
+      try {
+        campaign = Campaign.open (new java.io.File (campaignDir),
+                                  options.toString(), seed,
+                                  commonOptions.contains ("-legacy-rng"));
+      } catch (java.io.IOException e) {
+        printErrAndExit (e.getMessage());
+      }
+      seed = campaign.getSeed();
+      first = campaign.getNext();
+      /* campaigns checkpointed before FastRandom was added */
+      if (campaign.isLegacyRng() && !commonOptions.contains ("-legacy-rng"))
+        commonOptions.add ("-legacy-rng");
+      prefix = campaignDir + java.io.File.separator + prefix;
+    }
+
+    sum = 0;
+    for (int i = 0; i < weights.size(); i++)
+      sum += weights.get(i);
+    current = new int[logics.size()];
+    for (int fileId = 0; fileId < bulkExport; fileId++) {
+      pick = 0;
+      for (int i = 0; i < current.length; i++) {
+        current[i] += weights.get(i);
+        if (current[i] > current[pick])
+          pick = i;
+      }
+      current[pick] -= sum;
+      if (fileId < first)
+        continue;
+      logic = logics.get (pick);
+      instanceArgs = new ArrayList<String>();
+      instanceArgs.add (logic.toString());
+      instanceArgs.add ("-bulk-prefix");
+      instanceArgs.add (prefix);
+      instanceArgs.addAll (commonOptions);
+      if (logicOptions.containsKey (logic))
+        instanceArgs.addAll (logicOptions.get (logic));
+      report = generate (instanceArgs.toArray (new String[0]),
+                         deriveSeed (seed, fileId), fileId);
+      if (campaign != null) {
+        name = logic + " " + new java.io.File (bulkPrefix + "_file_" + fileId +
+                                               fileSuffix()).getName();
+        campaign.completed (name, report);
+        if (campaign.getNext() % interval == 0 ||
+            campaign.getNext() == bulkExport) {
+          try {
+            campaign.checkpoint();
+          } catch (java.io.IOException e) {
+            printErrAndExit ("checkpoint failed: " + e.getMessage());
+          }
+        }
+      }
+    }
+    if (campaign != null) {
+      System.err.println ("campaign " + campaignDir + ": " + campaign.summary());
+      campaign.close();
+    }
+    if (perf != null)
+      printPerfSummary();
+    if (profile != null)
+      System.err.print (profile);
+  }
+
+  /* prints the summary of perf and writes it to its directory */
+  private static void printPerfSummary (){
+    System.err.print (perf.summary());
+    try {
+      perf.writeSummary();
+    } catch (java.io.IOException e) {
+      printErrAndExit ("perf failed: " + e.getMessage());
+    }
+  }
+
+  /* runs 'solvers' on the instance in 'fileName' and returns their
+   * statuses and times as CSV columns */
+  private static String solveSweepInstance (List<Solver> solvers,
+                                            String fileName){
+    StringBuilder builder;
+    SolverResult result;
+    String instance;
+
+    try {
+      instance = new String (java.nio.file.Files.readAllBytes (
+                               java.nio.file.Paths.get (fileName)));
+    } catch (java.io.IOException e) {
+      throw new Error (e);
+    }
+    builder = new StringBuilder();
+    for (Solver solver : solvers) {
+      result = solver.solve (instance);
+      builder.append (",");
+      builder.append (result.getStatus());
+      builder.append (",");
+      builder.append (result.getTime());
+    }
+    return builder.toString();
+  }
+
+  /* solves the instance in 'fileName' in 'pool' */
+  private static java.util.concurrent.Future<String>
+  scheduleSweepInstance (java.util.concurrent.ExecutorService pool,
+                         final List<Solver> solvers, final String fileName){
+    return pool.submit (new java.util.concurrent.Callable<String>() {
+      public String call(){
+        return solveSweepInstance (solvers, fileName);
+      }
+    });
+  }
+
+  /* generates -bulk-export instances for every point of a parameter
+   * sweep and prints one CSV row per instance with its point, its seed,
+   * generator statistics and, if solvers are given, their results.
+   * Instances are generated one after the other, as the generator is
+   * not thread-safe, and solved on all cores. Rows are printed in the
+   * order of the instances. The instances of point <k> are written as
+   * <prefix>_p<k>_file_<n>, each from a seed derived from the sweep seed
+   * and its index, so any row can be generated again with -seed */
+  private static void generateSweep (String args[]){
+    Sweep sweep;
+    List<String []> points;
+    ArrayList<String> commonOptions, instanceArgs, solverCommands;
+    ArrayList<Solver> solvers;
+    ArrayList<java.util.concurrent.Future<String>> pending;
+    ArrayList<String> pendingRows;
+    java.util.concurrent.ExecutorService pool = null;
+    InstanceFeatures stats;
+    SMTLogic logic = null;
+    StringBuilder row;
+    String prefix = "", arg, fileName;
+    long seed = 0, instanceSeed, started, timeout = 0;
+    boolean seeded = false;
+    int bulkExport = 0, lhs = 0, index;
+
+    sweep = new Sweep();
+    commonOptions = new ArrayList<String>();
+    solverCommands = new ArrayList<String>();
+    for (int i = 0; i < args.length; i++) {
+      arg = args[i];
+      if (i == 0 && SMTLogic.stringToLogic.containsKey (arg)) {
+        logic = SMTLogic.stringToLogic.get (arg);
+      } else if (arg.equals ("-sweep")) {
+        if (i == args.length - 1)
+          printErrAndExit ("option argument missing");
+        try {
+          sweep.parse (args[++i]);
+        } catch (IllegalArgumentException e) {
+          printErrAndExit (e.getMessage());
+        }
+      } else if (arg.equals ("-sweep-lhs")) {
+        lhs = parseIntOption (args, i++, 1, "invalid number of points");
+      } else if (arg.equals ("-seed")) {
+        seed = parseLongOption (args, i++, 0l, "invalid seed");
+        seeded = true;
+      } else if (arg.equals ("-bulk-prefix")) {
+        if (i == args.length - 1)
+          printErrAndExit ("option argument missing");
+        prefix = args[++i];
+      } else if (arg.equals ("-solver")) {
+        if (i == args.length - 1)
+          printErrAndExit ("option argument missing");
+        solverCommands.add (args[++i]);
+      } else if (arg.equals ("-timeout")) {
+        timeout = parseLongOption (args, i++, 1l, "invalid timeout");
+      } else if (arg.equals ("-logics") || arg.equals ("-campaign") ||
+                 arg.equals ("-interactive") || arg.equals ("-heavy-cost") ||
+                 arg.equals ("-check-model") || arg.equals ("-triage") ||
+                 arg.equals ("-cache") || arg.equals ("-cache-errors") ||
+                 arg.equals ("-arena") ||
+                 arg.equals ("-perf")) {
+        printErrAndExit ("-sweep can not be combined with " + arg);
+      } else {
+        if (arg.equals ("-bulk-export"))
+          bulkExport = parseIntOption (args, i, 1, "invalid bulk export amount");
+        commonOptions.add (arg);
+      }
+    }
+    if (logic == null)
+      printHelpAndExit();
+    if (bulkExport == 0)
+      printErrAndExit ("-sweep requires -bulk-export");
+    if (!seeded)
+      seed = new Random().nextLong();
+    points = null;
+    try {
+      points = lhs > 0 ? sweep.latinHypercube (newRandom (seed), lhs) :
+                         sweep.grid();
+    } catch (IllegalArgumentException e) {
+      printErrAndExit (e.getMessage());
+    }
+    if ((long) points.size() * bulkExport > Integer.MAX_VALUE)
+      printErrAndExit ("too many instances");
+    solvers = new ArrayList<Solver>();
+    for (String command : solverCommands)
+      solvers.add (Solver.fromCommandLine (command, timeout * 1000));
+    if (!solvers.isEmpty())
+      pool = newBoundedPool (Runtime.getRuntime().availableProcessors());
+    SMTNode.setStableHashCodes (true);
+
+    row = new StringBuilder ("point");
+    for (int i = 0; i < sweep.getNumOptions(); i++) {
+      row.append (",");
+      row.append (sweep.getOption(i).substring (1));
+    }
+    row.append (",instance,seed,nodes,bytes,generation_ms,operators," +
+                "non_linear,max_width,reads,writes,quantifier_depth,cost");
+    for (int i = 1; i <= solvers.size(); i++)
+      row.append (",solver" + i + "_status,solver" + i + "_ms");
+    System.out.println (row);
+    for (int i = 0; i < solvers.size(); i++)
+      System.err.println ("solver" + (i + 1) + ": " + solvers.get(i).getName());
+
+    pending = new ArrayList<java.util.concurrent.Future<String>>();
+    pendingRows = new ArrayList<String>();
+    for (int point = 0; point < points.size(); point++) {
+      for (int fileId = 0; fileId < bulkExport; fileId++) {
+        index = point * bulkExport + fileId;
+        instanceSeed = deriveSeed (seed, index);
+        instanceArgs = new ArrayList<String>();
+        instanceArgs.add (logic.toString());
+        instanceArgs.add ("-bulk-prefix");
+        instanceArgs.add (prefix + "_p" + point);
+        instanceArgs.addAll (commonOptions);
+        for (int i = 0; i < sweep.getNumOptions(); i++) {
+          instanceArgs.add (sweep.getOption (i));
+          instanceArgs.add (points.get(point)[i]);
+        }
+        stats = new InstanceFeatures();
+        features = stats;
+        SMTNode.setFeatures (stats);
+        started = System.nanoTime();
+        generate (instanceArgs.toArray (new String[0]), instanceSeed, fileId);
+        started = System.nanoTime() - started;
+        features = null;
+        SMTNode.setFeatures (null);
+        fileName = prefix + "_p" + point + "_file_" + fileId + fileSuffix();
+        row = new StringBuilder();
+        row.append (point);
+        for (int i = 0; i < sweep.getNumOptions(); i++) {
+          row.append (",");
+          row.append (points.get(point)[i]);
+        }
+        row.append ("," + fileId + "," + instanceSeed + "," +
+                    SMTNode.getNodeCtr() + "," +
+                    new java.io.File (fileName).length() + "," +
+                    started / 1000000 + "," + stats.getOperators() + "," +
+                    stats.getNonLinear() + "," + stats.maxWidth + "," +
+                    stats.getCount (SMTNodeKind.SELECT) + "," +
+                    stats.getCount (SMTNodeKind.STORE) + "," +
+                    stats.quantifierDepth + "," + stats.getCost());
+        if (pool == null) {
+          System.out.println (row);
+          continue;
+        }
+        pending.add (scheduleSweepInstance (pool, solvers, fileName));
+        pendingRows.add (row.toString());
+        /* rows are printed as soon as all rows before them are done */
+        while (!pending.isEmpty() && pending.get(0).isDone())
+          System.out.println (pendingRows.remove (0) +
+                              sweepResult (pending.remove (0)));
+      }
+    }
+    for (int i = 0; i < pending.size(); i++)
+      System.out.println (pendingRows.get (i) + sweepResult (pending.get (i)));
+    if (pool != null)
+      pool.shutdown();
+    if (profile != null)
+      System.err.print (profile);
+  }
+
+  private static String sweepResult (java.util.concurrent.Future<String> result){
+    try {
+      return result.get();
+    } catch (InterruptedException e) {
+      throw new Error (e);
+    } catch (java.util.concurrent.ExecutionException e) {
+      throw new Error (e.getCause());
+    }
+  }
+
   public static void main (String args[]) {
+    for (int i = 0; i < args.length; i++) {
+      if (args[i].equals ("-sweep")) {
+        generateSweep (args);
+        closeSessions();
+        System.exit (0);
+      }
+    }
+    for (int i = 0; i < args.length; i++) {
+      if (args[i].equals ("-logics") || args[i].equals ("-campaign")) {
+        generateCampaign (args);
+        closeSessions();
+        System.exit (0);
+      }
+    }
+    generate (args, 0, -1);
+    closeSessions();
+    System.exit (0);
+  }
+
+  /* interactive solver for 'command', started once and reused by all
+   * instances, also those of a campaign */
+  private static InteractiveSolver getSession (String command, long timeout){
+    InteractiveSolver result;
+    String key;
+
+    key = timeout + " " + command;
+    result = sessions.get (key);
+    if (result == null) {
+      result = InteractiveSolver.fromCommandLine (command, timeout);
+      sessions.put (key, result);
+    }
+    return result;
+  }
+
+  private static void closeSessions (){
+    for (InteractiveSolver solver : sessions.values())
+      solver.close();
+    sessions.clear();
+  }
+
+  /* generates the instances described by 'args'. If 'onlyFileId' is not
+   * negative only the bulk file with this id is generated, from 'seed'
+   * instead of -seed. Returns the solver report of the last instance, or
+   * null if no solver has been run */
+  private static String generate (String args[], long seed, int onlyFileId) {
+    String report = null;
     smtlib1 =false;
+    legacyRng = false;
 	SMTLogic logic = null;
     Random r = null;
+    boolean seeded = false;
     int pars = 1;
     int minRefs = 1;
     int minNumConsts = 1;
@@ -3819,6 +5118,57 @@ public class FuzzSMT {
     boolean linear = true;
     double factor = 1.0;
     int bulkExport = 0;
+    boolean plant = false;
+    boolean equiv = false;
+    boolean twin = false;
+    ArrayList<Solver> solvers = new ArrayList<Solver>();
+    ArrayList<String> solverCommands = new ArrayList<String>();
+    Triage triage = null;
+    String triageDir = null;
+    int triageKeep = 5;
+    String perfDir = null;
+    int perfRepeat = 3;
+    double perfTime = 2.0, perfMemory = 2.0;
+    String cachePath = null;
+    boolean cacheErrors = false;
+    String corpusArg = null;
+    int corpusTerms = 8;
+    ArrayList<Integer> imported = new ArrayList<Integer>();
+    IdentityHashMap<Signature, String> importedNames =
+      new IdentityHashMap<Signature, String>();
+    java.security.MessageDigest fingerprint = null;
+    int firstNode = 0;
+    long solverTimeout = 0;
+    boolean checkModel = false;
+    boolean interactive = false;
+    long heavyCost = -1;
+    long heavyTimeout = 0;
+    ArrayList<Solver> heavySolvers = new ArrayList<Solver>();
+    java.util.concurrent.ExecutorService fastPool = null, heavyPool = null;
+    String fileName;
+    String arenaPath = null;
+    InstanceArena arena = null;
+    String family = null;
+    int familySize = 0, familyMax = 0;
+    int chainLength = 3;
+    java.io.PrintStream arenaOutput = null;
+    java.io.PrintStream instanceOutput = null;
+    java.io.ByteArrayOutputStream instanceBuffer = null;
+    String execCommand = null;
+    boolean validate = false;
+    java.util.concurrent.ExecutorService validatePool = null;
+    java.util.concurrent.atomic.AtomicLong illSorted = null;
+    java.util.concurrent.atomic.AtomicLong numValidated = null;
+    InstanceEvent instanceEvent = null;
+    CountingOutputStream instanceBytes = null;
+    long instanceStart = 0;
+    int port;
+    int skipped = 0;
+    HashSet<String> given = new HashSet<String>();
+    ArrayList<InstanceHook> hooks = new ArrayList<InstanceHook>();
+    boolean buffered;
+    BufferedInstance instance;
+    String generatorError;
     
     output = System.out;
     
@@ -4083,6 +5433,7 @@ public class FuzzSMT {
     for (int i = 1; i < args.length; i++) {
       String arg = args[i];
       if (arg.charAt(0) == '-') {
+        given.add (arg);
         if (arg.equals ("-h")) {
           printHelpAndExit ();
         } else if (arg.equals("-V")) {
@@ -4104,7 +5455,10 @@ public class FuzzSMT {
         } else if (arg.equals("-bool-or")) {
           booleanLayerKind = BooleanLayerKind.OR;
         } else if (arg.equals("-seed")) {
-          r = new Random (parseLongOption (args, i++, 0l, "invalid seed"));
+          seed = parseLongOption (args, i++, 0l, "invalid seed");
+          seeded = true;
+        } else if (arg.equals("-legacy-rng")) {
+          legacyRng = true;
         } else if (arg.equals("-bool-cnf")) {
           factor = parseDoubleOption (args, i++, 0.0, "invalid CNF factor");
           booleanLayerKind = BooleanLayerKind.CNF;
@@ -4272,12 +5626,110 @@ public class FuzzSMT {
           maxBW = parseIntOption (args, i++, 1, "invalid maximum bit-width");
         } else if (arg.equals("-smtlib1")) {
         	smtlib1 = true;
+        } else if (arg.equals("-profile")) {
+          if (profile == null)
+            profile = new GenerationProfile();
+        } else if (arg.equals("-jfr")) {
+          events = true;
+          Solver.setEvents (true);
+        } else if (arg.equals("-metrics")) {
+          port = parseIntOption (args, i++, 1, "invalid metrics port");
+          /* keeps serving across the instances of a campaign */
+          if (metrics == null) {
+            metrics = new Metrics();
+            try {
+              metrics.serve (port);
+            } catch (java.io.IOException e) {
+              printErrAndExit ("metrics endpoint failed: " + e.getMessage());
+            }
+          }
+        } else if (arg.equals("-validate")) {
+          validate = true;
+        } else if (arg.equals("-exec")) {
+          if (i == args.length - 1)
+            printErrAndExit ("option argument missing");
+          execCommand = args[++i];
         } else if (arg.equals("-bulk-export")) {
         	bulkExport = parseIntOption (args, i++, 1, "invalid bulk export amount");
         } else if (arg.equals("-bulk-prefix")) {
 		if (i+1 == args.length - 1)
       			printErrAndExit ("option argument missing");
         	bulkPrefix = args[++i];
+        } else if (arg.equals("-plant")) {
+          plant = true;
+        } else if (arg.equals("-equiv")) {
+          equiv = true;
+        } else if (arg.equals("-twin")) {
+          twin = true;
+        } else if (arg.equals("-solver")) {
+          if (i == args.length - 1)
+            printErrAndExit ("option argument missing");
+          solverCommands.add (args[++i]);
+        } else if (arg.equals("-timeout")) {
+          solverTimeout = parseLongOption (args, i++, 1l, "invalid timeout");
+        } else if (arg.equals("-check-model")) {
+          checkModel = true;
+        } else if (arg.equals("-interactive")) {
+          interactive = true;
+        } else if (arg.equals("-family")) {
+          if (i == args.length - 1)
+            printErrAndExit ("option argument missing");
+          family = args[++i];
+        } else if (arg.equals("-size")) {
+          if (i < args.length - 1 && args[i + 1].contains ("..")) {
+            try {
+              familySize = Integer.parseInt (args[i + 1].substring (0,
+                             args[i + 1].indexOf ("..")));
+              familyMax = Integer.parseInt (args[i + 1].substring (
+                            args[i + 1].indexOf ("..") + 2));
+            } catch (NumberFormatException nfe) {
+              printErrAndExit ("invalid family size");
+            }
+            if (familySize < 1 || familyMax < familySize)
+              printErrAndExit ("invalid family size");
+            i++;
+          } else {
+            familySize = parseIntOption (args, i++, 1, "invalid family size");
+            familyMax = familySize;
+          }
+        } else if (arg.equals("-chain")) {
+          chainLength = parseIntOption (args, i++, 2, "invalid chain length");
+        } else if (arg.equals("-arena")) {
+          if (i == args.length - 1)
+            printErrAndExit ("option argument missing");
+          arenaPath = args[++i];
+        } else if (arg.equals("-heavy-cost")) {
+          heavyCost = parseLongOption (args, i++, 0l, "invalid cost");
+        } else if (arg.equals("-heavy-timeout")) {
+          heavyTimeout = parseLongOption (args, i++, 1l, "invalid timeout");
+        } else if (arg.equals("-triage")) {
+          if (i == args.length - 1)
+            printErrAndExit ("option argument missing");
+          triageDir = args[++i];
+        } else if (arg.equals("-triage-keep")) {
+          triageKeep = parseIntOption (args, i++, 1, "invalid number of instances per bucket");
+        } else if (arg.equals("-cache")) {
+          if (i == args.length - 1)
+            printErrAndExit ("option argument missing");
+          cachePath = args[++i];
+        } else if (arg.equals("-cache-errors")) {
+          cacheErrors = true;
+        } else if (arg.equals("-perf")) {
+          if (i == args.length - 1)
+            printErrAndExit ("option argument missing");
+          perfDir = args[++i];
+        } else if (arg.equals("-perf-repeat")) {
+          perfRepeat = parseIntOption (args, i++, 1, "invalid number of repetitions");
+        } else if (arg.equals("-perf-time")) {
+          perfTime = parseDoubleOption (args, i++, 1.0, "invalid time ratio");
+        } else if (arg.equals("-perf-memory")) {
+          perfMemory = parseDoubleOption (args, i++, 1.0, "invalid memory ratio");
+        } else if (arg.equals("-corpus")) {
+          if (i == args.length - 1)
+            printErrAndExit ("option argument missing");
+          corpusArg = args[++i];
+        } else if (arg.equals("-corpus-terms")) {
+          corpusTerms = parseIntOption (args, i++, 1, "invalid number of corpus terms");
         }
 
         else { 
@@ -4288,33 +5740,323 @@ public class FuzzSMT {
       }
     }
 
-    if (r == null) /* seed has not been set */
-	      r = new Random();
+    given.add (logic.toString());
+    if (family != null && familyMax > familySize)
+      given.add ("-bulk-export");
+    if (logic == SMTLogic.AUFLIA || logic == SMTLogic.AUFLIRA ||
+        logic == SMTLogic.AUFNIRA)
+      given.add ("quantified logics");
+    if (onlyFileId >= 0)
+      given.add ("campaigns");
+    checkOptions (given);
+
+    if (!seeded && onlyFileId < 0) /* seed has not been set */
+      seed = new Random().nextLong();
+    r = newRandom (seed);
+    /* identity hash codes change the order of maps between builds, so
+     * only seeds of FastRandom reproduce instances across versions.
+     * -legacy-rng keeps the identity hash codes of older versions, which
+     * are drawn from one stream per thread and depend on the classes
+     * loaded before and during generation: verifying FuzzSMT must not
+     * load further classes of the jar, e.g. where an argument is a
+     * subclass of the parameter type. ant check compares old instances */
+    if (!legacyRng)
+      SMTNode.setStableHashCodes (true);
+
+    for (String command : solverCommands) {
+      if (interactive)
+        solvers.add (getSession (command, solverTimeout * 1000));
+      else
+        solvers.add (Solver.fromCommandLine (command, solverTimeout * 1000));
+    }
+    if (triageDir != null) {
+      try {
+        triage = new Triage (new java.io.File (triageDir), triageKeep);
+      } catch (java.io.IOException e) {
+        printErrAndExit (e.getMessage());
+      }
+    }
+    if (perfDir != null) {
+      if (solverCommands.size() != 2)
+        printErrAndExit ("-perf requires two -solver, the old and the new build");
+      for (Solver solver : solvers)
+        solver.setMeasureMemory (true);
+      /* stays open across the instances of a campaign */
+      if (perf == null || !perfDir.equals (perfPath)) {
+        try {
+          perf = new PerfComparison (new java.io.File (perfDir), perfRepeat,
+                                     perfTime, perfMemory);
+        } catch (java.io.IOException e) {
+          printErrAndExit (e.getMessage());
+        }
+        perfPath = perfDir;
+      }
+    } else {
+      perf = null;
+      perfPath = null;
+    }
+    if (heavyCost >= 0) {
+      for (String command : solverCommands)
+        heavySolvers.add (Solver.fromCommandLine (command,
+                                                  heavyTimeout * 1000));
+      /* bounded, so the generator does not run ahead of the solvers */
+      fastPool = newBoundedPool (Runtime.getRuntime().availableProcessors());
+      heavyPool = newBoundedPool (1);
+      if (metrics != null) {
+        metrics.addQueue ("fast", fastPool);
+        metrics.addQueue ("heavy", heavyPool);
+      }
+    }
+    if (corpusArg != null) {
+      /* stays mapped across the instances of a campaign */
+      if (corpus == null || !corpusArg.equals (corpusPath)) {
+        corpus = new SeedCorpus();
+        corpusPath = corpusArg;
+        try {
+          skipped = corpus.loadAll (new java.io.File (corpusArg));
+        } catch (java.io.IOException e) {
+          printErrAndExit ("corpus: " + e.getMessage());
+        }
+        if (corpus.size() == 0)
+          printErrAndExit ("corpus: no terms in " + corpusArg);
+        if (onlyFileId < 0)
+          System.err.println ("corpus: " + corpus.size() + " terms of " +
+                              corpus.getNumFiles() + " files, " + skipped +
+                              " ill-sorted or unsupported files skipped");
+      }
+    } else {
+      corpus = null;
+      corpusPath = null;
+    }
+    if (family != null) {
+      if (!Families.getFamilies (logic).contains (family))
+        printErrAndExit ("invalid family for " + logic + ": " + family +
+                         " (families: " + Families.getFamilies (logic) + ")");
+      if (familySize < Families.getMinSize (family))
+        printErrAndExit ("-family " + family + " requires -size <n> with n >= " +
+                         Families.getMinSize (family));
+      if (familyMax > familySize) {
+        if (bulkExport == 0)
+          bulkExport = familyMax - familySize + 1;
+        else if (bulkExport != familyMax - familySize + 1)
+          printErrAndExit ("-bulk-export does not match the sizes of -size");
+      }
+    }
+    if (arenaPath != null) {
+      try {
+        arena = new InstanceArena (new java.io.File (arenaPath));
+        arenaOutput = arena.printStream();
+      } catch (java.io.IOException e) {
+        printErrAndExit (e.getMessage());
+      }
+    }
+    if (cachePath != null) {
+      /* stays open across the instances of a campaign */
+      if (cache == null) {
+        try {
+          cache = new ResultCache (new java.io.File (cachePath), cacheErrors);
+        } catch (java.io.IOException e) {
+          printErrAndExit (e.getMessage());
+        }
+      }
+    }
+
+    /* the hooks see each instance in this order: the twin is written
+     * before both are validated, and ill-sorted instances are not passed
+     * to the solvers */
+    if (twin) {
+      /* drawn from a stream of its own, so the instances are the same
+       * as without -twin */
+      final TwinWriter twinWriter = new TwinWriter (newRandom (~seed), smtlib1);
+      final boolean writeTwins = bulkExport > 0;
+      hooks.add (new InstanceHook() {
+        public boolean handle (BufferedInstance instance){
+          java.io.PrintStream twinOutput;
+
+          try {
+            instance.twin = twinWriter.write (instance.text);
+          } catch (RuntimeException e) {
+            /* the instance is still checked, but without a twin */
+            System.err.println (instance.name + ": twin unchecked (" +
+                                e.getMessage() + ")");
+            return true;
+          }
+          if (writeTwins) {
+            try {
+              twinOutput = new java.io.PrintStream (new java.io.FileOutputStream (
+                             twinFileName (bulkPrefix, instance.fileId)));
+              twinOutput.print (instance.twin);
+              twinOutput.close();
+            } catch (Exception e) {
+              throw new Error (e);
+            }
+          }
+          return true;
+        }
+      });
+    }
+    if (validate) {
+      /* checks run on all cores while the next instance is generated,
+       * the generator waits for them if they fall behind. Instances for
+       * the solvers are checked at once, as ill-sorted ones are skipped */
+      validatePool = newBoundedPool (Runtime.getRuntime().availableProcessors());
+      illSorted = new java.util.concurrent.atomic.AtomicLong();
+      numValidated = new java.util.concurrent.atomic.AtomicLong();
+      final java.util.concurrent.ExecutorService checks = validatePool;
+      final java.util.concurrent.atomic.AtomicLong failed = illSorted;
+      final java.util.concurrent.atomic.AtomicLong validated = numValidated;
+      final boolean beforeSolvers = !solverCommands.isEmpty();
+      final boolean bulk = bulkExport > 0;
+      hooks.add (new InstanceHook() {
+        public boolean handle (BufferedInstance instance){
+          boolean wellSorted = true;
+          String twinName;
+
+          validated.incrementAndGet();
+          if (beforeSolvers)
+            wellSorted = checkSorts (instance.buffer.toByteArray(),
+                                     instance.name, failed);
+          else
+            scheduleCheckSorts (checks, instance.buffer.toByteArray(),
+                                instance.name, failed);
+          if (instance.twin != null) {
+            validated.incrementAndGet();
+            twinName = bulk ? twinFileName (bulkPrefix, instance.fileId) : "twin";
+            if (beforeSolvers)
+              wellSorted &= checkSorts (instance.twin.getBytes(), twinName,
+                                        failed);
+            else
+              scheduleCheckSorts (checks, instance.twin.getBytes(), twinName,
+                                  failed);
+          }
+          return wellSorted;
+        }
+      });
+    }
+    if (!solvers.isEmpty()) {
+      final boolean checkModels = checkModel;
+      final SolverResult.Status expected = plant ? SolverResult.Status.SAT :
+                                           equiv || family != null ?
+                                           SolverResult.Status.UNSAT : null;
+      final Triage failures = triage;
+      final SMTLogic instanceLogic = logic;
+      final long minHeavyCost = heavyCost;
+      final java.util.concurrent.ExecutorService fast = fastPool, heavy = heavyPool;
+      hooks.add (new InstanceHook() {
+        public boolean handle (BufferedInstance instance){
+          if (perf != null) {
+            /* runs alone, as concurrent runs would skew the timings */
+            try {
+              instance.report = perf.check (solvers.get (0), solvers.get (1),
+                                            instance.text,
+                                            new java.io.File (instance.fileName).getName(),
+                                            features);
+            } catch (java.io.IOException e) {
+              printErrAndExit ("perf failed: " + e.getMessage());
+            }
+            System.err.println (instance.fileName + ": " + instance.report);
+            features = null;
+            SMTNode.setFeatures (null);
+          } else if (features == null) {
+            instance.report = checkInstance (solvers, instance.text, instance.twin,
+                                             checkModels, expected, cache,
+                                             instance.fingerprint, failures,
+                                             instanceLogic, instance.nodes,
+                                             new java.io.File (instance.fileName).getName());
+            System.err.println (instance.name + ": " + instance.report);
+          } else {
+            schedule (features.getCost() >= minHeavyCost ? heavy : fast,
+                      features.getCost() >= minHeavyCost ? heavySolvers : solvers,
+                      instance.text, instance.twin, checkModels, expected,
+                      cache, instance.fingerprint, failures, instanceLogic,
+                      instance.nodes, instance.name,
+                      (features.getCost() >= minHeavyCost ? "heavy " : "") +
+                      features);
+            features = null;
+            SMTNode.setFeatures (null);
+          }
+          return true;
+        }
+      });
+    }
+    /* -plant and -equiv evaluate the instance before its root is printed */
+    buffered = plant || equiv || !hooks.isEmpty();
+
+    if (plant) {
+      /* guards would only hold for some models, division by zero is
+       * total in SMT-LIB 2 and evaluated as such, but unspecified in
+       * SMT-LIB 1, where the instance could not be declared sat */
+      if (smtlib1 && bvDivMode == BVDivMode.FULL)
+        printErrAndExit ("-plant with -smtlib1 can not be combined with -g");
+      if (bvDivMode == BVDivMode.GUARD)
+        bvDivMode = smtlib1 ? BVDivMode.OFF : BVDivMode.FULL;
+    }
     
-    for (int fileId =0; fileId < Math.max(bulkExport,1);fileId++)
+    int firstFileId = onlyFileId >= 0 ? onlyFileId : 0;
+    int lastFileId = onlyFileId >= 0 ? onlyFileId + 1 : Math.max(bulkExport,1);
+    for (int fileId = firstFileId; fileId < lastFileId;fileId++)
     {
+	    if (profile != null)
+	      profile.beginInstance();
+	    if (metrics != null)
+	      instanceStart = System.nanoTime();
+	    if (events)
+	    {
+	      instanceEvent = new InstanceEvent();
+	      instanceEvent.begin();
+	    }
 	    if (bulkExport ==0)
 	    	output = System.out;
 	    else
 	    {
 	        try
 	        {
-	        	if (fileId > 0)
+	        	if (fileId > firstFileId)
 	        		{
 	        	    boolNodes = null;
 	        	    BVDivGuards = null;
 	        	    pars = 1;
+	        	    if (arena != null)
+	        	    {
+	        	      output.flush();
+	        	      arena.end();
+	        	    }
+	        	    else
 	        		output.close();
 	        		}
 	        	
-	        	java.io.FileOutputStream out = new java.io.FileOutputStream(bulkPrefix + "_file_" + fileId + (smtlib1?".smt":".smt2"));
+	        	if (arena != null)
+	        	{
+	        	  arena.begin();
+	        	  output = arenaOutput;
+	        	}
+	        	else
+	        	{
+	        	java.io.FileOutputStream out = new java.io.FileOutputStream(familyMax > familySize ?
+	        	  familyFileName (bulkPrefix, family, familySize + fileId) :
+	        	  bulkPrefix + "_file_" + fileId + fileSuffix());
 	        	output = new java.io.PrintStream(out);
+	        	}
 	        } catch (Exception e)
 	        {
 	        	throw new Error(e);
 	        }
 	    }
 	
+	    if (legacyRng && fileId > firstFileId)
+	      resetTypes();
+	    if (onlyFileId >= 0) {
+	      /* instances of campaigns only depend on their own seed */
+	      SMTNode.resetNodeCtr();
+	      UFunc.resetFuncsCtr();
+	      UPred.resetPredsCtr();
+	    }
+	    firstNode = SMTNode.getNodeCtr();
+	    generatorError = null;
+	    if (heavyCost >= 0 || perf != null) {
+	      features = new InstanceFeatures();
+	      SMTNode.setFeatures (features);
+	    }
 	    assert (numVars >= 0);
 	    assert (numConsts >= 0);
 	    assert (minRefs >= 1);
@@ -4676,17 +6418,55 @@ public class FuzzSMT {
 	    boolNodes = new ArrayList<SMTNode>();
 	    assert (r != null);
 	    assert (logic != null);
+	    if (events || metrics != null) {
+	      instanceBytes = new CountingOutputStream (output);
+	      output = instanceBytes.printStream();
+	    }
+	    if (profile != null)
+	      output = profile.wrap (output);
+	    if (buffered) {
+	      /* the instance is buffered as it is evaluated before the root
+	       * is printed and passed to the solver once it is complete */
+	      instanceOutput = output;
+	      instanceBuffer = new java.io.ByteArrayOutputStream();
+	      if (cache != null) {
+	        /* the fingerprint is computed while the instance is emitted */
+	        try {
+	          fingerprint = java.security.MessageDigest.getInstance ("SHA-256");
+	        } catch (java.security.NoSuchAlgorithmException e) {
+	          throw new Error (e);
+	        }
+	        output = new java.io.PrintStream (
+	                   new java.security.DigestOutputStream (instanceBuffer,
+	                                                         fingerprint));
+	      } else {
+	        output = new java.io.PrintStream (instanceBuffer);
+	      }
+	      if (profile != null)
+	        output = profile.emission (output);
+	    }
+	    if (family != null)
+	    {
+	      Families.write (family, logic, familyMax > familySize ?
+	                      familySize + fileId : familySize,
+	                      chainLength, smtlib1, version, output);
+	    }
+	    else
+	    {
 	    if (smtlib1)
 	    {
 	    	output.println ("(benchmark fuzzsmt" + version);
 	    	output.println (":logic " + logic.toString());
-	    	output.println (":status unknown");
+	    	output.println (":status " + (plant ? "sat" : equiv ? "unsat" : "unknown"));
 	    }
 	    else
 	    {
 			output.println("(set-info :source | fuzzsmt "+ version +" |)");
+			if (checkModel)
+				output.println("(set-option :produce-models true)");
 			output.println("(set-logic  " + logic.toString() + ")");
-			output.println("(set-info :status unknown)");
+			output.println("(set-info :status " +
+			               (plant ? "sat" : equiv ? "unsat" : "unknown") + ")");
 	    }
 	    switch (logic) {
 	      case QF_BV:
@@ -4698,9 +6478,15 @@ public class FuzzSMT {
 	        generateUFuncsBV (r, uFuncs, numUFuncs, minArgs, maxArgs, minBW, maxBW);
 	        generateUPredsBV (r, uPreds, numUPreds, minArgs, maxArgs, minBW, maxBW);
 	        generateBVVars (r, bvNodes, numVars, minBW, maxBW);
+	        if (corpus != null)
+	          generateCorpusVars (r, corpusTerms, maxBW, logic == SMTLogic.QF_UFBV,
+	                              imported, importedNames, bvNodes, uFuncs, uPreds);
 	       	output.println (startFormula());
 	        
 	        pars += generateBVConsts (r, bvNodes, numConsts, minBW, maxBW); 
+	        if (corpus != null)
+	          pars += generateCorpusLayer (imported, importedNames, bvNodes,
+	                                       boolNodes);
 	        pars += generateBVLayer (r, bvNodes, minRefs, minBW, maxBW, bvDivMode,
 	                                 BVDivGuards, false, uFuncs, uPreds);
 	        pars += generateBVPredicateLayer (r, bvNodes, boolNodes, minRefs,
@@ -4720,6 +6506,9 @@ public class FuzzSMT {
 	        generateUPredsBV (r, uPreds, numUPreds, minArgs, maxArgs, minBW, maxBW);
 	        generateBVVars (r, bvNodes, numVars, minBW, maxBW);
 	        generateBVArrayVars (r, arrayNodes, numArrays, minBW, maxBW);
+	        if (corpus != null)
+	          generateCorpusVars (r, corpusTerms, maxBW, logic == SMTLogic.QF_AUFBV,
+	                              imported, importedNames, bvNodes, uFuncs, uPreds);
 	        output.println(startFormula());
 	
 	        /* half of extensional array equalities are encoded intot bit-vector, 
@@ -4730,6 +6519,9 @@ public class FuzzSMT {
 	        }
 	
 	        pars += generateBVConsts (r, bvNodes, numConsts, minBW, maxBW); 
+	        if (corpus != null)
+	          pars += generateCorpusLayer (imported, importedNames, bvNodes,
+	                                       boolNodes);
 	        pars += generateBVLayer (r, bvNodes, minRefs, minBW, maxBW, bvDivMode,
 	                                 BVDivGuards, true, uFuncs, uPreds);
 	        /* interleave creation of layers to ensure that
@@ -4767,9 +6559,9 @@ public class FuzzSMT {
 	      case QF_A: 
 	      case QF_AX: {
 	        int numWritesH, numReadsH;
-	        SMTType indexType = new UType ("Index");
-	        SMTType elementType = new UType ("Element");
-	        SMTType arrayType = new ArrayTypeFromTo(indexType,elementType);
+	        SMTType indexType = UType.get ("Index");
+	        SMTType elementType = UType.get ("Element");
+	        SMTType arrayType = ArrayTypeFromTo.get (indexType,elementType);
 	        if (!smtlib1)
 	        {
 	        	output.println("(declare-sort Index 0)");
@@ -4838,7 +6630,7 @@ public class FuzzSMT {
 	        ArrayList<UPred> uPredsArray = new ArrayList<UPred>();
 	
 	        
-	        SMTType arrayType = new ArrayTypeFromTo(IntType.intType, IntType.intType);
+	        SMTType arrayType = ArrayTypeFromTo.get (IntType.intType, IntType.intType);
 	        sortsInt.add (IntType.intType);
 	        sortsArray.add (arrayType);
 	
@@ -5295,21 +7087,134 @@ public class FuzzSMT {
 	      assert (boolNodes.size() == 1);
 	      assert (boolNodes.get(0).getType() == BoolType.boolType);
 	    }
-	    output.println (boolNodes.get(0).getName());
-	   
+	    if (equiv) {
+	      builder = new StringBuilder (pars);
+	      for (int i = 0; i < pars; i++)
+	        builder.append (")");
+	      output.flush();
+	      try {
+	        pars += generateEquivalenceLayer (r, boolNodes,
+	                                          instanceBuffer.toString(),
+	                                          builder.toString());
+	      } catch (RuntimeException e) {
+	        generatorError = "equiv: " + e.getMessage();
+	      }
+	    }
 	    builder = new StringBuilder (pars);
 	    for (int i = 0; i < pars; i++)
 	      builder.append (")");
 	    builder.append ("\n");
+	    if (plant) {
+	      output.flush();
+	      try {
+	        output.println (PlantedModel.plantRoot (newRandom (r.nextLong()),
+	                                                instanceBuffer.toString(),
+	                                                boolNodes.get(0).getName(),
+	                                                builder.toString(),
+	                                                Math.max (maxBW, 4)));
+	      } catch (RuntimeException e) {
+	        generatorError = "plant: " + e.getMessage();
+	        output.println (boolNodes.get(0).getName());
+	      }
+	    } else {
+	      output.println (boolNodes.get(0).getName());
+	    }
 	    output.print(builder.toString());
 	    if (smtlib1)
 	    	output.println("");
 	    else
 	    	output.println("(check-sat)");
+	    if (checkModel)
+	    	output.println("(get-model)");
+	    }
+	    if (!buffered) {
+	      output.flush();
+	      if (profile != null)
+	        profile.endInstance();
+	      recordInstance (instanceEvent, logic, seed, fileId,
+	                      SMTNode.getNodeCtr() - firstNode, instanceBytes,
+	                      instanceStart);
+	    } else {
+	      output.flush();
+	      output = instanceOutput;
+	      try {
+	        if (generatorError == null)
+	          instanceBuffer.writeTo (output);
+	        else /* the status given in the header does not hold */
+	          output.print (instanceBuffer.toString().replaceFirst (
+	                          ":status \\w+", ":status unknown"));
+	      } catch (java.io.IOException e) {
+	        throw new Error (e);
+	      }
+	      output.flush();
+	      if (profile != null)
+	        profile.endInstance();
+	      recordInstance (instanceEvent, logic, seed, fileId,
+	                      SMTNode.getNodeCtr() - firstNode, instanceBytes,
+	                      instanceStart);
+	      if (arena != null)
+	        fileName = arenaPath + "#" + fileId;
+	      else if (familyMax > familySize)
+	        fileName = familyFileName (bulkPrefix, family, familySize + fileId);
+	      else
+	        fileName = bulkPrefix + "_file_" + fileId + fileSuffix();
+	      if (generatorError != null) {
+	        /* not passed to the hooks, whose checks would not hold */
+	        System.err.println ((bulkExport == 0 ? "instance" : fileName) +
+	                            ": GENERATOR ERROR " + generatorError);
+	      } else if (!hooks.isEmpty()) {
+	        instance = new BufferedInstance();
+	        instance.buffer = instanceBuffer;
+	        instance.text = instanceBuffer.toString();
+	        instance.fileId = fileId;
+	        instance.fileName = fileName;
+	        instance.name = bulkExport == 0 ? "instance" : fileName;
+	        if (cache != null)
+	          instance.fingerprint = Arrays.copyOf (fingerprint.digest(), 16);
+	        instance.nodes = SMTNode.getNodeCtr() - firstNode;
+	        for (InstanceHook hook : hooks)
+	          if (!hook.handle (instance))
+	            break;
+	        if (instance.report != null)
+	          report = instance.report;
+	      }
+	    }
+	    if (execCommand != null)
+	      runExecHook (execCommand, familyMax > familySize ?
+	                   familyFileName (bulkPrefix, family, familySize + fileId) :
+	                   bulkPrefix + "_file_" + fileId + fileSuffix());
 	 
     }
     output.close();
-    System.exit (0);
+    if (fastPool != null) {
+      fastPool.shutdown();
+      heavyPool.shutdown();
+      try {
+        fastPool.awaitTermination (Long.MAX_VALUE, java.util.concurrent.TimeUnit.SECONDS);
+        heavyPool.awaitTermination (Long.MAX_VALUE, java.util.concurrent.TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        throw new Error (e);
+      }
+    }
+    if (validatePool != null) {
+      validatePool.shutdown();
+      try {
+        validatePool.awaitTermination (Long.MAX_VALUE, java.util.concurrent.TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        throw new Error (e);
+      }
+      if (onlyFileId < 0)
+        System.err.println ("validate: " + numValidated.get() + " instances, " +
+                            illSorted.get() + " ill-sorted");
+    }
+    if (cache != null && onlyFileId < 0)
+      System.err.println ("cache: " + cache.getHits() + " hits, " +
+                          cache.getMisses() + " misses");
+    if (perf != null && onlyFileId < 0)
+      printPerfSummary();
+    if (profile != null && onlyFileId < 0)
+      System.err.print (profile);
+    return report;
     }
 
 }
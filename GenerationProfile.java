@@ -0,0 +1,211 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.io.*;
+import java.util.*;
+
+/* time spent in the phases of generating instances. Every phase is a
+ * span measured with System.nanoTime, spans of the same phase within one
+ * instance are summed up. Phases nest: the span of a layer includes the
+ * time its output is emitted, which is also recorded as phase "emission",
+ * and emission includes writing the bytes, recorded as phase "io".
+ * Phase "instance" spans the generation of a whole instance. */
+public class GenerationProfile {
+
+  protected LinkedHashMap<String, long[]> current; /* calls, nanos */
+
+  protected LinkedHashMap<String, ArrayList<Long>> instances;
+
+  protected HashMap<String, Long> calls;
+
+  protected ArrayList<Long> bytes;
+
+  protected long currentBytes;
+
+  protected long instanceStart; /* -1 if no instance is generated */
+
+  public GenerationProfile (){
+    this.current = new LinkedHashMap<String, long[]>();
+    this.instances = new LinkedHashMap<String, ArrayList<Long>>();
+    this.calls = new HashMap<String, Long>();
+    this.bytes = new ArrayList<Long>();
+    this.instanceStart = -1;
+  }
+
+  public void beginInstance (){
+    assert (this.instanceStart < 0);
+    this.instanceStart = System.nanoTime();
+  }
+
+  /* adds the span of 'phase' which started at 'start' */
+  public void add (String phase, long start){
+    long []entry;
+
+    assert (phase != null);
+    entry = this.current.get (phase);
+    if (entry == null) {
+      entry = new long[2];
+      this.current.put (phase, entry);
+    }
+    entry[0]++;
+    entry[1] += System.nanoTime() - start;
+  }
+
+  public void endInstance (){
+    ArrayList<Long> samples;
+    Long n;
+
+    assert (this.instanceStart >= 0);
+    add ("instance", this.instanceStart);
+    this.instanceStart = -1;
+    for (Map.Entry<String, long[]> entry : this.current.entrySet()) {
+      samples = this.instances.get (entry.getKey());
+      if (samples == null) {
+        samples = new ArrayList<Long>();
+        this.instances.put (entry.getKey(), samples);
+      }
+      samples.add (entry.getValue()[1]);
+      n = this.calls.get (entry.getKey());
+      this.calls.put (entry.getKey(),
+                      (n == null ? 0 : n.longValue()) + entry.getValue()[0]);
+    }
+    this.current.clear();
+    this.bytes.add (this.currentBytes);
+    this.currentBytes = 0;
+  }
+
+  /* 'out' whose prints are recorded as emission and whose bytes are
+   * recorded as io */
+  public PrintStream wrap (PrintStream out){
+    return emission (new PrintStream (new TimedOutputStream (out)));
+  }
+
+  /* 'out' whose prints are recorded as emission */
+  public PrintStream emission (PrintStream out){
+    return new TimedPrintStream (out);
+  }
+
+  private static long percentile (List<Long> sorted, int p){
+    return sorted.get (Math.max (0, (sorted.size() * p + 99) / 100 - 1));
+  }
+
+  private static String millis (long nanos){
+    return String.format ("%.3f", nanos / 1e6);
+  }
+
+  /* per phase totals and percentiles of the time per instance */
+  public String toString (){
+    StringBuilder builder;
+    ArrayList<Long> sorted;
+    long total, all, sum;
+
+    all = 0;
+    if (this.instances.containsKey ("instance"))
+      for (long nanos : this.instances.get ("instance"))
+        all += nanos;
+    sum = 0;
+    for (long n : this.bytes)
+      sum += n;
+    builder = new StringBuilder();
+    builder.append ("profile: " + this.bytes.size() + " instances, " + sum +
+                    " bytes, " + millis (all) + " ms\n");
+    builder.append (String.format ("%-28s %9s %11s %6s %9s %9s %9s %9s\n",
+                                   "phase", "calls", "total ms", "share",
+                                   "p50 ms", "p90 ms", "p99 ms", "max ms"));
+    for (Map.Entry<String, ArrayList<Long>> entry : this.instances.entrySet()) {
+      sorted = new ArrayList<Long>(entry.getValue());
+      Collections.sort (sorted);
+      total = 0;
+      for (long nanos : sorted)
+        total += nanos;
+      builder.append (String.format ("%-28s %9d %11s %5.1f%% %9s %9s %9s %9s\n",
+                                     entry.getKey(),
+                                     this.calls.get (entry.getKey()),
+                                     millis (total),
+                                     all == 0 ? 0.0 : 100.0 * total / all,
+                                     millis (percentile (sorted, 50)),
+                                     millis (percentile (sorted, 90)),
+                                     millis (percentile (sorted, 99)),
+                                     millis (sorted.get (sorted.size() - 1))));
+    }
+    if (!this.bytes.isEmpty()) {
+      sorted = new ArrayList<Long>(this.bytes);
+      Collections.sort (sorted);
+      builder.append (String.format ("%-28s %9s %11d %6s %9d %9d %9d %9d\n",
+                                     "bytes", "", sum, "",
+                                     percentile (sorted, 50),
+                                     percentile (sorted, 90),
+                                     percentile (sorted, 99),
+                                     sorted.get (sorted.size() - 1)));
+    }
+    return builder.toString();
+  }
+
+  private class TimedOutputStream extends OutputStream {
+
+    private OutputStream out;
+
+    TimedOutputStream (OutputStream out){
+      this.out = out;
+    }
+
+    public void write (int b) throws IOException {
+      long start = System.nanoTime();
+
+      this.out.write (b);
+      currentBytes++;
+      add ("io", start);
+    }
+
+    public void write (byte []b, int off, int len) throws IOException {
+      long start = System.nanoTime();
+
+      this.out.write (b, off, len);
+      currentBytes += len;
+      add ("io", start);
+    }
+
+    public void flush () throws IOException {
+      long start = System.nanoTime();
+
+      this.out.flush();
+      add ("io", start);
+    }
+
+    public void close () throws IOException {
+      this.out.close();
+    }
+  }
+
+  private class TimedPrintStream extends PrintStream {
+
+    TimedPrintStream (OutputStream out){
+      super (out);
+    }
+
+    /* println (String) prints through print (String) */
+    public void print (String s){
+      long start = System.nanoTime();
+
+      super.print (s);
+      add ("emission", start);
+    }
+  }
+
+}
@@ -0,0 +1,166 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+
+/* single file holding many instances, written through a memory mapped
+ * window which is moved forward as the file grows.
+ * The index file next to the arena holds one record
+ *   long offset, int length
+ * (big endian) per instance, so instance i is the slice of the arena
+ * described by the 12 bytes at offset 12 * i of the index. */
+public class InstanceArena extends OutputStream {
+
+  public static final String INDEX_SUFFIX = ".idx";
+
+  private static final int WINDOW = 1 << 26;
+
+  private static final int RECORD = 12;
+
+  protected RandomAccessFile file;
+
+  protected FileChannel channel;
+
+  protected MappedByteBuffer window;
+
+  protected long windowStart;
+
+  protected long start; /* of the current instance, -1 if there is none */
+
+  protected DataOutputStream index;
+
+  protected int count;
+
+  public InstanceArena (File path) throws IOException {
+    assert (path != null);
+    this.file = new RandomAccessFile (path, "rw");
+    this.file.setLength (0);
+    this.channel = this.file.getChannel();
+    this.windowStart = 0;
+    this.window = this.channel.map (FileChannel.MapMode.READ_WRITE, 0, WINDOW);
+    this.start = -1;
+    this.index = new DataOutputStream (new BufferedOutputStream (
+                   new FileOutputStream (indexFile (path))));
+  }
+
+  public static File indexFile (File arena){
+    return new File (arena.getPath() + INDEX_SUFFIX);
+  }
+
+  private long position (){
+    return this.windowStart + this.window.position();
+  }
+
+  private void remap () throws IOException {
+    this.windowStart = position();
+    this.window = this.channel.map (FileChannel.MapMode.READ_WRITE,
+                                    this.windowStart, WINDOW);
+  }
+
+  public void write (int b) throws IOException {
+    if (!this.window.hasRemaining())
+      remap();
+    this.window.put ((byte) b);
+  }
+
+  public void write (byte []b, int off, int len) throws IOException {
+    int n;
+
+    while (len > 0) {
+      if (!this.window.hasRemaining())
+        remap();
+      n = Math.min (len, this.window.remaining());
+      this.window.put (b, off, n);
+      off += n;
+      len -= n;
+    }
+  }
+
+  /* stream printing into the arena */
+  public PrintStream printStream (){
+    return new PrintStream (this);
+  }
+
+  /* starts a new instance at the current end of the arena */
+  public void begin (){
+    assert (this.start < 0);
+    this.start = position();
+  }
+
+  /* ends the current instance and adds it to the index */
+  public void end () throws IOException {
+    assert (this.start >= 0);
+    assert (position() - this.start <= Integer.MAX_VALUE);
+    this.index.writeLong (this.start);
+    this.index.writeInt ((int) (position() - this.start));
+    this.start = -1;
+    this.count++;
+  }
+
+  /* number of instances ended so far */
+  public int getCount(){
+    return this.count;
+  }
+
+  public void close () throws IOException {
+    long size;
+
+    if (this.start >= 0)
+      end();
+    this.index.close();
+    size = position();
+    this.window.force();
+    this.window = null;
+    this.channel.truncate (size);
+    this.file.close();
+  }
+
+  /* number of instances in 'arena' */
+  public static int size (File arena){
+    return (int) (indexFile (arena).length() / RECORD);
+  }
+
+  /* read only view of instance 'i' of 'arena', mapped without copying */
+  public static ByteBuffer get (File arena, int i) throws IOException {
+    RandomAccessFile idx, data;
+    long offset;
+    int length;
+
+    assert (arena != null);
+    assert (i >= 0);
+    idx = new RandomAccessFile (indexFile (arena), "r");
+    try {
+      idx.seek ((long) i * RECORD);
+      offset = idx.readLong();
+      length = idx.readInt();
+    } finally {
+      idx.close();
+    }
+    data = new RandomAccessFile (arena, "r");
+    try {
+      return data.getChannel().map (FileChannel.MapMode.READ_ONLY, offset,
+                                    length);
+    } finally {
+      data.close();
+    }
+  }
+
+}
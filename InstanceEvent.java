@@ -0,0 +1,47 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import jdk.jfr.*;
+
+/* flight recorder event spanning the generation of one instance */
+@Name ("fuzzsmt.Instance")
+@Label ("Instance")
+@Category ("FuzzSMT")
+public class InstanceEvent extends Event {
+
+  @Label ("Logic")
+  public String logic;
+
+  @Label ("Seed")
+  @Description ("Seed of the random number generator, shared by the " +
+                "instances of a bulk export unless it is a campaign")
+  public long seed;
+
+  @Label ("File Id")
+  public int fileId;
+
+  @Label ("Nodes")
+  public long nodes;
+
+  @Label ("Bytes")
+  @Description ("Size of the instance as SMT-LIB text")
+  @DataAmount
+  public long bytes;
+
+}
@@ -0,0 +1,94 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+/* features of a generated instance which are collected while it is
+ * generated, used to predict how expensive it is to solve */
+public class InstanceFeatures {
+
+  protected int []kinds;
+
+  protected int maxWidth;
+
+  protected int quantifierDepth;
+
+  public InstanceFeatures (){
+    this.kinds = new int[SMTNodeKind.values().length];
+  }
+
+  public void addKind (SMTNodeKind kind){
+    assert (kind != null);
+    this.kinds[kind.ordinal()]++;
+  }
+
+  public void addWidth (int width){
+    if (width > this.maxWidth)
+      this.maxWidth = width;
+  }
+
+  public void addQuantifiers (int depth){
+    if (depth > this.quantifierDepth)
+      this.quantifierDepth = depth;
+  }
+
+  public int getCount (SMTNodeKind kind){
+    return this.kinds[kind.ordinal()];
+  }
+
+  public int getOperators (){
+    int result = 0;
+
+    for (int i = 0; i < this.kinds.length; i++)
+      result += this.kinds[i];
+    return result;
+  }
+
+  /* multiplications, divisions and remainders, which are bit-blasted
+   * into circuits quadratic in the bit-width or use non-linear arithmetic */
+  public int getNonLinear (){
+    return getCount (SMTNodeKind.BVMUL) + getCount (SMTNodeKind.BVUDIV) +
+           getCount (SMTNodeKind.BVUREM) + getCount (SMTNodeKind.BVSDIV) +
+           getCount (SMTNodeKind.BVSREM) + getCount (SMTNodeKind.BVSMOD) +
+           getCount (SMTNodeKind.MUL) + getCount (SMTNodeKind.DIV);
+  }
+
+  /* predicted cost of solving the instance, in arbitrary units. Every
+   * operator costs one unit, non-linear operators cost in addition the
+   * size of a multiplier of the maximum bit-width, reads and writes cost
+   * the number of writes as each read may be on top of any write, and
+   * every level of quantifier nesting doubles the cost */
+  public long getCost (){
+    long result, width;
+
+    width = Math.max (this.maxWidth, 1);
+    result = getOperators();
+    result += getNonLinear() * width * width;
+    result += (long) (getCount (SMTNodeKind.SELECT) + 1) *
+              getCount (SMTNodeKind.STORE);
+    return result << Math.min (this.quantifierDepth, 20);
+  }
+
+  public String toString (){
+    return "cost " + getCost() + " (" + getOperators() + " operators, " +
+           getNonLinear() + " non-linear, width " + this.maxWidth + ", " +
+           getCount (SMTNodeKind.SELECT) + " reads, " +
+           getCount (SMTNodeKind.STORE) + " writes, quantifier depth " +
+           this.quantifierDepth + ")";
+  }
+
+}
@@ -0,0 +1,205 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.io.*;
+import java.util.concurrent.*;
+
+/* SMT-LIB 2 solver which is kept alive between instances.
+ * Each instance is followed by an echo of a marker, so the response of
+ * the solver is read line by line up to the marker, and by (reset). The
+ * process is only restarted after a crash or a timeout. */
+public class InteractiveSolver extends Solver {
+
+  private static final String MARKER = "fuzzsmt-end-of-instance";
+
+  private static final String EOF = new String ("");
+
+  protected Process process;
+
+  protected OutputStream in;
+
+  protected LinkedBlockingQueue<String> lines;
+
+  protected int restarts;
+
+  public InteractiveSolver (String []command, long timeout){
+    super (command, timeout);
+  }
+
+  public static InteractiveSolver fromCommandLine (String commandLine,
+                                                   long timeout){
+    assert (commandLine != null);
+    return new InteractiveSolver (commandLine.trim().split ("\\s+"), timeout);
+  }
+
+  /* number of times the solver has been started again */
+  public int getRestarts(){
+    return this.restarts;
+  }
+
+  private void start () throws IOException {
+    ProcessBuilder builder;
+    final BufferedReader out;
+    final LinkedBlockingQueue<String> queue;
+    Thread reader;
+
+    builder = new ProcessBuilder (this.command);
+    builder.redirectErrorStream (true);
+    this.process = builder.start();
+    this.in = this.process.getOutputStream();
+    out = new BufferedReader (new InputStreamReader (this.process.getInputStream()));
+    queue = new LinkedBlockingQueue<String>();
+    this.lines = queue;
+    reader = new Thread() {
+      public void run(){
+        String line;
+
+        try {
+          while ((line = out.readLine()) != null)
+            queue.add (line);
+        } catch (IOException e) {
+          /* process has been killed */
+        }
+        queue.add (EOF);
+      }
+    };
+    reader.setDaemon (true);
+    reader.start();
+  }
+
+  private void kill (){
+    this.process.destroyForcibly();
+    try {
+      this.process.waitFor();
+    } catch (InterruptedException e) {
+      throw new Error (e);
+    }
+    this.process = null;
+  }
+
+  /* true if 'line' echoes the marker. Some solvers print the echoed
+   * string with its quotes, as in (echo "..."), others without them */
+  private static boolean isMarker (String line){
+    String trimmed;
+
+    trimmed = line.trim();
+    if (trimmed.length() >= 2 && trimmed.charAt (0) == '"' &&
+        trimmed.charAt (trimmed.length() - 1) == '"')
+      trimmed = trimmed.substring (1, trimmed.length() - 1);
+    return trimmed.equals (MARKER);
+  }
+
+  protected SolverResult run (String instance){
+    final byte []bytes;
+    final OutputStream stdin;
+    StringBuilder output;
+    Thread writer;
+    String line;
+    long start, left;
+    int exitCode;
+
+    assert (instance != null);
+    if (this.process != null && !this.process.isAlive())
+      kill();
+    if (this.process == null) {
+      try {
+        start();
+      } catch (IOException e) {
+        this.process = null;
+        return new SolverResult (SolverResult.Status.ERROR,
+                                 e.getMessage() + "\n", -1, 0);
+      }
+    }
+    bytes = (instance + "(echo \"" + MARKER + "\")\n").getBytes();
+    stdin = this.in;
+    writer = new Thread() {
+      public void run(){
+        try {
+          stdin.write (bytes);
+          stdin.flush();
+        } catch (IOException e) {
+          /* solver exited before reading the whole instance */
+        }
+      }
+    };
+    writer.setDaemon (true);
+    output = new StringBuilder();
+    start = System.currentTimeMillis();
+    writer.start();
+    try {
+      while (true) {
+        if (this.timeout > 0) {
+          left = start + this.timeout - System.currentTimeMillis();
+          line = left > 0 ? this.lines.poll (left, TimeUnit.MILLISECONDS) : null;
+        } else {
+          line = this.lines.take();
+        }
+        if (line == null) {
+          kill();
+          this.restarts++;
+          return new SolverResult (SolverResult.Status.TIMEOUT,
+                                   output.toString(), -1,
+                                   System.currentTimeMillis() - start);
+        }
+        if (line == EOF) {
+          exitCode = this.process.waitFor();
+          kill();
+          this.restarts++;
+          return new SolverResult (SolverResult.Status.ERROR,
+                                   output.toString(), exitCode,
+                                   System.currentTimeMillis() - start);
+        }
+        if (isMarker (line))
+          break;
+        output.append (line);
+        output.append ("\n");
+      }
+      writer.join();
+    } catch (InterruptedException e) {
+      kill();
+      throw new Error (e);
+    }
+    try {
+      this.in.write ("(reset)\n".getBytes());
+      this.in.flush();
+    } catch (IOException e) {
+      /* solver exited, it is started again for the next instance */
+    }
+    return new SolverResult (parseStatus (output.toString()), output.toString(),
+                             0, System.currentTimeMillis() - start);
+  }
+
+  public void close (){
+    if (this.process == null)
+      return;
+    try {
+      this.in.write ("(exit)\n".getBytes());
+      this.in.close();
+      if (!this.process.waitFor (1, TimeUnit.SECONDS))
+        kill();
+    } catch (IOException e) {
+      kill();
+    } catch (InterruptedException e) {
+      kill();
+      throw new Error (e);
+    }
+    this.process = null;
+  }
+
+}
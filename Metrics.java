@@ -0,0 +1,195 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import com.sun.net.httpserver.*;
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/* counters of a run which are served in the Prometheus text format on
+ * http://localhost:<port>/metrics. Solvers may run in pools, so all
+ * updates are synchronized. */
+public class Metrics {
+
+  /* upper bounds of the generation latency buckets in seconds */
+  private static final double []BUCKETS =
+    {0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5, 10, 60};
+
+  protected TreeMap<String, Long> instances; /* by logic */
+
+  protected TreeMap<String, Long> bytes; /* by logic */
+
+  protected long []latency; /* instances per bucket, not cumulative */
+
+  protected long latencyCount;
+
+  protected double latencySum; /* seconds */
+
+  protected TreeMap<String, Long> outcomes; /* by solver and status */
+
+  protected long disagreements;
+
+  protected long failures;
+
+  protected LinkedHashMap<String, ThreadPoolExecutor> queues; /* by pool */
+
+  protected HttpServer server;
+
+  public Metrics (){
+    this.instances = new TreeMap<String, Long>();
+    this.bytes = new TreeMap<String, Long>();
+    this.latency = new long[BUCKETS.length + 1];
+    this.outcomes = new TreeMap<String, Long>();
+    this.queues = new LinkedHashMap<String, ThreadPoolExecutor>();
+  }
+
+  /* starts serving on the loopback interface */
+  public void serve (int port) throws IOException {
+    assert (this.server == null);
+    this.server = HttpServer.create (
+                    new InetSocketAddress (InetAddress.getLoopbackAddress(),
+                                           port), 0);
+    this.server.createContext ("/metrics", new HttpHandler() {
+      public void handle (HttpExchange exchange) throws IOException {
+        byte []body;
+
+        body = Metrics.this.toString().getBytes ("UTF-8");
+        exchange.getResponseHeaders().set ("Content-Type",
+                                           "text/plain; version=0.0.4");
+        exchange.sendResponseHeaders (200, body.length);
+        exchange.getResponseBody().write (body);
+        exchange.close();
+      }
+    });
+    this.server.start();
+  }
+
+  private static void increment (Map<String, Long> counters, String key,
+                                 long amount){
+    Long old;
+
+    old = counters.get (key);
+    counters.put (key, old == null ? amount : old + amount);
+  }
+
+  /* an instance of 'logic' with 'size' bytes generated in 'nanos' */
+  public synchronized void instance (SMTLogic logic, long size, long nanos){
+    double seconds;
+    int i;
+
+    assert (logic != null);
+    assert (size >= 0);
+    increment (this.instances, logic.toString(), 1);
+    increment (this.bytes, logic.toString(), size);
+    seconds = nanos / 1e9;
+    for (i = 0; i < BUCKETS.length && seconds > BUCKETS[i]; i++)
+      ;
+    this.latency[i]++;
+    this.latencyCount++;
+    this.latencySum += seconds;
+  }
+
+  /* 'result' of 'solver', including cached ones */
+  public synchronized void outcome (Solver solver, SolverResult result){
+    assert (solver != null);
+    assert (result != null);
+    increment (this.outcomes, "solver=\"" + escape (solver.getName()) +
+               "\",status=\"" + result.getStatus() + "\"", 1);
+  }
+
+  /* an instance which failed, 'disagreement' if solvers answered sat
+   * and unsat */
+  public synchronized void failure (boolean disagreement){
+    this.failures++;
+    if (disagreement)
+      this.disagreements++;
+  }
+
+  /* reports the number of instances waiting in 'pool' as 'name' */
+  public synchronized void addQueue (String name, ExecutorService pool){
+    assert (name != null);
+    assert (pool instanceof ThreadPoolExecutor);
+    this.queues.put (name, (ThreadPoolExecutor) pool);
+  }
+
+  private static String escape (String value){
+    return value.replace ("\\", "\\\\").replace ("\"", "\\\"")
+                .replace ("\n", "\\n");
+  }
+
+  private static void header (StringBuilder builder, String name, String type,
+                              String help){
+    builder.append ("# HELP " + name + " " + help + "\n");
+    builder.append ("# TYPE " + name + " " + type + "\n");
+  }
+
+  private static void counters (StringBuilder builder, String name,
+                                String label, Map<String, Long> counters){
+    for (Map.Entry<String, Long> entry : counters.entrySet()) {
+      builder.append (name + "{" + label + "=\"" + escape (entry.getKey()) +
+                      "\"} " + entry.getValue() + "\n");
+    }
+  }
+
+  /* all metrics in the Prometheus text format */
+  public synchronized String toString (){
+    StringBuilder builder;
+    long cumulative;
+
+    builder = new StringBuilder();
+    header (builder, "fuzzsmt_instances_total", "counter",
+            "Instances generated.");
+    counters (builder, "fuzzsmt_instances_total", "logic", this.instances);
+    header (builder, "fuzzsmt_bytes_written_total", "counter",
+            "Bytes of SMT-LIB text written.");
+    counters (builder, "fuzzsmt_bytes_written_total", "logic", this.bytes);
+    header (builder, "fuzzsmt_generation_seconds", "histogram",
+            "Time to generate and write one instance.");
+    cumulative = 0;
+    for (int i = 0; i < BUCKETS.length; i++) {
+      cumulative += this.latency[i];
+      builder.append ("fuzzsmt_generation_seconds_bucket{le=\"" + BUCKETS[i] +
+                      "\"} " + cumulative + "\n");
+    }
+    builder.append ("fuzzsmt_generation_seconds_bucket{le=\"+Inf\"} " +
+                    this.latencyCount + "\n");
+    builder.append ("fuzzsmt_generation_seconds_sum " + this.latencySum + "\n");
+    builder.append ("fuzzsmt_generation_seconds_count " + this.latencyCount +
+                    "\n");
+    header (builder, "fuzzsmt_solver_results_total", "counter",
+            "Solver results by status, timeouts have status timeout.");
+    for (Map.Entry<String, Long> entry : this.outcomes.entrySet())
+      builder.append ("fuzzsmt_solver_results_total{" + entry.getKey() + "} " +
+                      entry.getValue() + "\n");
+    header (builder, "fuzzsmt_failures_total", "counter",
+            "Instances with a crash, wrong status, wrong model or disagreement.");
+    builder.append ("fuzzsmt_failures_total " + this.failures + "\n");
+    header (builder, "fuzzsmt_disagreements_total", "counter",
+            "Instances answered sat by one solver and unsat by another.");
+    builder.append ("fuzzsmt_disagreements_total " + this.disagreements + "\n");
+    header (builder, "fuzzsmt_queue_depth", "gauge",
+            "Instances waiting for a solver.");
+    for (Map.Entry<String, ThreadPoolExecutor> entry : this.queues.entrySet())
+      builder.append ("fuzzsmt_queue_depth{pool=\"" + entry.getKey() + "\"} " +
+                      entry.getValue().getQueue().size() + "\n");
+    return builder.toString();
+  }
+
+}
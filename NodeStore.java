@@ -0,0 +1,128 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.util.*;
+
+/* nodes of instances too large for SMTNode objects. A node is its index,
+ * its name is derived from the index by the generator, and its type is
+ * stored as an int id. The nodes of each type are listed as well, so
+ * operands of a type can be selected, which takes 8 bytes per node in
+ * total. Ints are kept in chunks of 2^20, so the store grows without
+ * copying and without allocating huge arrays. */
+public class NodeStore {
+
+  private static final int CHUNK_BITS = 20;
+
+  private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+  /* growable list of ints in chunks */
+  private static class IntList {
+
+    protected ArrayList<int[]> chunks;
+
+    protected int size;
+
+    protected IntList (){
+      this.chunks = new ArrayList<int[]>();
+    }
+
+    protected void add (int value){
+      if ((this.size & (CHUNK_SIZE - 1)) == 0)
+        this.chunks.add (new int[CHUNK_SIZE]);
+      this.chunks.get (this.size >>> CHUNK_BITS)[this.size & (CHUNK_SIZE - 1)] =
+        value;
+      this.size++;
+    }
+
+    protected int get (int index){
+      assert (index >= 0);
+      assert (index < this.size);
+      return this.chunks.get (index >>> CHUNK_BITS)[index & (CHUNK_SIZE - 1)];
+    }
+
+  }
+
+  protected ArrayList<SMTType> types; /* by id */
+
+  protected IdentityHashMap<SMTType, Integer> typeIds; /* types are interned */
+
+  protected IntList nodeTypes; /* type id by node */
+
+  protected ArrayList<IntList> nodesOfType; /* by type id */
+
+  public NodeStore (){
+    this.types = new ArrayList<SMTType>();
+    this.typeIds = new IdentityHashMap<SMTType, Integer>();
+    this.nodeTypes = new IntList();
+    this.nodesOfType = new ArrayList<IntList>();
+  }
+
+  protected int getTypeId (SMTType type){
+    Integer id;
+
+    assert (type != null);
+    id = this.typeIds.get (type);
+    if (id == null) {
+      id = this.types.size();
+      this.types.add (type);
+      this.typeIds.put (type, id);
+      this.nodesOfType.add (new IntList());
+    }
+    return id;
+  }
+
+  /* adds a node of 'type' and returns it */
+  public int add (SMTType type){
+    int node, id;
+
+    node = this.nodeTypes.size;
+    assert (node < Integer.MAX_VALUE);
+    id = getTypeId (type);
+    this.nodeTypes.add (id);
+    this.nodesOfType.get (id).add (node);
+    return node;
+  }
+
+  public int size (){
+    return this.nodeTypes.size;
+  }
+
+  public SMTType getType (int node){
+    return this.types.get (this.nodeTypes.get (node));
+  }
+
+  /* number of nodes of 'type' */
+  public int size (SMTType type){
+    Integer id;
+
+    id = this.typeIds.get (type);
+    return id == null ? 0 : this.nodesOfType.get (id).size;
+  }
+
+  /* random node of 'type', of which there must be at least one */
+  public int select (Random r, SMTType type){
+    IntList nodes;
+
+    assert (r != null);
+    assert (size (type) > 0);
+    nodes = this.nodesOfType.get (this.typeIds.get (type));
+    return nodes.get (r.nextInt (nodes.size));
+  }
+
+}
@@ -0,0 +1,237 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.io.*;
+import java.util.*;
+
+/* compares the performance of two builds of a solver. Each instance is
+ * solved 'repeat' times by both builds in turns, so load changes hit
+ * both alike, and the medians of their times and peak memories are
+ * compared. Instances on which the new build is more than 'timeRatio'
+ * times slower or needs more than 'memoryRatio' times the memory are
+ * kept in 'dir' and logged in its regressions.log. Differences below
+ * MIN_TIME and MIN_MEMORY are noise of process start-up and ignored.
+ * The generator features of the regressing instances are summed up to
+ * show which operators they have more of than the others. */
+public class PerfComparison {
+
+  /* times in milliseconds below which slowdowns are not reported */
+  private static final long MIN_TIME = 100;
+
+  /* peak memories in kilobytes below which growth is not reported */
+  private static final long MIN_MEMORY = 16384;
+
+  /* operator kinds listed in the summary */
+  private static final int TOP_KINDS = 5;
+
+  protected File dir;
+
+  protected int repeat;
+
+  protected double timeRatio;
+
+  protected double memoryRatio;
+
+  protected int numInstances;
+
+  protected int numSlower;
+
+  protected int numMoreMemory;
+
+  /* features summed over all instances and over the regressing ones */
+  protected long []kinds, regressionKinds;
+
+  protected long []totals, regressionTotals;
+
+  protected int numFeatures, numRegressionFeatures;
+
+  private static final String []totalNames = {"operators", "non-linear",
+                                              "max width", "reads", "writes",
+                                              "quantifier depth", "cost"};
+
+  public PerfComparison (File dir, int repeat, double timeRatio,
+                         double memoryRatio) throws IOException {
+    assert (dir != null);
+    assert (repeat > 0);
+    assert (timeRatio >= 1.0);
+    assert (memoryRatio >= 1.0);
+    if (!dir.isDirectory() && !dir.mkdirs())
+      throw new IOException ("can not create directory " + dir);
+    this.dir = dir;
+    this.repeat = repeat;
+    this.timeRatio = timeRatio;
+    this.memoryRatio = memoryRatio;
+    this.kinds = new long[SMTNodeKind.values().length];
+    this.regressionKinds = new long[SMTNodeKind.values().length];
+    this.totals = new long[totalNames.length];
+    this.regressionTotals = new long[totalNames.length];
+  }
+
+  private static long median (long []values){
+    Arrays.sort (values);
+    return values[values.length / 2];
+  }
+
+  private static void add (InstanceFeatures features, long []kinds,
+                           long []totals){
+    SMTNodeKind []values;
+
+    values = SMTNodeKind.values();
+    for (int i = 0; i < values.length; i++)
+      kinds[i] += features.getCount (values[i]);
+    totals[0] += features.getOperators();
+    totals[1] += features.getNonLinear();
+    totals[2] += features.maxWidth;
+    totals[3] += features.getCount (SMTNodeKind.SELECT);
+    totals[4] += features.getCount (SMTNodeKind.STORE);
+    totals[5] += features.quantifierDepth;
+    totals[6] += features.getCost();
+  }
+
+  /* solves 'instance' named 'name' with the old and the new build, keeps
+   * it if the new build regresses and returns the report. 'features'
+   * are those of the instance, or null if it is not generated. */
+  public String check (Solver oldSolver, Solver newSolver, String instance,
+                       String name, InstanceFeatures features)
+    throws IOException {
+    long []oldTimes, newTimes, oldMemory, newMemory;
+    long oldTime, newTime, oldPeak, newPeak;
+    SolverResult result;
+    StringBuilder report;
+    boolean slower, moreMemory;
+    PrintStream out;
+
+    assert (oldSolver != null);
+    assert (newSolver != null);
+    assert (instance != null);
+    assert (name != null);
+    oldTimes = new long[this.repeat];
+    newTimes = new long[this.repeat];
+    oldMemory = new long[this.repeat];
+    newMemory = new long[this.repeat];
+    for (int i = 0; i < this.repeat; i++) {
+      result = oldSolver.solve (instance);
+      oldTimes[i] = result.getTime();
+      oldMemory[i] = result.getPeakMemory();
+      result = newSolver.solve (instance);
+      newTimes[i] = result.getTime();
+      newMemory[i] = result.getPeakMemory();
+    }
+    oldTime = median (oldTimes);
+    newTime = median (newTimes);
+    oldPeak = median (oldMemory);
+    newPeak = median (newMemory);
+    slower = newTime >= MIN_TIME && newTime > this.timeRatio * oldTime;
+    moreMemory = newPeak >= MIN_MEMORY && newPeak > this.memoryRatio * oldPeak;
+
+    report = new StringBuilder();
+    report.append ("old " + oldTime + " ms " + oldPeak + " kB | new " +
+                   newTime + " ms " + newPeak + " kB");
+    if (slower)
+      report.append (", SLOWER");
+    if (moreMemory)
+      report.append (", MORE MEMORY");
+
+    synchronized (this) {
+      this.numInstances++;
+      if (features != null) {
+        this.numFeatures++;
+        add (features, this.kinds, this.totals);
+      }
+      if (!slower && !moreMemory)
+        return report.toString();
+      if (slower)
+        this.numSlower++;
+      if (moreMemory)
+        this.numMoreMemory++;
+      if (features != null) {
+        this.numRegressionFeatures++;
+        add (features, this.regressionKinds, this.regressionTotals);
+      }
+      out = new PrintStream (new FileOutputStream (new File (this.dir, name)));
+      out.print (instance);
+      out.close();
+      out = new PrintStream (new FileOutputStream (
+                               new File (this.dir, "regressions.log"), true));
+      out.println (name + ": " + report +
+                   (features == null ? "" : ", " + features));
+      out.close();
+    }
+    return report.toString();
+  }
+
+  /* counts of the instances and the mean features of the regressing ones
+   * compared to all, with the operator kinds whose share grows most */
+  public synchronized String summary (){
+    StringBuilder builder;
+    ArrayList<Integer> order;
+    final double []growth;
+    long operators, regressionOperators;
+
+    builder = new StringBuilder();
+    builder.append ("perf: " + this.numInstances + " instances, " +
+                    this.numSlower + " slower, " + this.numMoreMemory +
+                    " with more memory\n");
+    if (this.numRegressionFeatures == 0)
+      return builder.toString();
+    builder.append ("perf: mean features of regressing instances (all instances)\n");
+    for (int i = 0; i < totalNames.length; i++)
+      builder.append (String.format ("  %-17s %12.1f (%.1f)\n", totalNames[i],
+                                     (double) this.regressionTotals[i] /
+                                     this.numRegressionFeatures,
+                                     (double) this.totals[i] /
+                                     this.numFeatures));
+    operators = this.totals[0];
+    regressionOperators = this.regressionTotals[0];
+    if (regressionOperators == 0)
+      return builder.toString();
+    /* share of a kind among the operators of the regressing instances
+     * relative to its share among all operators */
+    growth = new double[this.kinds.length];
+    order = new ArrayList<Integer>();
+    for (int i = 0; i < this.kinds.length; i++) {
+      if (this.regressionKinds[i] == 0)
+        continue;
+      growth[i] = ((double) this.regressionKinds[i] / regressionOperators) /
+                  ((double) this.kinds[i] / operators);
+      order.add (i);
+    }
+    Collections.sort (order, new Comparator<Integer>() {
+      public int compare (Integer a, Integer b){
+        return Double.compare (growth[b], growth[a]);
+      }
+    });
+    builder.append ("perf: operators over-represented in regressing instances\n");
+    for (int i = 0; i < Math.min (TOP_KINDS, order.size()); i++)
+      builder.append (String.format ("  %-17s %.2fx\n",
+                                     SMTNodeKind.values()[order.get (i)],
+                                     growth[order.get (i)]));
+    return builder.toString();
+  }
+
+  /* writes the summary to the summary file of 'dir' */
+  public void writeSummary () throws IOException {
+    PrintStream out;
+
+    out = new PrintStream (new FileOutputStream (new File (this.dir, "summary")));
+    out.print (summary());
+    out.close();
+  }
+
+}
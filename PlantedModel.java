@@ -0,0 +1,154 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.util.*;
+import java.math.*;
+
+/* random model which is fixed lazily: every constant and every function
+ * application gets a random value the first time it is asked for */
+public class PlantedModel implements SMTModel {
+
+  protected Random r;
+
+  protected int bits;
+
+  protected HashMap<String, Object> values;
+
+  protected HashMap<String, HashMap<List<Object>, Object>> tables;
+
+  protected HashMap<String, Integer> domainSizes;
+
+  public PlantedModel (Random r, int bits){
+    assert (r != null);
+    assert (bits > 0);
+    this.r = r;
+    this.bits = bits;
+    this.values = new HashMap<String, Object>();
+    this.tables = new HashMap<String, HashMap<List<Object>, Object>>();
+    this.domainSizes = new HashMap<String, Integer>();
+  }
+
+  /* evaluates the instance 'text' + 'root' + 'closing' under a random
+   * model and returns the root such that the model satisfies it */
+  public static String plantRoot (Random r, String text, String root,
+                                  String closing, int bits){
+    SMTEvaluator evaluator;
+    List<Object> values;
+
+    assert (r != null);
+    assert (text != null);
+    assert (root != null);
+    assert (closing != null);
+    assert (bits > 0);
+    evaluator = new SMTEvaluator (new PlantedModel (r, bits));
+    values = evaluator.execute (SMTEvaluator.parse (text + root + "\n" + closing));
+    assert (values.size() == 1);
+    if (((Boolean) values.get(0)).booleanValue())
+      return root;
+    return "(not " + root + ")";
+  }
+
+  public Object getValue (String name, SMTType type){
+    Object result;
+
+    result = this.values.get (name);
+    if (result == null) {
+      result = randomValue (type);
+      this.values.put (name, result);
+    }
+    return result;
+  }
+
+  public Object apply (String name, Object []args, SMTType type){
+    HashMap<List<Object>, Object> table;
+    List<Object> key;
+    Object result;
+
+    table = this.tables.get (name);
+    if (table == null) {
+      table = new HashMap<List<Object>, Object>();
+      this.tables.put (name, table);
+    }
+    key = Arrays.asList (args);
+    result = table.get (key);
+    if (result == null) {
+      result = randomValue (type);
+      table.put (key, result);
+    }
+    return result;
+  }
+
+  protected BigInteger randomInt(){
+    return new BigInteger (this.bits + 1, this.r).subtract
+      (BigInteger.ONE.shiftLeft (this.bits));
+  }
+
+  public Object randomValue (SMTType type){
+    ArrayTypeFromTo arrayType;
+    ArrayValue result;
+    BigInteger den;
+    String name;
+    int numEntries;
+
+    if (type instanceof BoolType) {
+      return Boolean.valueOf (this.r.nextBoolean());
+    } else if (type instanceof BVType) {
+      return new BVValue (((BVType) type).width,
+                          new BigInteger (((BVType) type).width, this.r));
+    } else if (type instanceof IntType) {
+      return randomInt();
+    } else if (type instanceof RealType) {
+      den = BigInteger.valueOf (1 + this.r.nextInt (this.bits));
+      return SMTEvaluator.normalize (new Rational (randomInt(), den));
+    } else if (type instanceof ArrayTypeFromTo) {
+      arrayType = (ArrayTypeFromTo) type;
+      result = new ArrayValue (randomValue (arrayType.to),
+                               domainSize (arrayType.from));
+      numEntries = this.r.nextInt (this.bits);
+      for (int i = 0; i < numEntries; i++)
+        result = result.store (randomValue (arrayType.from),
+                               randomValue (arrayType.to));
+      return result;
+    }
+    assert (type instanceof UType);
+    name = type.toString (false);
+    return name + "!val!" + this.r.nextInt (uTypeSize (name));
+  }
+
+  /* number of elements of the uninterpreted sort 'name', fixed on first
+   * use */
+  protected int uTypeSize (String name){
+    Integer size;
+
+    size = this.domainSizes.get (name);
+    if (size == null) {
+      size = Integer.valueOf (1 + this.r.nextInt (this.bits));
+      this.domainSizes.put (name, size);
+    }
+    return size.intValue();
+  }
+
+  /* number of values of 'type', null if it is infinite */
+  protected BigInteger domainSize (SMTType type){
+    if (type instanceof UType)
+      return BigInteger.valueOf (uTypeSize (type.toString (false)));
+    return ArrayValue.domainSize (type);
+  }
+
+}
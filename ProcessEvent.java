@@ -0,0 +1,37 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import jdk.jfr.*;
+
+/* flight recorder event spanning one run of an external process, a
+ * solver or the command of -exec */
+@Name ("fuzzsmt.Process")
+@Label ("External Process")
+@Category ("FuzzSMT")
+public class ProcessEvent extends Event {
+
+  @Label ("Command")
+  public String command;
+
+  @Label ("Exit Status")
+  @Description ("-1 if the process timed out or could not be started, " +
+                "0 if an interactive solver answered and keeps running")
+  public int exitStatus;
+
+}
@@ -0,0 +1,144 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.math.*;
+
+/* exact rational numbers, used to evaluate real terms */
+public class Rational implements Comparable<Rational> {
+
+  public static final Rational ZERO = new Rational (BigInteger.ZERO);
+
+  public static final Rational ONE = new Rational (BigInteger.ONE);
+
+  protected BigInteger num;
+
+  protected BigInteger den; /* always > 0, gcd (num, den) == 1 */
+
+  public Rational (BigInteger num){
+    assert (num != null);
+    this.num = num;
+    this.den = BigInteger.ONE;
+  }
+
+  public Rational (BigInteger num, BigInteger den){
+    BigInteger gcd;
+
+    assert (num != null);
+    assert (den != null);
+    if (den.signum() == 0)
+      throw new ArithmeticException ("division by zero");
+    if (den.signum() < 0) {
+      num = num.negate();
+      den = den.negate();
+    }
+    gcd = num.gcd (den);
+    if (!gcd.equals (BigInteger.ONE) && gcd.signum() != 0) {
+      num = num.divide (gcd);
+      den = den.divide (gcd);
+    }
+    this.num = num;
+    this.den = den;
+  }
+
+  /* parses decimals such as "3", "3.25" and "-1.5" */
+  public static Rational parseDecimal (String s){
+    int dot;
+    String digits;
+
+    assert (s != null);
+    dot = s.indexOf ('.');
+    if (dot < 0)
+      return new Rational (new BigInteger (s));
+    digits = s.substring (0, dot) + s.substring (dot + 1);
+    return new Rational (new BigInteger (digits),
+                         BigInteger.TEN.pow (s.length() - dot - 1));
+  }
+
+  public BigInteger getNumerator(){
+    return this.num;
+  }
+
+  public BigInteger getDenominator(){
+    return this.den;
+  }
+
+  public boolean isInteger(){
+    return this.den.equals (BigInteger.ONE);
+  }
+
+  public int signum(){
+    return this.num.signum();
+  }
+
+  public Rational add (Rational o){
+    return new Rational (this.num.multiply (o.den).add (o.num.multiply (this.den)),
+                         this.den.multiply (o.den));
+  }
+
+  public Rational subtract (Rational o){
+    return new Rational (this.num.multiply (o.den).subtract (o.num.multiply (this.den)),
+                         this.den.multiply (o.den));
+  }
+
+  public Rational multiply (Rational o){
+    return new Rational (this.num.multiply (o.num), this.den.multiply (o.den));
+  }
+
+  public Rational divide (Rational o){
+    return new Rational (this.num.multiply (o.den), this.den.multiply (o.num));
+  }
+
+  public Rational negate(){
+    return new Rational (this.num.negate(), this.den);
+  }
+
+  /* largest integer <= this */
+  public BigInteger floor(){
+    BigInteger []qr;
+
+    qr = this.num.divideAndRemainder (this.den);
+    if (qr[1].signum() < 0)
+      return qr[0].subtract (BigInteger.ONE);
+    return qr[0];
+  }
+
+  public int compareTo (Rational o){
+    return this.num.multiply (o.den).compareTo (o.num.multiply (this.den));
+  }
+
+  public boolean equals (Object o){
+    Rational q;
+
+    if (! (o instanceof Rational))
+      return false;
+    q = (Rational) o;
+    return this.num.equals (q.num) && this.den.equals (q.den);
+  }
+
+  public int hashCode(){
+    return this.num.hashCode() * 31 + this.den.hashCode();
+  }
+
+  public String toString(){
+    if (this.isInteger())
+      return this.num.toString();
+    return this.num.toString() + "/" + this.den.toString();
+  }
+
+}
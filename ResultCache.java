@@ -0,0 +1,187 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.util.*;
+
+/* persistent cache of solver results keyed by instance fingerprint and
+ * solver identity. The fingerprint is a hash of the instance text, not of
+ * its structure; as names are derived from node counters, the same term
+ * DAG is emitted as the same text for the same options.
+ * The cache file is an append-only log of records
+ *   int length, 32 byte key, byte status, int exit code, long time,
+ *   UTF-8 output
+ * where length counts the bytes after the length field. On open the log
+ * is memory mapped and scanned once to build a hash index from keys to
+ * record offsets; records are only decoded on a hit. A record cut off by
+ * a crash is truncated. */
+public class ResultCache {
+
+  public static final int KEY_LENGTH = 32;
+
+  private static final int HEADER_LENGTH = KEY_LENGTH + 1 + 4 + 8;
+
+  protected RandomAccessFile file;
+
+  protected MappedByteBuffer mapped;
+
+  protected HashMap<String, Integer> index; /* offsets into 'mapped' */
+
+  protected HashMap<String, SolverResult> added;
+
+  protected int hits;
+
+  protected int misses;
+
+  protected boolean errors; /* if true ERROR results are cached as well */
+
+  public ResultCache (File path, boolean errors) throws IOException {
+    FileChannel channel;
+    long size;
+    int pos, length;
+    byte []key;
+
+    assert (path != null);
+    this.file = new RandomAccessFile (path, "rw");
+    this.errors = errors;
+    this.index = new HashMap<String, Integer>();
+    this.added = new HashMap<String, SolverResult>();
+    channel = this.file.getChannel();
+    size = channel.size();
+    if (size > Integer.MAX_VALUE)
+      throw new IOException ("result cache too large: " + path);
+    this.mapped = channel.map (FileChannel.MapMode.READ_ONLY, 0, size);
+    key = new byte[KEY_LENGTH];
+    pos = 0;
+    while (pos + 4 <= size) {
+      length = this.mapped.getInt (pos);
+      if (length < HEADER_LENGTH || pos + 4l + length > size)
+        break;
+      this.mapped.position (pos + 4);
+      this.mapped.get (key);
+      this.index.put (toHex (key), pos);
+      pos += 4 + length;
+    }
+    if (pos < size)
+      channel.truncate (pos);
+    this.file.seek (pos);
+  }
+
+  private static String toHex (byte []bytes){
+    StringBuilder builder;
+
+    builder = new StringBuilder (bytes.length * 2);
+    for (int i = 0; i < bytes.length; i++)
+      builder.append (String.format ("%02x", bytes[i] & 0xff));
+    return builder.toString();
+  }
+
+  /* key of 'fingerprint' (16 bytes) solved by 'solver' (16 bytes) */
+  public static byte []key (byte []fingerprint, byte []solver){
+    byte []result;
+
+    assert (fingerprint.length == KEY_LENGTH / 2);
+    assert (solver.length == KEY_LENGTH / 2);
+    result = new byte[KEY_LENGTH];
+    System.arraycopy (fingerprint, 0, result, 0, KEY_LENGTH / 2);
+    System.arraycopy (solver, 0, result, KEY_LENGTH / 2, KEY_LENGTH / 2);
+    return result;
+  }
+
+  public synchronized SolverResult lookup (byte []key){
+    String hex;
+    SolverResult result;
+    Integer pos;
+    byte []output;
+    int length, status, exitCode;
+    long time;
+
+    assert (key != null);
+    assert (key.length == KEY_LENGTH);
+    hex = toHex (key);
+    result = this.added.get (hex);
+    if (result == null) {
+      pos = this.index.get (hex);
+      if (pos != null) {
+        length = this.mapped.getInt (pos);
+        status = this.mapped.get (pos + 4 + KEY_LENGTH);
+        exitCode = this.mapped.getInt (pos + 4 + KEY_LENGTH + 1);
+        time = this.mapped.getLong (pos + 4 + KEY_LENGTH + 5);
+        output = new byte[length - HEADER_LENGTH];
+        this.mapped.position (pos + 4 + HEADER_LENGTH);
+        this.mapped.get (output);
+        result = new SolverResult (SolverResult.Status.values()[status],
+                                   new String (output, StandardCharsets.UTF_8),
+                                   exitCode, time);
+      }
+    }
+    if (result == null)
+      this.misses++;
+    else
+      this.hits++;
+    return result;
+  }
+
+  /* true if 'result' is worth caching. Solvers which could not be
+   * launched are never cached, other errors, e.g. crashes caused by the
+   * machine rather than by the instance, only if errors are cached */
+  public boolean accepts (SolverResult result){
+    assert (result != null);
+    if (result.getStatus() != SolverResult.Status.ERROR)
+      return true;
+    return this.errors && result.getExitCode() != -1;
+  }
+
+  /* appends 'result' to the log */
+  public synchronized void add (byte []key, SolverResult result)
+    throws IOException {
+    ByteBuffer buffer;
+    byte []output;
+
+    assert (key != null);
+    assert (key.length == KEY_LENGTH);
+    assert (result != null);
+    output = result.getOutput().getBytes (StandardCharsets.UTF_8);
+    buffer = ByteBuffer.allocate (4 + HEADER_LENGTH + output.length);
+    buffer.putInt (HEADER_LENGTH + output.length);
+    buffer.put (key);
+    buffer.put ((byte) result.getStatus().ordinal());
+    buffer.putInt (result.getExitCode());
+    buffer.putLong (result.getTime());
+    buffer.put (output);
+    this.file.write (buffer.array());
+    this.added.put (toHex (key), result);
+  }
+
+  public synchronized int getHits(){
+    return this.hits;
+  }
+
+  public synchronized int getMisses(){
+    return this.misses;
+  }
+
+  public void close () throws IOException {
+    this.file.close();
+  }
+
+}
@@ -0,0 +1,930 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.util.*;
+import java.math.*;
+
+/* Concrete evaluator for SMT-LIB 1.2 and SMT-LIB 2 scripts.
+ *
+ * Terms are parsed into s-expressions (String atoms and Object[] lists)
+ * and evaluated bottom-up. Every let binding is evaluated exactly once,
+ * so evaluating a generated instance is linear in the size of its DAG.
+ * Values are Boolean, BVValue, BigInteger (integral numbers), Rational
+ * (non-integral numbers), ArrayValue and String (elements of
+ * uninterpreted sorts). Symbols without a definition are interpreted
+ * by an SMTModel, and so is division by zero, which SMT-LIB treats as an
+ * uninterpreted function named "/0", "div0" or "mod0" here.
+ * Quantifiers are not supported. */
+public class SMTEvaluator {
+
+  protected static class Decl {
+    SMTType []argTypes;
+    SMTType resultType;
+  }
+
+  protected static class Def {
+    String []params;
+    Object body;
+  }
+
+  protected SMTModel model;
+
+  protected HashMap<String, Decl> decls;
+
+  protected HashMap<String, Def> defs;
+
+  protected HashMap<String, Object> consts;
+
+  protected HashMap<String, Object> env;
+
+  protected ArrayList<String> undoNames;
+
+  protected ArrayList<Object> undoValues;
+
+  public SMTEvaluator (SMTModel model){
+    assert (model != null);
+    this.model = model;
+    this.decls = new HashMap<String, Decl>();
+    this.defs = new HashMap<String, Def>();
+    this.consts = new HashMap<String, Object>();
+    this.env = new HashMap<String, Object>();
+    this.undoNames = new ArrayList<String>();
+    this.undoValues = new ArrayList<Object>();
+  }
+
+/*----------------------------------------------------------------------------*/
+/* Parser                                                                     */
+/*----------------------------------------------------------------------------*/
+
+  /* parses all s-expressions of 'text' without recursion,
+   * as let chains of generated instances are nested very deeply */
+  public static List<Object> parse (CharSequence text){
+    int pos, len, start;
+    char c;
+    ArrayList<Object> top;
+    ArrayList<ArrayList<Object>> stack;
+    ArrayList<Object> cur, done;
+
+    assert (text != null);
+    top = new ArrayList<Object>();
+    stack = new ArrayList<ArrayList<Object>>();
+    cur = top;
+    len = text.length();
+    pos = 0;
+    while (pos < len) {
+      c = text.charAt(pos);
+      if (c == '(') {
+        stack.add (cur);
+        cur = new ArrayList<Object>();
+        pos++;
+      } else if (c == ')') {
+        if (stack.isEmpty())
+          throw new IllegalArgumentException ("unbalanced ')'");
+        done = cur;
+        cur = stack.remove (stack.size() - 1);
+        cur.add (done.toArray());
+        pos++;
+      } else if (c == ';') {
+        while (pos < len && text.charAt(pos) != '\n')
+          pos++;
+      } else if (Character.isWhitespace (c)) {
+        pos++;
+      } else if (c == '|') {
+        start = ++pos;
+        while (pos < len && text.charAt(pos) != '|')
+          pos++;
+        cur.add (text.subSequence (start, pos).toString());
+        pos++;
+      } else if (c == '"') {
+        start = pos++;
+        while (pos < len) {
+          if (text.charAt(pos) == '"') {
+            if (pos + 1 < len && text.charAt(pos + 1) == '"')
+              pos++;
+            else
+              break;
+          }
+          pos++;
+        }
+        pos++;
+        cur.add (text.subSequence (start, Math.min (pos, len)).toString());
+      } else {
+        start = pos;
+        while (pos < len) {
+          c = text.charAt(pos);
+          if (c == '(' || c == ')' || c == ';' || c == '|' ||
+              Character.isWhitespace (c))
+            break;
+          pos++;
+        }
+        cur.add (text.subSequence (start, pos).toString());
+      }
+    }
+    if (!stack.isEmpty())
+      throw new IllegalArgumentException ("unbalanced '('");
+    return top;
+  }
+
+  private static void print (StringBuilder builder, Object t){
+    Object []l;
+
+    if (t instanceof String) {
+      builder.append ((String) t);
+      return;
+    }
+    l = (Object []) t;
+    builder.append ("(");
+    for (int i = 0; i < l.length; i++) {
+      if (i > 0)
+        builder.append (" ");
+      print (builder, l[i]);
+    }
+    builder.append (")");
+  }
+
+  /* prints a parsed s-expression */
+  public static String toString (Object t){
+    StringBuilder builder;
+
+    assert (t != null);
+    builder = new StringBuilder();
+    print (builder, t);
+    return builder.toString();
+  }
+
+/*----------------------------------------------------------------------------*/
+/* Sorts                                                                      */
+/*----------------------------------------------------------------------------*/
+
+  private static int parseIndex (Object o){
+    if (! (o instanceof String))
+      throw new IllegalArgumentException ("numeral expected");
+    return Integer.parseInt ((String) o);
+  }
+
+  /* indices of SMT-LIB 1.2 symbols such as extract[7:0] */
+  private static int []parseIndices1 (String s){
+    int open;
+    String []parts;
+    int []result;
+
+    open = s.indexOf ('[');
+    parts = s.substring (open + 1, s.length() - 1).split (":");
+    result = new int[parts.length];
+    for (int i = 0; i < parts.length; i++)
+      result[i] = Integer.parseInt (parts[i]);
+    return result;
+  }
+
+  public static SMTType parseSort (Object s){
+    Object []l;
+    String name;
+    int []idx;
+
+    if (s instanceof String) {
+      name = (String) s;
+      if (name.equals ("Bool") || name.equals ("bool"))
+        return BoolType.boolType;
+      if (name.equals ("Int"))
+        return IntType.intType;
+      if (name.equals ("Real"))
+        return RealType.realType;
+      if (name.equals ("Array"))
+        return ArrayTypeFromTo.get (IntType.intType, IntType.intType);
+      if (name.equals ("Array1"))
+        return ArrayTypeFromTo.get (IntType.intType, RealType.realType);
+      if (name.equals ("Array2"))
+        return ArrayTypeFromTo.get (IntType.intType,
+                                    ArrayTypeFromTo.get (IntType.intType,
+                                                         RealType.realType));
+      if (name.startsWith ("BitVec["))
+        return BVType.get (parseIndices1 (name)[0]);
+      if (name.startsWith ("Array[")) {
+        idx = parseIndices1 (name);
+        return ArrayTypeFromTo.get (BVType.get (idx[0]), BVType.get (idx[1]));
+      }
+      return UType.get (name);
+    }
+    l = (Object []) s;
+    if (l.length == 3 && "_".equals (l[0]) && "BitVec".equals (l[1]))
+      return BVType.get (parseIndex (l[2]));
+    if (l.length == 3 && "Array".equals (l[0]))
+      return ArrayTypeFromTo.get (parseSort (l[1]), parseSort (l[2]));
+    throw new IllegalArgumentException ("unsupported sort");
+  }
+
+/*----------------------------------------------------------------------------*/
+/* Commands                                                                   */
+/*----------------------------------------------------------------------------*/
+
+  protected void declare (String name, SMTType []argTypes, SMTType resultType){
+    Decl decl;
+
+    decl = new Decl();
+    decl.argTypes = argTypes;
+    decl.resultType = resultType;
+    this.decls.put (name, decl);
+  }
+
+  protected void define (String name, Object []params, Object body){
+    Def def;
+
+    def = new Def();
+    def.params = new String[params.length];
+    for (int i = 0; i < params.length; i++)
+      def.params[i] = (String) ((Object []) params[i])[0];
+    def.body = body;
+    this.defs.put (name, def);
+  }
+
+  /* SMT-LIB 1.2 attribute list of a benchmark */
+  protected void executeBenchmark (Object []b, List<Object> values){
+    String attr;
+    Object []decl;
+    Object []list;
+    SMTType []argTypes;
+
+    for (int i = 2; i < b.length; i++) {
+      if (! (b[i] instanceof String))
+        continue;
+      attr = (String) b[i];
+      if (attr.equals (":extrafuns") || attr.equals (":extrapreds")) {
+        list = (Object []) b[++i];
+        for (int j = 0; j < list.length; j++) {
+          decl = (Object []) list[j];
+          if (attr.equals (":extrafuns")) {
+            argTypes = new SMTType[decl.length - 2];
+            for (int k = 0; k < argTypes.length; k++)
+              argTypes[k] = parseSort (decl[k + 1]);
+            declare ((String) decl[0], argTypes,
+                     parseSort (decl[decl.length - 1]));
+          } else {
+            argTypes = new SMTType[decl.length - 1];
+            for (int k = 0; k < argTypes.length; k++)
+              argTypes[k] = parseSort (decl[k + 1]);
+            declare ((String) decl[0], argTypes, BoolType.boolType);
+          }
+        }
+      } else if (attr.equals (":formula") || attr.equals (":assumption")) {
+        values.add (eval (b[++i]));
+      } else if (attr.startsWith (":") && i + 1 < b.length &&
+                 !(b[i + 1] instanceof String &&
+                   ((String) b[i + 1]).startsWith (":"))) {
+        i++;
+      }
+    }
+  }
+
+  /* executes a script and returns the values of its assertions in order */
+  public List<Object> execute (List<Object> script){
+    ArrayList<Object> values;
+    Object []cmd, params;
+    String name;
+    SMTType []argTypes;
+
+    values = new ArrayList<Object>();
+    for (Object o : script) {
+      if (! (o instanceof Object[]))
+        continue;
+      cmd = (Object []) o;
+      if (cmd.length == 0)
+        continue;
+      name = (String) cmd[0];
+      if (name.equals ("benchmark")) {
+        executeBenchmark (cmd, values);
+      } else if (name.equals ("declare-fun")) {
+        params = (Object []) cmd[2];
+        argTypes = new SMTType[params.length];
+        for (int i = 0; i < params.length; i++)
+          argTypes[i] = parseSort (params[i]);
+        declare ((String) cmd[1], argTypes, parseSort (cmd[3]));
+      } else if (name.equals ("declare-const")) {
+        declare ((String) cmd[1], new SMTType[0], parseSort (cmd[2]));
+      } else if (name.equals ("define-fun")) {
+        define ((String) cmd[1], (Object []) cmd[2], cmd[4]);
+      } else if (name.equals ("assert")) {
+        values.add (eval (cmd[1]));
+      }
+    }
+    return values;
+  }
+
+/*----------------------------------------------------------------------------*/
+/* Terms                                                                      */
+/*----------------------------------------------------------------------------*/
+
+  private void bind (String name, Object value){
+    this.undoNames.add (name);
+    this.undoValues.add (this.env.put (name, value));
+  }
+
+  private void unbind (int mark){
+    int last;
+    String name;
+    Object old;
+
+    while (this.undoNames.size() > mark) {
+      last = this.undoNames.size() - 1;
+      name = this.undoNames.remove (last);
+      old = this.undoValues.remove (last);
+      if (old == null)
+        this.env.remove (name);
+      else
+        this.env.put (name, old);
+    }
+  }
+
+  private static boolean isLet (Object t){
+    Object head;
+
+    if (! (t instanceof Object[]))
+      return false;
+    if (((Object []) t).length != 3)
+      return false;
+    head = ((Object []) t)[0];
+    return "let".equals (head) || "flet".equals (head);
+  }
+
+  /* evaluates 't'; chains of lets are unrolled iteratively */
+  public Object eval (Object t){
+    int mark;
+    Object []let, bindings, binding;
+    Object []vals;
+    Object result;
+
+    mark = this.undoNames.size();
+    try {
+      while (isLet (t)) {
+        let = (Object []) t;
+        bindings = (Object []) let[1];
+        if (bindings.length > 0 && bindings[0] instanceof String) {
+          /* SMT-LIB 1.2: (let (?x t) body) */
+          bind ((String) bindings[0], eval (bindings[1]));
+        } else {
+          /* SMT-LIB 2: parallel bindings */
+          vals = new Object[bindings.length];
+          for (int i = 0; i < bindings.length; i++)
+            vals[i] = eval (((Object []) bindings[i])[1]);
+          for (int i = 0; i < bindings.length; i++) {
+            binding = (Object []) bindings[i];
+            bind ((String) binding[0], vals[i]);
+          }
+        }
+        t = let[2];
+      }
+      if (t instanceof String)
+        result = evalSymbol ((String) t);
+      else
+        result = evalApp ((Object []) t);
+    } finally {
+      unbind (mark);
+    }
+    return result;
+  }
+
+  protected Object evalSymbol (String s){
+    Object result;
+    Def def;
+    Decl decl;
+    char c;
+
+    result = this.env.get (s);
+    if (result != null)
+      return result;
+    c = s.charAt(0);
+    if (c >= '0' && c <= '9') {
+      if (s.indexOf ('.') >= 0)
+        return normalize (Rational.parseDecimal (s));
+      return new BigInteger (s);
+    }
+    if (s.equals ("true"))
+      return Boolean.TRUE;
+    if (s.equals ("false"))
+      return Boolean.FALSE;
+    if (s.startsWith ("#b"))
+      return new BVValue (s.length() - 2, new BigInteger (s.substring (2), 2));
+    if (s.startsWith ("#x"))
+      return new BVValue ((s.length() - 2) * 4,
+                          new BigInteger (s.substring (2), 16));
+    if (s.startsWith ("bv") && s.endsWith ("]") && s.length() > 2 &&
+        Character.isDigit (s.charAt(2)))
+      return new BVValue (parseIndices1 (s)[0],
+                          new BigInteger (s.substring (2, s.indexOf ('['))));
+    if (s.equals ("bit0"))
+      return new BVValue (1, BigInteger.ZERO);
+    if (s.equals ("bit1"))
+      return new BVValue (1, BigInteger.ONE);
+    result = this.consts.get (s);
+    if (result != null)
+      return result;
+    def = this.defs.get (s);
+    if (def != null && def.params.length == 0) {
+      result = eval (def.body);
+    } else {
+      decl = this.decls.get (s);
+      if (decl == null || decl.argTypes.length != 0)
+        throw new IllegalArgumentException ("unknown symbol: " + s);
+      result = this.model.getValue (s, decl.resultType);
+    }
+    this.consts.put (s, result);
+    return result;
+  }
+
+  protected Object evalApp (Object []t){
+    Object head;
+    Object []args, indexed;
+    String op;
+    int []idx;
+
+    if (t.length == 0)
+      throw new IllegalArgumentException ("empty application");
+    head = t[0];
+    if (head instanceof Object[]) {
+      indexed = (Object []) head;
+      args = evalArgs (t);
+      if ("as".equals (indexed[0]) && "const".equals (indexed[1]))
+        return new ArrayValue (args[0], ArrayValue.domainSize (
+                                 ((ArrayTypeFromTo) parseSort (indexed[2])).from));
+      if (!"_".equals (indexed[0]))
+        throw new IllegalArgumentException ("unsupported operator");
+      idx = new int[indexed.length - 2];
+      for (int i = 0; i < idx.length; i++)
+        idx[i] = parseIndex (indexed[i + 2]);
+      return evalIndexed ((String) indexed[1], idx, args);
+    }
+    op = (String) head;
+    if (op.equals ("_")) {
+      /* (_ bvN w) */
+      return new BVValue (parseIndex (t[2]),
+                          new BigInteger (((String) t[1]).substring (2)));
+    }
+    if (op.equals ("!"))
+      return eval (t[1]);
+    if (op.equals ("as")) {
+      /* abstract value of an uninterpreted sort, e.g. (as @uc_S_0 S) */
+      if (t[1] instanceof String && !this.env.containsKey (t[1]) &&
+          !isDeclared ((String) t[1]) && !isDefined ((String) t[1]))
+        return t[1];
+      return eval (t[1]);
+    }
+    if (op.equals ("forall") || op.equals ("exists"))
+      throw new UnsupportedOperationException ("quantifiers");
+    if (op.equals ("ite") || op.equals ("if_then_else")) {
+      if (((Boolean) eval (t[1])).booleanValue())
+        return eval (t[2]);
+      return eval (t[3]);
+    }
+    args = evalArgs (t);
+    if (op.indexOf ('[') > 0 && op.endsWith ("]"))
+      return evalIndexed (op.substring (0, op.indexOf ('[')),
+                          parseIndices1 (op), args);
+    return evalOp (op, args);
+  }
+
+  public boolean isDeclared (String name){
+    return this.decls.containsKey (name);
+  }
+
+  public boolean isDefined (String name){
+    return this.defs.containsKey (name);
+  }
+
+  /* applies the function defined by define-fun to the values 'a' */
+  public Object evalDefinition (String name, Object []a){
+    Def def;
+    int mark;
+
+    def = this.defs.get (name);
+    assert (def != null);
+    if (def.params.length != a.length)
+      throw new IllegalArgumentException ("wrong number of arguments: " + name);
+    if (a.length == 0)
+      return evalSymbol (name);
+    mark = this.undoNames.size();
+    try {
+      for (int i = 0; i < a.length; i++)
+        bind (def.params[i], a[i]);
+      return eval (def.body);
+    } finally {
+      unbind (mark);
+    }
+  }
+
+  private Object []evalArgs (Object []t){
+    Object []args;
+
+    args = new Object[t.length - 1];
+    for (int i = 1; i < t.length; i++)
+      args[i - 1] = eval (t[i]);
+    return args;
+  }
+
+  protected Object evalOp (String op, Object []a){
+    Decl decl;
+    Object result;
+    boolean b;
+
+    switch (op.length() > 0 ? op.charAt(0) : ' ') {
+      case 'a':
+        if (op.equals ("and")) {
+          for (int i = 0; i < a.length; i++)
+            if (!((Boolean) a[i]).booleanValue())
+              return Boolean.FALSE;
+          return Boolean.TRUE;
+        }
+        if (op.equals ("abs"))
+          return compare (a[0], BigInteger.ZERO) < 0 ? negate (a[0]) : a[0];
+        break;
+      case 'o':
+        if (op.equals ("or")) {
+          for (int i = 0; i < a.length; i++)
+            if (((Boolean) a[i]).booleanValue())
+              return Boolean.TRUE;
+          return Boolean.FALSE;
+        }
+        break;
+      case 'n':
+        if (op.equals ("not"))
+          return Boolean.valueOf (!((Boolean) a[0]).booleanValue());
+        break;
+      case 'x':
+        if (op.equals ("xor")) {
+          b = false;
+          for (int i = 0; i < a.length; i++)
+            b ^= ((Boolean) a[i]).booleanValue();
+          return Boolean.valueOf (b);
+        }
+        break;
+      case 'i':
+        if (op.equals ("implies"))
+          return Boolean.valueOf (!((Boolean) a[0]).booleanValue() ||
+                                  ((Boolean) a[1]).booleanValue());
+        if (op.equals ("iff"))
+          return Boolean.valueOf (a[0].equals (a[1]));
+        if (op.equals ("is_int"))
+          return Boolean.valueOf (a[0] instanceof BigInteger);
+        break;
+      case '=':
+        if (op.equals ("=>")) {
+          b = ((Boolean) a[a.length - 1]).booleanValue();
+          for (int i = a.length - 2; i >= 0; i--)
+            b = !((Boolean) a[i]).booleanValue() || b;
+          return Boolean.valueOf (b);
+        }
+        if (op.equals ("=")) {
+          for (int i = 1; i < a.length; i++)
+            if (!a[0].equals (a[i]))
+              return Boolean.FALSE;
+          return Boolean.TRUE;
+        }
+        break;
+      case 'd':
+        if (op.equals ("distinct")) {
+          for (int i = 0; i < a.length; i++)
+            for (int j = i + 1; j < a.length; j++)
+              if (a[i].equals (a[j]))
+                return Boolean.FALSE;
+          return Boolean.TRUE;
+        }
+        if (op.equals ("div")) {
+          if (((BigInteger) a[1]).signum() == 0)
+            return this.model.apply ("div0", new Object[] {a[0], a[1]},
+                                     IntType.intType);
+          return intDiv ((BigInteger) a[0], (BigInteger) a[1], false);
+        }
+        break;
+      case 'm':
+        if (op.equals ("mod")) {
+          if (((BigInteger) a[1]).signum() == 0)
+            return this.model.apply ("mod0", new Object[] {a[0], a[1]},
+                                     IntType.intType);
+          return intDiv ((BigInteger) a[0], (BigInteger) a[1], true);
+        }
+        break;
+      case '+':
+        result = a[0];
+        for (int i = 1; i < a.length; i++)
+          result = add (result, a[i]);
+        return result;
+      case '-':
+        if (a.length == 1)
+          return negate (a[0]);
+        result = a[0];
+        for (int i = 1; i < a.length; i++)
+          result = add (result, negate (a[i]));
+        return result;
+      case '~':
+        return negate (a[0]);
+      case '*':
+        result = a[0];
+        for (int i = 1; i < a.length; i++)
+          result = multiply (result, a[i]);
+        return result;
+      case '/':
+        result = a[0];
+        for (int i = 1; i < a.length; i++) {
+          if (compare (a[i], BigInteger.ZERO) == 0)
+            result = this.model.apply ("/0", new Object[] {result, a[i]},
+                                       RealType.realType);
+          else
+            result = normalize (toRational (result).divide (toRational (a[i])));
+        }
+        return result;
+      case '<':
+      case '>':
+        for (int i = 1; i < a.length; i++) {
+          if (!compareOp (op, compare (a[i - 1], a[i])))
+            return Boolean.FALSE;
+        }
+        return Boolean.TRUE;
+      case 's':
+        if (op.equals ("select"))
+          return ((ArrayValue) a[0]).select (a[1]);
+        if (op.equals ("store"))
+          return ((ArrayValue) a[0]).store (a[1], a[2]);
+        break;
+      case 't':
+        if (op.equals ("to_real"))
+          return a[0];
+        if (op.equals ("to_int"))
+          return toRational (a[0]).floor();
+        break;
+      case 'b':
+        if (op.startsWith ("bv"))
+          return evalBV (op, a);
+        break;
+      case 'c':
+        if (op.equals ("concat")) {
+          result = a[0];
+          for (int i = 1; i < a.length; i++)
+            result = concat ((BVValue) result, (BVValue) a[i]);
+          return result;
+        }
+        break;
+      default:
+        break;
+    }
+
+    /* user defined or declared symbol */
+    if (isDefined (op))
+      return evalDefinition (op, a);
+    decl = this.decls.get (op);
+    if (decl == null || decl.argTypes.length != a.length)
+      throw new IllegalArgumentException ("unknown function: " + op);
+    return this.model.apply (op, a, decl.resultType);
+  }
+
+/*----------------------------------------------------------------------------*/
+/* Arithmetic                                                                 */
+/*----------------------------------------------------------------------------*/
+
+  /* integral numbers are always represented as BigInteger */
+  public static Object normalize (Rational q){
+    if (q.isInteger())
+      return q.getNumerator();
+    return q;
+  }
+
+  public static Rational toRational (Object o){
+    if (o instanceof Rational)
+      return (Rational) o;
+    return new Rational ((BigInteger) o);
+  }
+
+  private static Object add (Object x, Object y){
+    if (x instanceof BigInteger && y instanceof BigInteger)
+      return ((BigInteger) x).add ((BigInteger) y);
+    return normalize (toRational (x).add (toRational (y)));
+  }
+
+  private static Object multiply (Object x, Object y){
+    if (x instanceof BigInteger && y instanceof BigInteger)
+      return ((BigInteger) x).multiply ((BigInteger) y);
+    return normalize (toRational (x).multiply (toRational (y)));
+  }
+
+  private static Object negate (Object x){
+    if (x instanceof BigInteger)
+      return ((BigInteger) x).negate();
+    return ((Rational) x).negate();
+  }
+
+  private static int compare (Object x, Object y){
+    if (x instanceof BigInteger && y instanceof BigInteger)
+      return ((BigInteger) x).compareTo ((BigInteger) y);
+    return toRational (x).compareTo (toRational (y));
+  }
+
+  private static boolean compareOp (String op, int cmp){
+    if (op.equals ("<"))
+      return cmp < 0;
+    if (op.equals ("<="))
+      return cmp <= 0;
+    if (op.equals (">"))
+      return cmp > 0;
+    assert (op.equals (">="));
+    return cmp >= 0;
+  }
+
+  /* SMT-LIB integer division: the remainder is always non-negative */
+  private static BigInteger intDiv (BigInteger x, BigInteger y, boolean mod){
+    BigInteger []qr;
+
+    if (y.signum() == 0)
+      throw new ArithmeticException ("integer division by zero");
+    qr = x.divideAndRemainder (y);
+    if (qr[1].signum() < 0) {
+      if (y.signum() > 0) {
+        qr[0] = qr[0].subtract (BigInteger.ONE);
+        qr[1] = qr[1].add (y);
+      } else {
+        qr[0] = qr[0].add (BigInteger.ONE);
+        qr[1] = qr[1].subtract (y);
+      }
+    }
+    return mod ? qr[1] : qr[0];
+  }
+
+/*----------------------------------------------------------------------------*/
+/* Bit-vectors                                                                */
+/*----------------------------------------------------------------------------*/
+
+  private static BVValue bv (int width, BigInteger value){
+    return new BVValue (width, value);
+  }
+
+  private static BVValue concat (BVValue x, BVValue y){
+    return bv (x.width + y.width, x.value.shiftLeft (y.width).or (y.value));
+  }
+
+  protected static Object evalIndexed (String op, int []idx, Object []a){
+    BVValue x;
+    BigInteger result;
+    int n;
+
+    x = (BVValue) a[0];
+    if (op.equals ("extract")) {
+      return bv (idx[0] - idx[1] + 1, x.value.shiftRight (idx[1]));
+    } else if (op.equals ("zero_extend")) {
+      return bv (x.width + idx[0], x.value);
+    } else if (op.equals ("sign_extend")) {
+      return bv (x.width + idx[0], x.getSigned());
+    } else if (op.equals ("repeat")) {
+      result = BigInteger.ZERO;
+      for (int i = 0; i < idx[0]; i++)
+        result = result.shiftLeft (x.width).or (x.value);
+      return bv (x.width * idx[0], result);
+    } else if (op.equals ("rotate_left") || op.equals ("rotate_right")) {
+      n = idx[0] % x.width;
+      if (op.equals ("rotate_right"))
+        n = (x.width - n) % x.width;
+      return bv (x.width, x.value.shiftLeft (n).or (x.value.shiftRight (x.width - n)));
+    }
+    throw new IllegalArgumentException ("unknown indexed operator: " + op);
+  }
+
+  private static BVValue udiv (BVValue s, BVValue t){
+    if (t.value.signum() == 0)
+      return bv (s.width, BVValue.mask (s.width));
+    return bv (s.width, s.value.divide (t.value));
+  }
+
+  private static BVValue urem (BVValue s, BVValue t){
+    if (t.value.signum() == 0)
+      return s;
+    return bv (s.width, s.value.remainder (t.value));
+  }
+
+  private static BVValue neg (BVValue s){
+    return bv (s.width, s.value.negate());
+  }
+
+  private static BVValue add (BVValue s, BVValue t){
+    return bv (s.width, s.value.add (t.value));
+  }
+
+  /* bvsdiv, bvsrem and bvsmod exactly as defined by SMT-LIB 2,
+   * including division by zero */
+  private static BVValue sdivrem (String op, BVValue s, BVValue t){
+    boolean ms, mt;
+    BVValue u;
+
+    ms = s.msb();
+    mt = t.msb();
+    if (op.equals ("bvsdiv")) {
+      if (!ms && !mt)
+        return udiv (s, t);
+      if (ms && !mt)
+        return neg (udiv (neg (s), t));
+      if (!ms && mt)
+        return neg (udiv (s, neg (t)));
+      return udiv (neg (s), neg (t));
+    }
+    if (op.equals ("bvsrem")) {
+      if (!ms && !mt)
+        return urem (s, t);
+      if (ms && !mt)
+        return neg (urem (neg (s), t));
+      if (!ms && mt)
+        return urem (s, neg (t));
+      return neg (urem (neg (s), neg (t)));
+    }
+    assert (op.equals ("bvsmod"));
+    u = urem (ms ? neg (s) : s, mt ? neg (t) : t);
+    if (u.value.signum() == 0)
+      return u;
+    if (!ms && !mt)
+      return u;
+    if (ms && !mt)
+      return add (neg (u), t);
+    if (!ms && mt)
+      return add (u, t);
+    return neg (u);
+  }
+
+  private static Object evalBV (String op, Object []a){
+    BVValue s, t;
+    BigInteger mask, sv, tv;
+    int w, cmp;
+
+    s = (BVValue) a[0];
+    w = s.width;
+    mask = BVValue.mask (w);
+    if (op.equals ("bvnot"))
+      return bv (w, s.value.xor (mask));
+    if (op.equals ("bvneg"))
+      return neg (s);
+    t = (BVValue) a[1];
+    sv = s.value;
+    tv = t.value;
+    if (op.equals ("bvand"))
+      return bv (w, sv.and (tv));
+    if (op.equals ("bvor"))
+      return bv (w, sv.or (tv));
+    if (op.equals ("bvxor"))
+      return bv (w, sv.xor (tv));
+    if (op.equals ("bvnand"))
+      return bv (w, sv.and (tv).xor (mask));
+    if (op.equals ("bvnor"))
+      return bv (w, sv.or (tv).xor (mask));
+    if (op.equals ("bvxnor"))
+      return bv (w, sv.xor (tv).xor (mask));
+    if (op.equals ("bvadd"))
+      return bv (w, sv.add (tv));
+    if (op.equals ("bvsub"))
+      return bv (w, sv.subtract (tv));
+    if (op.equals ("bvmul"))
+      return bv (w, sv.multiply (tv));
+    if (op.equals ("bvudiv"))
+      return udiv (s, t);
+    if (op.equals ("bvurem"))
+      return urem (s, t);
+    if (op.equals ("bvsdiv") || op.equals ("bvsrem") || op.equals ("bvsmod"))
+      return sdivrem (op, s, t);
+    if (op.equals ("bvshl"))
+      return tv.compareTo (BigInteger.valueOf (w)) >= 0 ?
+             bv (w, BigInteger.ZERO) : bv (w, sv.shiftLeft (tv.intValue()));
+    if (op.equals ("bvlshr"))
+      return tv.compareTo (BigInteger.valueOf (w)) >= 0 ?
+             bv (w, BigInteger.ZERO) : bv (w, sv.shiftRight (tv.intValue()));
+    if (op.equals ("bvashr"))
+      return tv.compareTo (BigInteger.valueOf (w)) >= 0 ?
+             bv (w, s.msb() ? mask : BigInteger.ZERO) :
+             bv (w, s.getSigned().shiftRight (tv.intValue()));
+    if (op.equals ("bvcomp"))
+      return bv (1, sv.equals (tv) ? BigInteger.ONE : BigInteger.ZERO);
+    if (op.startsWith ("bvu"))
+      cmp = sv.compareTo (tv);
+    else if (op.startsWith ("bvs"))
+      cmp = s.getSigned().compareTo (t.getSigned());
+    else
+      throw new IllegalArgumentException ("unknown operator: " + op);
+    op = op.substring (3);
+    if (op.equals ("lt"))
+      return Boolean.valueOf (cmp < 0);
+    if (op.equals ("le"))
+      return Boolean.valueOf (cmp <= 0);
+    if (op.equals ("gt"))
+      return Boolean.valueOf (cmp > 0);
+    if (op.equals ("ge"))
+      return Boolean.valueOf (cmp >= 0);
+    throw new IllegalArgumentException ("unknown operator: bv" + op);
+  }
+
+}
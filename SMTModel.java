@@ -0,0 +1,30 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+/* interpretation of the declared (uninterpreted) symbols of an instance,
+ * queried by SMTEvaluator whenever a symbol has no definition */
+public interface SMTModel {
+
+  /* value of the constant 'name' of sort 'type' */
+  public Object getValue (String name, SMTType type);
+
+  /* value of the function 'name' applied to 'args', result of sort 'type' */
+  public Object apply (String name, Object []args, SMTType type);
+
+}
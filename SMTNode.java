@@ -22,6 +22,15 @@ public class SMTNode
 
   protected static int nodeCtr = 0;
 
+  /* if set, hash codes do not depend on the identity of objects, so
+   * iteration orders of hash maps only depend on the instance itself */
+  protected static boolean stableHashCodes = false;
+
+  protected int id;
+
+  /* if not null, bit-widths of new nodes are added to it */
+  protected static InstanceFeatures features = null;
+
 
   protected SMTType type;
 
@@ -34,7 +43,16 @@ public class SMTNode
 
     this.type = type;
     this.name = name;
+    this.id = nodeCtr;
     nodeCtr++;
+    if (features != null && type instanceof BVType)
+      features.addWidth (((BVType) type).getWidth());
+  }
+
+  public int hashCode (){
+    if (stableHashCodes)
+      return this.id * 0x9E3779B1;
+    return super.hashCode();
   }
 
   public SMTType getType(){
@@ -49,4 +67,20 @@ public class SMTNode
     return nodeCtr;
   }
 
+  public static void resetNodeCtr (){
+    nodeCtr = 0;
+  }
+
+  public static boolean hasStableHashCodes (){
+    return stableHashCodes;
+  }
+
+  public static void setFeatures (InstanceFeatures instanceFeatures){
+    features = instanceFeatures;
+  }
+
+  public static void setStableHashCodes (boolean stable){
+    stableHashCodes = stable;
+  }
+
 }
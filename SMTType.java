@@ -17,8 +17,29 @@
  *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
 
+/* types are interned by the static get methods of their classes, so
+ * equal types are identical and the identity hash code agrees with
+ * equals */
 public abstract class SMTType {
 
+  /* the classes forget the types they interned in an older generation on
+   * their next lookup, see FuzzSMT.resetTypes */
+  private static volatile int generation;
+
+  public static void newGeneration (){
+    generation++;
+  }
+
+  protected static int getGeneration (){
+    return generation;
+  }
+
   public abstract String toString(boolean smtlib1);
 
+  public int hashCode() {
+    if (SMTNode.hasStableHashCodes())
+      return this.toString(false).hashCode();
+    return super.hashCode();
+  }
+
 }
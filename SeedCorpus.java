@@ -0,0 +1,370 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.util.*;
+
+/* terms of SMT-LIB 2 benchmarks which are imported as operands. Files are
+ * mapped into memory and checked in place by a SortChecker, which reports
+ * every term without free variables. Bit-vector terms and formulas up to
+ * MAX_TERM bytes are recorded by their position and sort only, their text
+ * is copied out of the mapped file when they are used. The declarations of
+ * a file are kept as signatures, the symbols of a term are renamed when it
+ * is used, so they do not clash with generated names. */
+public class SeedCorpus {
+
+  /* longest term which is recorded in bytes */
+  private static final int MAX_TERM = 4096;
+
+  /* records the terms and declarations of one file */
+  private class Importer extends SortChecker {
+
+    protected int file;
+
+    protected HashMap<String, Signature> declarations;
+
+    protected void subterm (int start, int end, SMTType sort, int flags){
+      if (end - start <= MAX_TERM && (flags & OTHER) == 0)
+        add (this.file, start, end, sort, (flags & UF) != 0);
+    }
+
+    protected void declared (Symbol s){
+      ArrayList<SMTType> operandTypes;
+
+      operandTypes = new ArrayList<SMTType>();
+      if (s.args != null)
+        operandTypes.addAll (Arrays.asList (s.args));
+      this.declarations.put (new String (s.name, StandardCharsets.ISO_8859_1),
+                             new Signature (operandTypes, s.sort));
+    }
+
+    /* names of let and quantifier variables which may clash with the
+     * names of imported symbols */
+    protected HashSet<String> getLocals (){
+      HashSet<String> result;
+      String name;
+
+      result = new HashSet<String>();
+      for (Symbol bucket : this.table) {
+        for (Symbol s = bucket; s != null; s = s.next) {
+          if (s.kind == USER && s.sort == null && s.name.length > 1 &&
+              s.name[0] == 's') {
+            name = new String (s.name, StandardCharsets.ISO_8859_1);
+            if (name.matches ("s[0-9]+_*"))
+              result.add (name);
+          }
+        }
+      }
+      return result;
+    }
+
+  }
+
+  protected ArrayList<ByteBuffer> files;
+
+  protected ArrayList<HashMap<String, Signature>> declarations; /* by file */
+
+  protected ArrayList<HashSet<String>> locals; /* by file */
+
+  protected int numTerms;
+
+  protected int []termFiles;
+
+  protected int []termStarts;
+
+  protected int []termEnds;
+
+  protected int []termSorts; /* sort ids */
+
+  protected ArrayList<SMTType> sorts; /* by id, sorts are interned */
+
+  protected IdentityHashMap<SMTType, Integer> sortIds;
+
+  /* terms by sort id, which apply no functions, the first element is
+   * the number of terms */
+  protected ArrayList<int[]> termsOfSort;
+
+  protected ArrayList<int[]> ufTermsOfSort; /* terms applying functions */
+
+  protected int numSkipped; /* files which are not well-sorted */
+
+  public SeedCorpus (){
+    this.files = new ArrayList<ByteBuffer>();
+    this.declarations = new ArrayList<HashMap<String, Signature>>();
+    this.locals = new ArrayList<HashSet<String>>();
+    this.termFiles = new int[1024];
+    this.termStarts = new int[1024];
+    this.termEnds = new int[1024];
+    this.termSorts = new int[1024];
+    this.sorts = new ArrayList<SMTType>();
+    this.sortIds = new IdentityHashMap<SMTType, Integer>();
+    this.termsOfSort = new ArrayList<int[]>();
+    this.ufTermsOfSort = new ArrayList<int[]>();
+  }
+
+  private static int []append (int []list, int value){
+    if (list[0] + 1 == list.length)
+      list = Arrays.copyOf (list, 2 * list.length);
+    list[++list[0]] = value;
+    return list;
+  }
+
+  protected void add (int file, int start, int end, SMTType sort, boolean uf){
+    Integer id;
+
+    if (this.numTerms == this.termFiles.length) {
+      this.termFiles = Arrays.copyOf (this.termFiles, 2 * this.numTerms);
+      this.termStarts = Arrays.copyOf (this.termStarts, 2 * this.numTerms);
+      this.termEnds = Arrays.copyOf (this.termEnds, 2 * this.numTerms);
+      this.termSorts = Arrays.copyOf (this.termSorts, 2 * this.numTerms);
+    }
+    this.termFiles[this.numTerms] = file;
+    this.termStarts[this.numTerms] = start;
+    this.termEnds[this.numTerms] = end;
+    id = this.sortIds.get (sort);
+    if (id == null) {
+      id = this.sorts.size();
+      this.sorts.add (sort);
+      this.sortIds.put (sort, id);
+      this.termsOfSort.add (new int[16]);
+      this.ufTermsOfSort.add (new int[16]);
+    }
+    this.termSorts[this.numTerms] = id;
+    if (uf)
+      this.ufTermsOfSort.set (id, append (this.ufTermsOfSort.get (id),
+                                          this.numTerms));
+    else
+      this.termsOfSort.set (id, append (this.termsOfSort.get (id),
+                                        this.numTerms));
+    this.numTerms++;
+  }
+
+  /* maps 'file' and records its terms, returns false if the file is
+   * not well-sorted or too large to be mapped */
+  public boolean load (File file) throws IOException {
+    RandomAccessFile raf;
+    FileChannel channel;
+    ByteBuffer buffer;
+    Importer importer;
+    int first;
+
+    assert (file != null);
+    raf = new RandomAccessFile (file, "r");
+    try {
+      channel = raf.getChannel();
+      if (channel.size() > Integer.MAX_VALUE) {
+        this.numSkipped++;
+        return false;
+      }
+      /* the mapping stays valid after the channel is closed */
+      buffer = channel.map (FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } finally {
+      raf.close();
+    }
+    importer = new Importer();
+    importer.file = this.files.size();
+    importer.declarations = new HashMap<String, Signature>();
+    first = this.numTerms;
+    if (importer.check (buffer, buffer.capacity()) != null) {
+      /* drops the terms recorded before the error */
+      for (int id = 0; id < this.sorts.size(); id++) {
+        truncate (this.termsOfSort.get (id), first);
+        truncate (this.ufTermsOfSort.get (id), first);
+      }
+      this.numTerms = first;
+      this.numSkipped++;
+      return false;
+    }
+    this.files.add (buffer);
+    this.declarations.add (importer.declarations);
+    this.locals.add (importer.getLocals());
+    return true;
+  }
+
+  private static void truncate (int []list, int first){
+    while (list[0] > 0 && list[list[0]] >= first)
+      list[0]--;
+  }
+
+  /* loads 'path' and all .smt2 files below it in the order of their
+   * names, returns the number of files which are not well-sorted */
+  public int loadAll (File path) throws IOException {
+    File []children;
+
+    assert (path != null);
+    if (!path.isDirectory()) {
+      load (path);
+      return this.numSkipped;
+    }
+    children = path.listFiles();
+    if (children == null)
+      throw new IOException ("can not read " + path);
+    Arrays.sort (children);
+    for (File child : children) {
+      if (child.isDirectory() || child.getName().endsWith (".smt2"))
+        loadAll (child);
+    }
+    return this.numSkipped;
+  }
+
+  public int size (){
+    return this.numTerms;
+  }
+
+  public int getNumFiles (){
+    return this.files.size();
+  }
+
+  /* random term which is a formula or a bit-vector of at most 'maxWidth'
+   * bits, only applies functions if 'uf', -1 if there is none */
+  public int select (Random r, int maxWidth, boolean uf){
+    SMTType sort;
+    int total, i;
+
+    assert (r != null);
+    total = 0;
+    for (int id = 0; id < this.sorts.size(); id++) {
+      sort = this.sorts.get (id);
+      if (sort instanceof BVType && ((BVType) sort).getWidth() > maxWidth)
+        continue;
+      total += this.termsOfSort.get (id)[0];
+      if (uf)
+        total += this.ufTermsOfSort.get (id)[0];
+    }
+    if (total == 0)
+      return -1;
+    i = r.nextInt (total);
+    for (int id = 0; ; id++) {
+      sort = this.sorts.get (id);
+      if (sort instanceof BVType && ((BVType) sort).getWidth() > maxWidth)
+        continue;
+      if (i < this.termsOfSort.get (id)[0])
+        return this.termsOfSort.get (id)[i + 1];
+      i -= this.termsOfSort.get (id)[0];
+      if (!uf)
+        continue;
+      if (i < this.ufTermsOfSort.get (id)[0])
+        return this.ufTermsOfSort.get (id)[i + 1];
+      i -= this.ufTermsOfSort.get (id)[0];
+    }
+  }
+
+  public SMTType getSort (int term){
+    assert (term >= 0 && term < this.numTerms);
+    return this.sorts.get (this.termSorts[term]);
+  }
+
+  /* calls 'visitor' with the declared symbol of every atom of 'term'
+   * and its position, and with null for other atoms. Comments are
+   * skipped. */
+  private interface AtomVisitor {
+    void visit (Signature symbol, int start, int end);
+  }
+
+  private void atoms (int term, AtomVisitor visitor){
+    ByteBuffer text;
+    HashMap<String, Signature> declarations;
+    byte []b;
+    int pos, start, end;
+    byte c;
+
+    text = this.files.get (this.termFiles[term]);
+    declarations = this.declarations.get (this.termFiles[term]);
+    pos = this.termStarts[term];
+    end = this.termEnds[term];
+    while (pos < end) {
+      c = text.get (pos);
+      if (c == '(' || c == ')' || c == ' ' || c == '\n' || c == '\t' ||
+          c == '\r') {
+        pos++;
+        continue;
+      }
+      start = pos;
+      if (c == ';') {
+        while (pos < end && text.get (pos) != '\n')
+          pos++;
+        continue;
+      }
+      if (c == '|' || c == '"') {
+        for (pos++; pos < end && text.get (pos) != c; pos++)
+          ;
+        pos++;
+      } else {
+        while (pos < end && (c = text.get (pos)) != '(' && c != ')' &&
+               c != ' ' && c != '\n' && c != '\t' && c != '\r' && c != ';')
+          pos++;
+      }
+      b = new byte[pos - start];
+      for (int i = 0; i < b.length; i++)
+        b[i] = text.get (start + i);
+      visitor.visit (declarations.get (new String (b, StandardCharsets.ISO_8859_1)),
+                     start, pos);
+    }
+  }
+
+  /* appends the declared symbols of 'term' to 'symbols' in the order of
+   * their first occurrence, unless they are in it already */
+  public void getSymbols (int term, final List<Signature> symbols){
+    assert (term >= 0 && term < this.numTerms);
+    assert (symbols != null);
+    atoms (term, new AtomVisitor() {
+      public void visit (Signature symbol, int start, int end){
+        if (symbol != null && !symbols.contains (symbol))
+          symbols.add (symbol);
+      }
+    });
+  }
+
+  /* adds the local variables of the file of 'term' which look like
+   * imported names to 'names' */
+  public void getLocals (int term, Set<String> names){
+    assert (term >= 0 && term < this.numTerms);
+    names.addAll (this.locals.get (this.termFiles[term]));
+  }
+
+  /* text of 'term' with its declared symbols renamed to 'names' */
+  public String getText (int term, final Map<Signature, String> names){
+    final ByteBuffer text;
+    final StringBuilder builder;
+    final int []copied;
+
+    assert (term >= 0 && term < this.numTerms);
+    assert (names != null);
+    text = this.files.get (this.termFiles[term]);
+    builder = new StringBuilder();
+    copied = new int[] {this.termStarts[term]};
+    atoms (term, new AtomVisitor() {
+      public void visit (Signature symbol, int start, int end){
+        if (symbol == null)
+          return;
+        for (int i = copied[0]; i < start; i++)
+          builder.append ((char) (text.get (i) & 0xff));
+        builder.append (names.get (symbol));
+        copied[0] = end;
+      }
+    });
+    for (int i = copied[0]; i < this.termEnds[term]; i++)
+      builder.append ((char) (text.get (i) & 0xff));
+    return builder.toString();
+  }
+
+}
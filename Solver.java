@@ -0,0 +1,299 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.security.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/* external solver which reads an instance from stdin */
+public class Solver {
+
+  protected String []command;
+
+  protected long timeout; /* milliseconds, 0 means no timeout */
+
+  protected byte []identity;
+
+  protected boolean measureMemory; /* sample the peak resident set size */
+
+  private static final long SAMPLE_INTERVAL = 5; /* milliseconds */
+
+  protected static boolean events; /* record a ProcessEvent per run */
+
+  public Solver (String []command, long timeout){
+    assert (command != null);
+    assert (command.length > 0);
+    assert (timeout >= 0);
+    this.command = command;
+    this.timeout = timeout;
+  }
+
+  /* splits a command line such as "z3 -in" at whitespace */
+  public static Solver fromCommandLine (String commandLine, long timeout){
+    assert (commandLine != null);
+    return new Solver (commandLine.trim().split ("\\s+"), timeout);
+  }
+
+  /* records a flight recorder event for every run of a solver */
+  public static void setEvents (boolean enabled){
+    events = enabled;
+  }
+
+  /* records the peak memory of every run in its result, which costs a
+   * thread sampling /proc while the solver runs (Linux only) */
+  public void setMeasureMemory (boolean enabled){
+    this.measureMemory = enabled;
+  }
+
+  public String getName(){
+    StringBuilder builder;
+
+    builder = new StringBuilder();
+    for (int i = 0; i < this.command.length; i++) {
+      if (i > 0)
+        builder.append (" ");
+      builder.append (this.command[i]);
+    }
+    return builder.toString();
+  }
+
+  /* the executable of the solver, searched in PATH if the command
+   * does not name a file, or null if it can not be found */
+  protected File getExecutable(){
+    File file;
+    String path;
+
+    if (this.command[0].indexOf (File.separatorChar) >= 0)
+      return new File (this.command[0]);
+    path = System.getenv ("PATH");
+    if (path == null)
+      return null;
+    for (String dir : path.split (File.pathSeparator)) {
+      file = new File (dir, this.command[0]);
+      if (file.isFile())
+        return file;
+    }
+    return null;
+  }
+
+  /* 16 bytes identifying the solver binary, its options and the timeout,
+   * used as part of result cache keys */
+  public byte []getIdentity(){
+    MessageDigest digest;
+    File executable;
+
+    if (this.identity != null)
+      return this.identity;
+    try {
+      digest = MessageDigest.getInstance ("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new Error (e);
+    }
+    executable = getExecutable();
+    if (executable != null) {
+      try {
+        digest.update (Files.readAllBytes (executable.toPath()));
+      } catch (IOException e) {
+        /* identified by command line only */
+      }
+    }
+    for (int i = 0; i < this.command.length; i++) {
+      digest.update (this.command[i].getBytes (StandardCharsets.UTF_8));
+      digest.update ((byte) 0);
+    }
+    digest.update (Long.toString (this.timeout).getBytes (StandardCharsets.UTF_8));
+    this.identity = Arrays.copyOf (digest.digest(), 16);
+    return this.identity;
+  }
+
+  public static SolverResult.Status parseStatus (String output){
+    String line;
+    int nl;
+
+    assert (output != null);
+    nl = output.indexOf ('\n');
+    line = (nl < 0 ? output : output.substring (0, nl)).trim();
+    if (line.equals ("sat"))
+      return SolverResult.Status.SAT;
+    if (line.equals ("unsat"))
+      return SolverResult.Status.UNSAT;
+    if (line.equals ("unknown"))
+      return SolverResult.Status.UNKNOWN;
+    return SolverResult.Status.ERROR;
+  }
+
+  private static Thread copy (final InputStream in, final OutputStream out){
+    Thread thread;
+
+    thread = new Thread() {
+      public void run(){
+        byte []buffer = new byte[8192];
+        int n;
+
+        try {
+          while ((n = in.read (buffer)) >= 0)
+            out.write (buffer, 0, n);
+        } catch (IOException e) {
+          /* process has been killed */
+        }
+      }
+    };
+    thread.setDaemon (true);
+    thread.start();
+    return thread;
+  }
+
+  /* VmHWM of process 'pid' in kilobytes, 0 if it has exited */
+  private static long residentPeak (long pid){
+    try {
+      for (String line : Files.readAllLines (Paths.get ("/proc/" + pid + "/status"),
+                                             StandardCharsets.ISO_8859_1)) {
+        if (line.startsWith ("VmHWM:"))
+          return Long.parseLong (line.substring (6).replace ("kB", "").trim());
+      }
+    } catch (IOException e) {
+      /* process has exited */
+    } catch (NumberFormatException e) {
+      /* unknown format */
+    }
+    return 0;
+  }
+
+  /* samples the peak memory of 'process' and its descendants, e.g. of a
+   * solver started by a script, into 'peak' until it exits. The high
+   * water marks are kept by the kernel, so short peaks between two
+   * samples are not missed, only the last interval before an exit */
+  private static Thread sample (final Process process, final long []peak){
+    Thread thread;
+
+    thread = new Thread() {
+      public void run(){
+        Iterator<ProcessHandle> children;
+        long total;
+
+        while (process.isAlive()) {
+          total = residentPeak (process.pid());
+          children = process.descendants().iterator();
+          while (children.hasNext())
+            total += residentPeak (children.next().pid());
+          peak[0] = Math.max (peak[0], total);
+          try {
+            Thread.sleep (SAMPLE_INTERVAL);
+          } catch (InterruptedException e) {
+            return;
+          }
+        }
+      }
+    };
+    thread.setDaemon (true);
+    thread.start();
+    return thread;
+  }
+
+  public SolverResult solve (String instance){
+    ProcessEvent event;
+    SolverResult result;
+
+    if (!events)
+      return run (instance);
+    event = new ProcessEvent();
+    event.begin();
+    result = run (instance);
+    event.command = getName();
+    event.exitStatus = result.getExitCode();
+    event.commit();
+    return result;
+  }
+
+  /* passes 'instance' to the solver and waits for its result */
+  protected SolverResult run (final String instance){
+    ProcessBuilder builder;
+    final Process process;
+    ByteArrayOutputStream output;
+    Thread reader, writer, sampler = null;
+    SolverResult result;
+    boolean finished;
+    long start;
+    long []peak = new long[1];
+
+    assert (instance != null);
+    builder = new ProcessBuilder (this.command);
+    builder.redirectErrorStream (true);
+    start = System.currentTimeMillis();
+    try {
+      process = builder.start();
+    } catch (IOException e) {
+      return new SolverResult (SolverResult.Status.ERROR, e.getMessage() + "\n",
+                               -1, 0);
+    }
+    if (this.measureMemory)
+      sampler = sample (process, peak);
+    output = new ByteArrayOutputStream();
+    reader = copy (process.getInputStream(), output);
+    writer = new Thread() {
+      public void run(){
+        OutputStream in = process.getOutputStream();
+
+        try {
+          in.write (instance.getBytes());
+          in.close();
+        } catch (IOException e) {
+          /* solver exited before reading the whole instance */
+        }
+      }
+    };
+    writer.setDaemon (true);
+    writer.start();
+    try {
+      if (this.timeout > 0) {
+        finished = process.waitFor (this.timeout, TimeUnit.MILLISECONDS);
+      } else {
+        process.waitFor();
+        finished = true;
+      }
+      if (!finished) {
+        process.destroyForcibly();
+        process.waitFor();
+      }
+      reader.join();
+      if (sampler != null)
+        sampler.join();
+    } catch (InterruptedException e) {
+      process.destroyForcibly();
+      throw new Error (e);
+    }
+    if (!finished)
+      result = new SolverResult (SolverResult.Status.TIMEOUT, output.toString(),
+                                 -1, System.currentTimeMillis() - start);
+    else
+      result = new SolverResult (parseStatus (output.toString()),
+                                 output.toString(), process.exitValue(),
+                                 System.currentTimeMillis() - start);
+    result.setPeakMemory (peak[0]);
+    return result;
+  }
+
+  /* releases resources kept between instances */
+  public void close (){
+  }
+
+}
@@ -0,0 +1,112 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.util.*;
+import java.math.*;
+
+/* model returned by a solver in response to (get-model).
+ * Both "(model (define-fun ...) ...)" and "((define-fun ...) ...)"
+ * are accepted. Symbols the solver left out get a default value, as
+ * their value does not matter to the solver. Division by zero is only
+ * evaluated if the model defines it. */
+public class SolverModel implements SMTModel {
+
+  protected SMTEvaluator evaluator;
+
+  public SolverModel (Object []model){
+    ArrayList<Object> commands;
+    int start;
+
+    assert (model != null);
+    this.evaluator = new SMTEvaluator (this);
+    start = model.length > 0 && "model".equals (model[0]) ? 1 : 0;
+    commands = new ArrayList<Object>();
+    for (int i = start; i < model.length; i++)
+      commands.add (model[i]);
+    this.evaluator.execute (commands);
+  }
+
+  /* parses the model that follows the status line in 'output' */
+  public static SolverModel parse (String output){
+    List<Object> exprs;
+
+    exprs = SMTEvaluator.parse (output);
+    for (Object o : exprs) {
+      if (o instanceof Object[])
+        return new SolverModel ((Object []) o);
+    }
+    throw new IllegalArgumentException ("no model found");
+  }
+
+  public Object getValue (String name, SMTType type){
+    if (this.evaluator.isDefined (name))
+      return this.evaluator.evalDefinition (name, new Object[0]);
+    if (this.evaluator.isDeclared (name))
+      /* element of an uninterpreted sort declared by the model itself */
+      return name;
+    return defaultValue (type);
+  }
+
+  public Object apply (String name, Object []args, SMTType type){
+    if (this.evaluator.isDefined (name))
+      return this.evaluator.evalDefinition (name, args);
+    /* division by zero is not a symbol of the instance, so a default
+     * value would be a guess the solver did not make */
+    if (name.equals ("/0") || name.equals ("div0") || name.equals ("mod0"))
+      throw new IllegalArgumentException ("division by zero not in model");
+    return defaultValue (type);
+  }
+
+  /* validates the model of a sat answer by evaluating all assertions
+   * of 'instance' under it */
+  public static String check (String instance, SolverResult result){
+    SolverModel model;
+    List<Object> values;
+
+    assert (instance != null);
+    assert (result != null);
+    assert (result.getStatus() == SolverResult.Status.SAT);
+    try {
+      model = parse (result.getOutputAfterStatus());
+      values = new SMTEvaluator (model).execute (SMTEvaluator.parse (instance));
+    } catch (RuntimeException e) {
+      return "model unchecked (" + e.getMessage() + ")";
+    }
+    for (int i = 0; i < values.size(); i++) {
+      if (!((Boolean) values.get(i)).booleanValue())
+        return "WRONG MODEL (assertion " + i + " is false)";
+    }
+    return "model ok";
+  }
+
+  public static Object defaultValue (SMTType type){
+    if (type instanceof BoolType)
+      return Boolean.FALSE;
+    if (type instanceof BVType)
+      return new BVValue (((BVType) type).width, BigInteger.ZERO);
+    if (type instanceof IntType || type instanceof RealType)
+      return BigInteger.ZERO;
+    if (type instanceof ArrayTypeFromTo)
+      return new ArrayValue (defaultValue (((ArrayTypeFromTo) type).to),
+                             ArrayValue.domainSize (((ArrayTypeFromTo) type).from));
+    assert (type instanceof UType);
+    return type.toString (false) + "!default";
+  }
+
+}
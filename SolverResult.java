@@ -0,0 +1,90 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+/* outcome of one solver run */
+public class SolverResult {
+
+  public enum Status {
+    SAT,
+    UNSAT,
+    UNKNOWN,
+    TIMEOUT,
+    ERROR;
+
+    public String toString(){
+      return super.toString().toLowerCase();
+    }
+  }
+
+  protected Status status;
+
+  protected String output; /* stdout and stderr of the solver */
+
+  protected int exitCode;
+
+  protected long time; /* wall clock time in milliseconds */
+
+  protected long peakMemory; /* kilobytes, 0 if it has not been measured */
+
+  public SolverResult (Status status, String output, int exitCode, long time){
+    assert (status != null);
+    assert (output != null);
+    assert (time >= 0);
+    this.status = status;
+    this.output = output;
+    this.exitCode = exitCode;
+    this.time = time;
+  }
+
+  public Status getStatus(){
+    return this.status;
+  }
+
+  public String getOutput(){
+    return this.output;
+  }
+
+  public int getExitCode(){
+    return this.exitCode;
+  }
+
+  public long getTime(){
+    return this.time;
+  }
+
+  public long getPeakMemory(){
+    return this.peakMemory;
+  }
+
+  public void setPeakMemory (long peakMemory){
+    assert (peakMemory >= 0);
+    this.peakMemory = peakMemory;
+  }
+
+  /* output following the first line, e.g. the model after "sat" */
+  public String getOutputAfterStatus(){
+    int nl;
+
+    nl = this.output.indexOf ('\n');
+    if (nl < 0)
+      return "";
+    return this.output.substring (nl + 1);
+  }
+
+}
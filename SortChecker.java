@@ -0,0 +1,1338 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
+
+/* single pass sort checker for SMT-LIB 1.2 and SMT-LIB 2 instances.
+ *
+ * The bytes of an instance are tokenized and checked on the fly with an
+ * explicit stack of frames, one per open parenthesis, so no syntax tree
+ * is built and deeply nested let chains need no recursion. Only
+ * declarations and sorts are parsed into s-expressions. Atoms are looked
+ * up in a hash table keyed by their bytes, so no strings are created
+ * for them. The checker reports the first of
+ *   undeclared symbols,
+ *   indices of extract out of the bounds of the operand,
+ *   bit-vector operands of different widths,
+ *   applications of functions and predicates with a wrong number or
+ *   wrong sorts of arguments,
+ *   operands of the wrong sort, e.g. a term where a formula is expected.
+ * Int and Real are compatible, as generated instances of mixed logics
+ * rely on the implicit conversion. A checker is not thread-safe, but
+ * instances can be checked in parallel by separate checkers. */
+public class SortChecker {
+
+  /* builtin symbols */
+  protected static final int USER = 0;
+  private static final int BOOL_OP = 1;       /* not and or xor => iff */
+  private static final int EQ = 2;            /* = distinct */
+  private static final int ITE = 3;
+  private static final int CONST_BOOL = 4;    /* true false */
+  private static final int BV_UNARY = 5;
+  private static final int BV_BINARY = 6;
+  private static final int BV_COMP = 7;
+  private static final int BV_PRED = 8;
+  private static final int CONCAT = 9;
+  private static final int EXTRACT = 10;
+  private static final int REPEAT = 11;
+  private static final int EXTEND = 12;
+  private static final int ROTATE = 13;
+  private static final int ARITH = 14;
+  private static final int ARITH_PRED = 15;
+  private static final int SELECT = 16;
+  private static final int STORE = 17;
+  private static final int LET = 18;
+  private static final int QUANT = 19;
+  private static final int ANNOT = 20;
+  private static final int INDEXED = 21;
+
+  /* frames */
+  private static final int K_COMMAND = 0;     /* head not seen yet */
+  private static final int K_ASSERT = 1;
+  private static final int K_BENCH = 2;
+  private static final int K_DATA = 3;        /* s-expression, e.g. a sort */
+  private static final int K_SKIP = 4;
+  private static final int K_TERM = 5;        /* head not seen yet */
+  private static final int K_APP = 6;
+  private static final int K_INDEXED = 7;
+  private static final int K_LET = 8;
+  private static final int K_BINDS = 9;
+  private static final int K_BIND = 10;
+  private static final int K_QUANT = 11;
+  private static final int K_QOPEN = 12;      /* variables or body */
+  private static final int K_QVARS = 13;
+  private static final int K_QVAR = 14;
+  private static final int K_ANNOT = 15;
+  private static final int K_DECL = 16;
+  private static final int K_DEFINE = 17;     /* define-fun without parameters */
+
+  /* flags of terms passed to subterm */
+  public static final int UF = 1;             /* applies declared functions */
+  public static final int OTHER = 2;          /* has subterms which are not
+                                                 bit-vectors or formulas,
+                                                 quantifiers or annotations */
+
+  private static final SMTType BOOL = BoolType.boolType;
+
+  private static final SMTType INT = IntType.intType;
+
+  private static final SMTType REAL = RealType.realType;
+
+  /* symbol of the table, bound to a sort or declared as function */
+  protected static class Symbol {
+    byte []name;
+    int hash;
+    int kind;
+    SMTType sort;        /* result sort, null if not declared */
+    SMTType []args;      /* null for constants and bound variables */
+    int scope;           /* frame of the binding, -1 if declared */
+    Symbol next;         /* in the same bucket */
+  }
+
+  protected static class Frame {
+    int kind;
+    int start;           /* position of the parenthesis */
+    Symbol op;
+    int index0, index1;  /* of indexed operators */
+    int numIndices;
+    boolean head;        /* indexed operator in head position */
+    SMTType []args = new SMTType[4];
+    int numArgs;
+    ArrayList<Object> data;
+    Symbol name;         /* bound by K_BIND and K_QVAR */
+    int undo;            /* mark of the undo stack */
+    int state;
+    int outer;           /* innermost frame binding a variable of the term */
+    int flags;
+  }
+
+  protected Symbol []table;
+
+  protected int numSymbols;
+
+  protected Frame []stack;
+
+  protected int depth;
+
+  protected Symbol []undoSymbols;   /* bindings which are undone on close */
+
+  protected SMTType []undoSorts;
+
+  protected int []undoScopes;
+
+  protected int numUndo;
+
+  protected ArrayList<Symbol> pending; /* bindings of the current let */
+
+  protected ArrayList<SMTType> pendingSorts;
+
+  protected boolean smtlib1;
+
+  protected boolean indexElement; /* Array is Index to Element in QF_A(X) */
+
+  protected ByteBuffer text;
+
+  protected String error;
+
+  protected int errorPos;
+
+  /* checkers of the threads calling forThread. Kept here rather than in
+   * FuzzSMT, so the thread local is only created once instances are
+   * validated and plain generation allocates nothing for it */
+  private static final ThreadLocal<SortChecker> checkers =
+    new ThreadLocal<SortChecker>() {
+      protected SortChecker initialValue (){
+        return new SortChecker();
+      }
+    };
+
+  /* checker of the calling thread */
+  public static SortChecker forThread (){
+    return checkers.get();
+  }
+
+  public SortChecker (){
+    this.stack = new Frame[64];
+    this.undoSymbols = new Symbol[64];
+    this.undoSorts = new SMTType[64];
+    this.undoScopes = new int[64];
+    this.pending = new ArrayList<Symbol>();
+    this.pendingSorts = new ArrayList<SMTType>();
+    reset();
+  }
+
+  private void reset (){
+    this.table = new Symbol[1024];
+    this.numSymbols = 0;
+    builtins (BOOL_OP, "not", "and", "or", "xor", "=>", "implies", "iff");
+    builtins (EQ, "=", "distinct");
+    builtins (ITE, "ite", "if_then_else");
+    builtins (CONST_BOOL, "true", "false");
+    builtins (BV_UNARY, "bvnot", "bvneg");
+    builtins (BV_BINARY, "bvand", "bvnand", "bvor", "bvnor", "bvxor", "bvxnor",
+              "bvadd", "bvsub", "bvmul", "bvudiv", "bvurem", "bvsdiv",
+              "bvsrem", "bvsmod", "bvshl", "bvlshr", "bvashr");
+    builtins (BV_COMP, "bvcomp");
+    builtins (BV_PRED, "bvult", "bvule", "bvugt", "bvuge", "bvslt", "bvsle",
+              "bvsgt", "bvsge");
+    builtins (CONCAT, "concat");
+    builtins (EXTRACT, "extract");
+    builtins (REPEAT, "repeat");
+    builtins (EXTEND, "zero_extend", "sign_extend");
+    builtins (ROTATE, "rotate_left", "rotate_right");
+    builtins (ARITH, "+", "-", "*", "/", "~", "div", "mod", "abs");
+    builtins (ARITH_PRED, "<", "<=", ">", ">=");
+    builtins (SELECT, "select");
+    builtins (STORE, "store");
+    builtins (LET, "let", "flet");
+    builtins (QUANT, "forall", "exists");
+    builtins (ANNOT, "!");
+    builtins (INDEXED, "_");
+    this.depth = 0;
+    this.numUndo = 0;
+    this.smtlib1 = false;
+    this.indexElement = false;
+    this.error = null;
+  }
+
+  private void builtins (int kind, String... names){
+    byte []name;
+
+    for (String s : names) {
+      name = s.getBytes();
+      intern (ByteBuffer.wrap (name), 0, name.length).kind = kind;
+    }
+  }
+
+/*----------------------------------------------------------------------------*/
+/* Symbol table                                                               */
+/*----------------------------------------------------------------------------*/
+
+  private static int hash (ByteBuffer b, int off, int len){
+    int h = 0;
+
+    for (int i = off; i < off + len; i++)
+      h = 31 * h + b.get (i);
+    return h ^ (h >>> 16);
+  }
+
+  private static boolean matches (Symbol s, ByteBuffer b, int off, int len){
+    if (s.name.length != len)
+      return false;
+    for (int i = 0; i < len; i++)
+      if (s.name[i] != b.get (off + i))
+        return false;
+    return true;
+  }
+
+  protected Symbol lookup (ByteBuffer b, int off, int len){
+    Symbol s;
+    int h;
+
+    h = hash (b, off, len);
+    for (s = this.table[h & (this.table.length - 1)]; s != null; s = s.next)
+      if (s.hash == h && matches (s, b, off, len))
+        return s;
+    return null;
+  }
+
+  protected Symbol intern (ByteBuffer b, int off, int len){
+    Symbol s;
+    Symbol []old;
+    int h;
+
+    s = lookup (b, off, len);
+    if (s != null)
+      return s;
+    if (2 * this.numSymbols >= this.table.length) {
+      old = this.table;
+      this.table = new Symbol[2 * old.length];
+      for (int i = 0; i < old.length; i++) {
+        for (Symbol o = old[i], next; o != null; o = next) {
+          next = o.next;
+          o.next = this.table[o.hash & (this.table.length - 1)];
+          this.table[o.hash & (this.table.length - 1)] = o;
+        }
+      }
+    }
+    h = hash (b, off, len);
+    s = new Symbol();
+    s.name = new byte[len];
+    for (int i = 0; i < len; i++)
+      s.name[i] = b.get (off + i);
+    s.hash = h;
+    s.scope = -1;
+    s.next = this.table[h & (this.table.length - 1)];
+    this.table[h & (this.table.length - 1)] = s;
+    this.numSymbols++;
+    return s;
+  }
+
+  private Symbol intern (String name){
+    byte []b = name.getBytes();
+
+    return intern (ByteBuffer.wrap (b), 0, b.length);
+  }
+
+  /* binds 's' to 'sort' until the innermost frame of 'kind' is closed */
+  private void bind (Symbol s, SMTType sort, int kind){
+    int scope;
+
+    for (scope = this.depth - 1; this.stack[scope].kind != kind; scope--)
+      ;
+    if (this.numUndo == this.undoSymbols.length) {
+      this.undoSymbols = Arrays.copyOf (this.undoSymbols, 2 * this.numUndo);
+      this.undoSorts = Arrays.copyOf (this.undoSorts, 2 * this.numUndo);
+      this.undoScopes = Arrays.copyOf (this.undoScopes, 2 * this.numUndo);
+    }
+    this.undoSymbols[this.numUndo] = s;
+    this.undoSorts[this.numUndo] = s.sort;
+    this.undoScopes[this.numUndo] = s.scope;
+    this.numUndo++;
+    s.sort = sort;
+    s.scope = scope;
+  }
+
+  private void unbind (int mark){
+    while (this.numUndo > mark) {
+      this.numUndo--;
+      this.undoSymbols[this.numUndo].sort = this.undoSorts[this.numUndo];
+      this.undoSymbols[this.numUndo].scope = this.undoScopes[this.numUndo];
+      this.undoSymbols[this.numUndo] = null;
+    }
+  }
+
+/*----------------------------------------------------------------------------*/
+/* Sorts                                                                      */
+/*----------------------------------------------------------------------------*/
+
+  private static boolean isNumeric (SMTType t){
+    return t == INT || t == REAL;
+  }
+
+  private static boolean compatible (SMTType a, SMTType b){
+    ArrayTypeFromTo x, y;
+
+    if (a == b || (isNumeric (a) && isNumeric (b)))
+      return true;
+    if (a instanceof ArrayTypeFromTo && b instanceof ArrayTypeFromTo) {
+      x = (ArrayTypeFromTo) a;
+      y = (ArrayTypeFromTo) b;
+      return compatible (x.from, y.from) && compatible (x.to, y.to);
+    }
+    return false;
+  }
+
+  private static String name (SMTType t){
+    return t.toString (false);
+  }
+
+  private static int parseInt (String s){
+    try {
+      return Integer.parseInt (s);
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /* sort of the s-expression 's', null if it is unknown */
+  protected SMTType parseSort (Object s){
+    Object []l;
+    String name;
+    SMTType from, to;
+    int open, colon, w, v;
+
+    if (s instanceof String) {
+      name = (String) s;
+      if (name.equals ("Bool"))
+        return BOOL;
+      if (name.equals ("Int"))
+        return INT;
+      if (name.equals ("Real"))
+        return REAL;
+      if (this.smtlib1) {
+        if (name.equals ("Array1"))
+          return ArrayTypeFromTo.get (INT, REAL);
+        if (name.equals ("Array2"))
+          return ArrayTypeFromTo.get (INT, ArrayTypeFromTo.get (INT, REAL));
+        if (name.equals ("Array"))
+          return this.indexElement ?
+                 ArrayTypeFromTo.get (UType.get ("Index"), UType.get ("Element")) :
+                 ArrayTypeFromTo.get (INT, INT);
+        if (this.indexElement &&
+            (name.equals ("Index") || name.equals ("Element")))
+          return UType.get (name);
+        open = name.indexOf ('[');
+        if (open > 0 && name.endsWith ("]")) {
+          colon = name.indexOf (':', open);
+          if (name.startsWith ("BitVec[")) {
+            w = parseInt (name.substring (open + 1, name.length() - 1));
+            return w > 0 ? BVType.get (w) : null;
+          }
+          if (name.startsWith ("Array[") && colon > 0) {
+            w = parseInt (name.substring (open + 1, colon));
+            v = parseInt (name.substring (colon + 1, name.length() - 1));
+            return w > 0 && v > 0 ?
+                   ArrayTypeFromTo.get (BVType.get (w), BVType.get (v)) : null;
+          }
+        }
+      }
+      return intern (name).kind == -1 ? UType.get (name) : null;
+    }
+    l = (Object []) s;
+    if (l.length == 3 && "_".equals (l[0]) && "BitVec".equals (l[1])) {
+      w = l[2] instanceof String ? parseInt ((String) l[2]) : -1;
+      return w > 0 ? BVType.get (w) : null;
+    }
+    if (l.length == 3 && "Array".equals (l[0])) {
+      from = parseSort (l[1]);
+      to = parseSort (l[2]);
+      return from == null || to == null ? null : ArrayTypeFromTo.get (from, to);
+    }
+    return null;
+  }
+
+  /* marks 'name' as an uninterpreted sort */
+  private void declareSort (Object name){
+    if (name instanceof String)
+      intern ((String) name).kind = -1;
+  }
+
+  /* declares function 'name' with the sorts 'args' and 'result' */
+  private boolean declareFun (Object name, Object []args, Object result){
+    Symbol s;
+    SMTType []types;
+
+    if (!(name instanceof String))
+      return fail ("invalid declaration");
+    types = new SMTType[args.length];
+    for (int i = 0; i < args.length; i++) {
+      types[i] = parseSort (args[i]);
+      if (types[i] == null)
+        return fail ("unknown sort " + SMTEvaluator.toString (args[i]));
+    }
+    s = intern ((String) name);
+    if (s.kind != USER)
+      return fail ("declaration of builtin " + name);
+    s.sort = result == null ? BOOL : parseSort (result);
+    if (s.sort == null)
+      return fail ("unknown sort " + SMTEvaluator.toString (result));
+    s.args = types.length == 0 ? null : types;
+    declared (s);
+    return true;
+  }
+
+  /* declarations of :extrafuns, :extrapreds and :extrasorts */
+  private boolean declare1 (String attr, Object value){
+    Object []list, decl;
+
+    if (!(value instanceof Object[]))
+      return fail ("invalid " + attr);
+    list = (Object []) value;
+    for (int i = 0; i < list.length; i++) {
+      if (attr.equals (":extrasorts")) {
+        declareSort (list[i]);
+        continue;
+      }
+      if (!(list[i] instanceof Object[]) || ((Object []) list[i]).length == 0)
+        return fail ("invalid " + attr);
+      decl = (Object []) list[i];
+      if (attr.equals (":extrafuns")) {
+        if (decl.length < 2 ||
+            !declareFun (decl[0], Arrays.copyOfRange (decl, 1, decl.length - 1),
+                         decl[decl.length - 1]))
+          return false;
+      } else if (!declareFun (decl[0], Arrays.copyOfRange (decl, 1, decl.length),
+                              null)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /* declare-fun, declare-const and declare-sort */
+  private boolean declare2 (Object []cmd){
+    if (cmd[0].equals ("declare-sort")) {
+      if (cmd.length < 2)
+        return fail ("invalid declare-sort");
+      declareSort (cmd[1]);
+      return true;
+    }
+    if (cmd[0].equals ("declare-const")) {
+      if (cmd.length != 3)
+        return fail ("invalid declare-const");
+      return declareFun (cmd[1], new Object[0], cmd[2]);
+    }
+    if (cmd.length != 4 || !(cmd[2] instanceof Object[]))
+      return fail ("invalid declare-fun");
+    return declareFun (cmd[1], (Object []) cmd[2], cmd[3]);
+  }
+
+/*----------------------------------------------------------------------------*/
+/* Checker                                                                    */
+/*----------------------------------------------------------------------------*/
+
+  private boolean fail (String message){
+    if (this.error == null) {
+      this.error = message;
+      this.errorPos = this.depth > 0 ? this.stack[this.depth - 1].start : 0;
+    }
+    return false;
+  }
+
+  private String atom (int off, int len){
+    byte []b = new byte[len];
+
+    for (int i = 0; i < len; i++)
+      b[i] = this.text.get (off + i);
+    return new String (b, StandardCharsets.ISO_8859_1);
+  }
+
+  private Frame push (int kind, int pos){
+    Frame f;
+
+    if (this.depth == this.stack.length)
+      this.stack = Arrays.copyOf (this.stack, 2 * this.depth);
+    f = this.stack[this.depth];
+    if (f == null) {
+      f = new Frame();
+      this.stack[this.depth] = f;
+    }
+    this.depth++;
+    f.kind = kind;
+    f.start = pos;
+    f.op = null;
+    f.numIndices = 0;
+    f.head = false;
+    f.numArgs = 0;
+    f.data = null;
+    f.name = null;
+    f.undo = this.numUndo;
+    f.state = 0;
+    f.outer = Integer.MAX_VALUE;
+    f.flags = 0;
+    return f;
+  }
+
+  private static void addArg (Frame f, SMTType sort){
+    if (f.numArgs == f.args.length)
+      f.args = Arrays.copyOf (f.args, 2 * f.numArgs);
+    f.args[f.numArgs++] = sort;
+  }
+
+  /* sort of a constant or variable atom, null after an error */
+  private SMTType atomSort (int off, int len){
+    Frame f;
+    Symbol s;
+    byte c;
+    int open, w;
+    boolean decimal;
+
+    f = this.stack[this.depth - 1];
+    c = this.text.get (off);
+    if (c >= '0' && c <= '9') {
+      f.flags |= OTHER;
+      decimal = false;
+      for (int i = off; i < off + len; i++)
+        decimal |= this.text.get (i) == '.';
+      return decimal ? REAL : INT;
+    }
+    if (c == '#' && len > 2) {
+      if (this.text.get (off + 1) == 'b')
+        return BVType.get (len - 2);
+      if (this.text.get (off + 1) == 'x')
+        return BVType.get (4 * (len - 2));
+    }
+    s = lookup (this.text, off, len);
+    if (s != null && s.kind == CONST_BOOL)
+      return BOOL;
+    if (s != null && s.kind == USER && s.sort != null) {
+      if (s.args != null) {
+        fail (atom (off, len) + " expects " + s.args.length + " arguments");
+        return null;
+      }
+      if (s.scope >= 0)
+        f.outer = Math.min (f.outer, s.scope);
+      if (s.sort != BOOL && !(s.sort instanceof BVType))
+        f.flags |= OTHER;
+      return s.sort;
+    }
+    if (this.smtlib1 && len > 2 && c == 'b' && this.text.get (off + 1) == 'v') {
+      for (open = off; open < off + len && this.text.get (open) != '['; open++)
+        ;
+      if (open < off + len && this.text.get (off + len - 1) == ']') {
+        w = parseInt (atom (open + 1, off + len - open - 2));
+        if (w > 0)
+          return BVType.get (w);
+      }
+    }
+    fail ("undeclared symbol " + atom (off, len));
+    return null;
+  }
+
+  /* sets the operator of 'f' to the atom, with the indices of SMT-LIB 1
+   * operators such as extract[7:0] */
+  private boolean setOp (Frame f, int off, int len){
+    Symbol s;
+    int open, colon;
+    String indices;
+
+    s = lookup (this.text, off, len);
+    if (s == null && this.smtlib1) {
+      for (open = off; open < off + len && this.text.get (open) != '['; open++)
+        ;
+      if (open < off + len && this.text.get (off + len - 1) == ']') {
+        s = lookup (this.text, off, open - off);
+        indices = atom (open + 1, off + len - open - 2);
+        colon = indices.indexOf (':');
+        if (colon < 0) {
+          f.index0 = parseInt (indices);
+          f.numIndices = 1;
+        } else {
+          f.index0 = parseInt (indices.substring (0, colon));
+          f.index1 = parseInt (indices.substring (colon + 1));
+          f.numIndices = 2;
+        }
+      }
+    }
+    if (s == null || (s.kind == USER && s.sort == null))
+      return fail ("undeclared symbol " + atom (off, len));
+    f.op = s;
+    return true;
+  }
+
+  /* first element of a term list decides its kind */
+  private boolean headAtom (Frame f, int off, int len){
+    if (!setOp (f, off, len))
+      return false;
+    switch (f.op.kind) {
+      case LET:
+        f.kind = K_LET;
+        break;
+      case QUANT:
+        f.kind = K_QUANT;
+        f.flags |= OTHER;
+        break;
+      case ANNOT:
+        f.kind = K_ANNOT;
+        f.flags |= OTHER;
+        break;
+      case INDEXED:
+        f.kind = K_INDEXED;
+        f.state = 1;
+        break;
+      case CONST_BOOL:
+        return fail ("application of constant " + atom (off, len));
+      default:
+        if (f.op.kind == USER && f.op.args == null)
+          return fail ("application of constant " + atom (off, len));
+        f.kind = K_APP;
+        break;
+    }
+    return true;
+  }
+
+  private SMTType expectBV (Frame f, int i){
+    if (!(f.args[i] instanceof BVType)) {
+      fail (f.op == null ? "bit-vector expected" :
+            new String (f.op.name) + " expects bit-vectors, got " +
+            name (f.args[i]));
+      return null;
+    }
+    return f.args[i];
+  }
+
+  private int width (Frame f, int i){
+    SMTType t = expectBV (f, i);
+
+    return t == null ? -1 : ((BVType) t).getWidth();
+  }
+
+  private boolean arity (Frame f, int min, int max){
+    if (f.numArgs < min || f.numArgs > max)
+      return fail (new String (f.op.name) + " applied to " + f.numArgs +
+                   " arguments");
+    return true;
+  }
+
+  private boolean indices (Frame f, int n){
+    if (f.numIndices != n || f.index0 < 0 || (n == 2 && f.index1 < 0))
+      return fail ("invalid indices of " + new String (f.op.name));
+    return true;
+  }
+
+  /* result sort of the application 'f', null after an error */
+  private SMTType apply (Frame f){
+    SMTType t;
+    int w;
+
+    switch (f.op.kind) {
+      case BOOL_OP:
+        if (!arity (f, 1, f.op.name[0] == 'n' ? 1 : Integer.MAX_VALUE))
+          return null;
+        for (int i = 0; i < f.numArgs; i++)
+          if (f.args[i] != BOOL) {
+            fail (new String (f.op.name) + " expects formulas, got " +
+                  name (f.args[i]));
+            return null;
+          }
+        return BOOL;
+      case EQ:
+        if (!arity (f, 2, Integer.MAX_VALUE))
+          return null;
+        for (int i = 1; i < f.numArgs; i++)
+          if (!compatible (f.args[0], f.args[i])) {
+            fail (new String (f.op.name) + " of " + name (f.args[0]) +
+                  " and " + name (f.args[i]));
+            return null;
+          }
+        return BOOL;
+      case ITE:
+        if (!arity (f, 3, 3))
+          return null;
+        if (f.args[0] != BOOL || !compatible (f.args[1], f.args[2])) {
+          fail ("ite of " + name (f.args[0]) + ", " + name (f.args[1]) +
+                " and " + name (f.args[2]));
+          return null;
+        }
+        return f.args[1] == REAL ? REAL : f.args[2];
+      case BV_UNARY:
+        if (!arity (f, 1, 1))
+          return null;
+        return expectBV (f, 0);
+      case BV_BINARY:
+      case BV_COMP:
+      case BV_PRED:
+        if (!arity (f, 2, f.op.kind == BV_BINARY ? Integer.MAX_VALUE : 2))
+          return null;
+        w = width (f, 0);
+        for (int i = 1; i < f.numArgs && w > 0; i++) {
+          if (width (f, i) != w) {
+            if (f.args[i] instanceof BVType)
+              fail (new String (f.op.name) + " of widths " + w + " and " +
+                    width (f, i));
+            return null;
+          }
+        }
+        if (w < 0)
+          return null;
+        return f.op.kind == BV_BINARY ? f.args[0] :
+               f.op.kind == BV_COMP ? BVType.get (1) : BOOL;
+      case CONCAT:
+        if (!arity (f, 2, Integer.MAX_VALUE))
+          return null;
+        w = 0;
+        for (int i = 0; i < f.numArgs; i++) {
+          if (expectBV (f, i) == null)
+            return null;
+          w += width (f, i);
+        }
+        return BVType.get (w);
+      case EXTRACT:
+        if (!arity (f, 1, 1) || !indices (f, 2) || (w = width (f, 0)) < 0)
+          return null;
+        if (f.index0 >= w || f.index1 > f.index0) {
+          fail ("extract " + f.index0 + " " + f.index1 + " of width " + w);
+          return null;
+        }
+        return BVType.get (f.index0 - f.index1 + 1);
+      case REPEAT:
+        if (!arity (f, 1, 1) || !indices (f, 1) || (w = width (f, 0)) < 0)
+          return null;
+        if (f.index0 < 1) {
+          fail ("repeat " + f.index0);
+          return null;
+        }
+        return BVType.get (w * f.index0);
+      case EXTEND:
+        if (!arity (f, 1, 1) || !indices (f, 1) || (w = width (f, 0)) < 0)
+          return null;
+        return BVType.get (w + f.index0);
+      case ROTATE:
+        if (!arity (f, 1, 1) || !indices (f, 1))
+          return null;
+        return expectBV (f, 0);
+      case ARITH:
+      case ARITH_PRED:
+        if (!arity (f, f.op.kind == ARITH ? 1 : 2, Integer.MAX_VALUE))
+          return null;
+        t = f.op.name[0] == '/' ? REAL : INT;
+        for (int i = 0; i < f.numArgs; i++) {
+          if (!isNumeric (f.args[i])) {
+            fail (new String (f.op.name) + " expects numbers, got " +
+                  name (f.args[i]));
+            return null;
+          }
+          if (f.args[i] == REAL)
+            t = REAL;
+        }
+        return f.op.kind == ARITH ? t : BOOL;
+      case SELECT:
+      case STORE:
+        if (!arity (f, f.op.kind == SELECT ? 2 : 3, f.op.kind == SELECT ? 2 : 3))
+          return null;
+        if (!(f.args[0] instanceof ArrayTypeFromTo)) {
+          fail (new String (f.op.name) + " on " + name (f.args[0]));
+          return null;
+        }
+        if (!compatible (((ArrayTypeFromTo) f.args[0]).from, f.args[1])) {
+          fail ("index " + name (f.args[1]) + " of " + name (f.args[0]));
+          return null;
+        }
+        if (f.op.kind == SELECT)
+          return ((ArrayTypeFromTo) f.args[0]).to;
+        if (!compatible (((ArrayTypeFromTo) f.args[0]).to, f.args[2])) {
+          fail ("element " + name (f.args[2]) + " of " + name (f.args[0]));
+          return null;
+        }
+        return f.args[0];
+      case USER:
+        f.flags |= UF;
+        if (f.numArgs != f.op.args.length) {
+          fail (new String (f.op.name) + " expects " + f.op.args.length +
+                " arguments, got " + f.numArgs);
+          return null;
+        }
+        for (int i = 0; i < f.numArgs; i++) {
+          if (!compatible (f.op.args[i], f.args[i])) {
+            fail ("argument " + (i + 1) + " of " + new String (f.op.name) +
+                  " is " + name (f.args[i]) + ", expected " +
+                  name (f.op.args[i]));
+            return null;
+          }
+        }
+        return f.op.sort;
+      default:
+        fail ("unexpected " + new String (f.op.name));
+        return null;
+    }
+  }
+
+  /* passes the term sort 't' to the frame below the top */
+  private boolean term (Frame f, SMTType t){
+    if (t == null)
+      return false;
+    switch (f.kind) {
+      case K_ASSERT:
+      case K_BENCH:
+        if (t != BOOL)
+          return fail ("assertion of sort " + name (t));
+        if (f.kind == K_BENCH)
+          f.state = 0;
+        return true;
+      case K_APP:
+        addArg (f, t);
+        return true;
+      case K_DEFINE:
+        if (f.state != 3)
+          return fail ("invalid define-fun");
+        if (!compatible (f.args[0], t))
+          return fail ("definition of sort " + name (t) + ", expected " +
+                       name (f.args[0]));
+        f.state = 4;
+        return true;
+      case K_LET:
+        if (f.state != 1)
+          return fail ("invalid let");
+        addArg (f, t);
+        f.state = 2;
+        return true;
+      case K_BINDS:
+      case K_BIND:
+        if (f.name == null || f.state != 1)
+          return fail ("invalid let binding");
+        this.pending.add (f.name);
+        this.pendingSorts.add (t);
+        f.name = null;
+        f.state = 2;
+        return true;
+      case K_QUANT:
+      case K_ANNOT:
+        if (f.state != 0)
+          return true; /* patterns */
+        if (f.kind == K_QUANT && t != BOOL)
+          return fail ("quantified term of sort " + name (t));
+        addArg (f, t);
+        f.state = 1;
+        return true;
+      default:
+        return fail ("unexpected term");
+    }
+  }
+
+  /* passes the s-expression 'o' to the frame below the top */
+  private boolean data (Frame f, Object o){
+    SMTType t;
+
+    switch (f.kind) {
+      case K_DATA:
+      case K_DECL:
+        f.data.add (o);
+        return true;
+      case K_BENCH:
+        if (f.state == 2) {
+          f.state = 0;
+          return declare1 ((String) f.data.get (0), o);
+        }
+        return true;
+      case K_DEFINE:
+        if (f.state == 1) {
+          if (!(o instanceof Object[]) || ((Object []) o).length > 0)
+            return fail ("define-fun with parameters is not supported");
+          f.state = 2;
+          return true;
+        }
+        if (f.state != 2)
+          return fail ("invalid define-fun");
+        t = parseSort (o);
+        if (t == null)
+          return fail ("unknown sort " + SMTEvaluator.toString (o));
+        addArg (f, t);
+        f.state = 3;
+        return true;
+      case K_QVAR:
+        t = parseSort (o);
+        if (t == null || f.name == null)
+          return fail ("invalid quantified variable");
+        bind (f.name, t, K_QUANT);
+        f.name = null;
+        return true;
+      default:
+        return true;
+    }
+  }
+
+  /* which frame an open parenthesis in 'f' starts */
+  private boolean open (Frame f, int pos){
+    switch (f.kind) {
+      case K_ASSERT:
+        push (K_TERM, pos);
+        return true;
+      case K_BENCH:
+        if (f.state == 1)
+          push (K_TERM, pos);
+        else if (f.state == 2)
+          push (K_DATA, pos).data = new ArrayList<Object>();
+        else
+          push (K_SKIP, pos);
+        return true;
+      case K_DATA:
+      case K_DECL:
+      case K_QVAR:
+        push (K_DATA, pos).data = new ArrayList<Object>();
+        return true;
+      case K_SKIP:
+      case K_COMMAND:
+        push (K_SKIP, pos);
+        return true;
+      case K_DEFINE:
+        if (f.state == 3)
+          push (K_TERM, pos);
+        else if (f.state == 1 || f.state == 2)
+          push (K_DATA, pos).data = new ArrayList<Object>();
+        else
+          return fail ("invalid define-fun");
+        return true;
+      case K_TERM:
+        /* the head is an indexed operator */
+        f.kind = K_APP;
+        push (K_INDEXED, pos).head = true;
+        return true;
+      case K_APP:
+        push (K_TERM, pos);
+        return true;
+      case K_LET:
+        if (f.state == 0) {
+          f.state = 1;
+          /* bindings of enclosing lets may be pending */
+          push (K_BINDS, pos).numArgs = this.pending.size();
+        } else {
+          push (K_TERM, pos);
+        }
+        return true;
+      case K_BINDS:
+        if (f.state == 0 && f.name == null) {
+          push (K_BIND, pos);
+          return true;
+        }
+        /* SMT-LIB 1 binding, ( ?x term ) */
+        if (f.state == 1) {
+          push (K_TERM, pos);
+          return true;
+        }
+        return fail ("invalid let binding");
+      case K_BIND:
+        if (f.state != 1)
+          return fail ("invalid let binding");
+        push (K_TERM, pos);
+        return true;
+      case K_QUANT:
+        if (f.state != 0) {
+          push (K_SKIP, pos);
+          return true;
+        }
+        push (K_QOPEN, pos);
+        return true;
+      case K_QVARS:
+        push (K_QVAR, pos);
+        return true;
+      case K_ANNOT:
+        push (f.state == 0 ? K_TERM : K_SKIP, pos);
+        return true;
+      case K_QOPEN:
+        /* SMT-LIB 2 variables ((x Int) (y Int)) */
+        f.kind = K_QVARS;
+        push (K_QVAR, pos);
+        return true;
+      default:
+        return fail ("unexpected (");
+    }
+  }
+
+  private boolean atomIn (Frame f, int off, int len){
+    Symbol s;
+    String a;
+    int v;
+
+    switch (f.kind) {
+      case K_COMMAND:
+        a = atom (off, len);
+        if (a.equals ("assert")) {
+          f.kind = K_ASSERT;
+        } else if (a.equals ("benchmark")) {
+          f.kind = K_BENCH;
+          f.data = new ArrayList<Object>();
+          this.smtlib1 = true;
+        } else if (a.startsWith ("declare-")) {
+          f.kind = K_DECL;
+          f.data = new ArrayList<Object>();
+          f.data.add (a);
+        } else if (a.equals ("define-fun")) {
+          f.kind = K_DEFINE;
+        } else {
+          f.kind = K_SKIP;
+        }
+        return true;
+      case K_ASSERT:
+        return term (f, atomSort (off, len));
+      case K_BENCH:
+        if (f.state == 1)
+          return term (f, atomSort (off, len));
+        if (f.state == 3) {
+          a = atom (off, len);
+          this.indexElement = a.equals ("QF_A") || a.equals ("QF_AX");
+          f.state = 0;
+          return true;
+        }
+        if (this.text.get (off) != ':')
+          return true;
+        a = atom (off, len);
+        f.data.clear();
+        f.data.add (a);
+        if (a.equals (":formula") || a.equals (":assumption"))
+          f.state = 1;
+        else if (a.equals (":extrafuns") || a.equals (":extrapreds") ||
+                 a.equals (":extrasorts"))
+          f.state = 2;
+        else if (a.equals (":logic"))
+          f.state = 3;
+        else
+          f.state = 0;
+        return true;
+      case K_DATA:
+      case K_DECL:
+        f.data.add (atom (off, len));
+        return true;
+      case K_SKIP:
+        return true;
+      case K_DEFINE:
+        if (f.state == 0) {
+          f.name = intern (this.text, off, len);
+          if (f.name.kind != USER)
+            return fail ("definition of builtin " + atom (off, len));
+          f.state = 1;
+          return true;
+        }
+        if (f.state == 2)
+          return data (f, atom (off, len));
+        if (f.state == 3)
+          return term (f, atomSort (off, len));
+        return fail ("invalid define-fun");
+      case K_TERM:
+        return headAtom (f, off, len);
+      case K_APP:
+      case K_LET:
+        return term (f, atomSort (off, len));
+      case K_INDEXED:
+        if (f.state == 0) {
+          /* head of ((_ op i j) t) */
+          if (!atom (off, len).equals ("_"))
+            return fail ("invalid indexed operator");
+          f.state = 1;
+          return true;
+        }
+        if (f.state == 1) {
+          s = lookup (this.text, off, len);
+          if (s == null && !f.head && len > 2 && this.text.get (off) == 'b' &&
+              this.text.get (off + 1) == 'v') {
+            f.state = 3; /* (_ bvN w) */
+            return true;
+          }
+          if (s == null || s.kind == USER)
+            return fail ("undeclared symbol " + atom (off, len));
+          f.op = s;
+          f.state = 2;
+          return true;
+        }
+        v = parseInt (atom (off, len));
+        if (f.numIndices == 0)
+          f.index0 = v;
+        else
+          f.index1 = v;
+        f.numIndices++;
+        return true;
+      case K_BINDS:
+      case K_BIND:
+        if (f.state == 0) {
+          f.name = intern (this.text, off, len);
+          f.state = 1;
+          return true;
+        }
+        if (f.state == 1)
+          return term (f, atomSort (off, len));
+        return fail ("invalid let binding");
+      case K_QUANT:
+      case K_ANNOT:
+        if (this.text.get (off) == ':') {
+          f.state = 2; /* patterns and other attributes are skipped */
+          return true;
+        }
+        if (f.state == 0)
+          return term (f, atomSort (off, len));
+        return true;
+      case K_QOPEN:
+        /* SMT-LIB 1 variable (?x Int), or a body */
+        if (this.text.get (off) == '?' && this.smtlib1) {
+          f.kind = K_QVAR;
+          f.name = intern (this.text, off, len);
+          return true;
+        }
+        f.kind = K_TERM;
+        return headAtom (f, off, len);
+      case K_QVAR:
+        if (f.name == null && f.numArgs == 0) {
+          f.name = intern (this.text, off, len);
+          f.numArgs = 1;
+          return true;
+        }
+        return data (f, atom (off, len));
+      default:
+        return fail ("unexpected " + atom (off, len));
+    }
+  }
+
+  /* passes the term 'f' of sort 't' ending at 'pos' to subterm if it
+   * has no free variables */
+  private void closed (Frame f, int pos, SMTType t){
+    if (t != BOOL && !(t instanceof BVType))
+      f.flags |= OTHER;
+    if (f.outer >= this.depth - 1)
+      subterm (f.start, pos + 1, t, f.flags);
+  }
+
+  /* called for every term application and let with free variables only
+   * declared at the top level, 'start' and 'end' are its first and past
+   * its last byte, 'flags' are UF and OTHER. Does nothing by default. */
+  protected void subterm (int start, int end, SMTType sort, int flags){
+  }
+
+  /* called for every symbol which is declared at the top level */
+  protected void declared (Symbol s){
+  }
+
+  /* closes the frame on top of the stack */
+  /* pops the top frame, whose free variables and flags are inherited
+   * by the enclosing frame */
+  private void pop (){
+    Frame f, parent;
+
+    f = this.stack[--this.depth];
+    if (this.depth > 0) {
+      parent = this.stack[this.depth - 1];
+      parent.outer = Math.min (parent.outer, f.outer);
+      parent.flags |= f.flags;
+    }
+  }
+
+  private boolean close (int pos){
+    Frame f, parent;
+    Object []list;
+    SMTType t;
+
+    f = this.stack[this.depth - 1];
+    parent = this.depth > 1 ? this.stack[this.depth - 2] : null;
+    switch (f.kind) {
+      case K_DECL:
+        if (!declare2 (f.data.toArray()))
+          return false;
+        break;
+      case K_DEFINE:
+        /* the defined symbol is declared as constant from now on */
+        if (f.state != 4)
+          return fail ("invalid define-fun");
+        f.name.sort = f.args[0];
+        f.name.args = null;
+        declared (f.name);
+        break;
+      case K_DATA:
+        list = f.data.toArray();
+        pop();
+        return data (parent, list);
+      case K_TERM:
+        return fail ("empty application");
+      case K_APP:
+        t = apply (f);
+        if (t != null)
+          closed (f, pos, t);
+        pop();
+        return t != null && term (parent, t);
+      case K_INDEXED:
+        if (f.head) {
+          /* ((_ extract i j) t) */
+          if (f.state != 2)
+            return fail ("invalid indexed operator");
+          parent.op = f.op;
+          parent.index0 = f.index0;
+          parent.index1 = f.index1;
+          parent.numIndices = f.numIndices;
+          pop();
+          return true;
+        }
+        if (f.state != 3 || f.numIndices != 1 || f.index0 < 1)
+          return fail ("invalid indexed term");
+        pop();
+        return term (parent, BVType.get (f.index0));
+      case K_BINDS:
+        /* parallel bindings, which stay until the let is closed */
+        for (int i = f.numArgs; i < this.pending.size(); i++)
+          bind (this.pending.get(i), this.pendingSorts.get(i), K_LET);
+        this.pending.subList (f.numArgs, this.pending.size()).clear();
+        this.pendingSorts.subList (f.numArgs, this.pendingSorts.size()).clear();
+        pop();
+        return true;
+      case K_BIND:
+        if (f.state != 2)
+          return fail ("invalid let binding");
+        break;
+      case K_LET:
+      case K_QUANT:
+      case K_ANNOT:
+        if (f.numArgs != 1)
+          return fail ("missing body");
+        t = f.args[0];
+        if (f.kind == K_LET)
+          closed (f, pos, t);
+        unbind (f.undo);
+        pop();
+        return term (parent, t);
+      case K_QVAR:
+        if (f.name != null)
+          return fail ("invalid quantified variable");
+        /* the variables stay until the quantifier is closed */
+        pop();
+        return true;
+      case K_QVARS:
+        pop();
+        return true;
+      case K_QOPEN:
+        return fail ("empty application");
+      default:
+        break;
+    }
+    pop();
+    return true;
+  }
+
+  /* checks the instance in 'text', returns null if it is well-sorted
+   * and otherwise the first error with its line */
+  public String check (byte []text, int length){
+    assert (text != null);
+    return check (ByteBuffer.wrap (text), length);
+  }
+
+  /* checks the first 'length' bytes of 'text', e.g. a mapped file */
+  public String check (ByteBuffer text, int length){
+    int pos, start, line;
+    byte c;
+
+    assert (text != null);
+    reset();
+    this.text = text;
+    pos = 0;
+    while (pos < length && this.error == null) {
+      c = text.get (pos);
+      if (c == '(') {
+        if (this.depth == 0)
+          push (K_COMMAND, pos);
+        else
+          open (this.stack[this.depth - 1], pos);
+        pos++;
+      } else if (c == ')') {
+        if (this.depth == 0)
+          fail ("unbalanced )");
+        else
+          close (pos);
+        pos++;
+      } else if (c == ' ' || c == '\n' || c == '\t' || c == '\r') {
+        pos++;
+      } else if (c == ';') {
+        while (pos < length && text.get (pos) != '\n')
+          pos++;
+      } else if (c == '|' || c == '"' || (c == '{' && this.smtlib1)) {
+        /* quoted symbols, strings and SMT-LIB 1 user values */
+        start = pos++;
+        while (pos < length && text.get (pos) != (c == '{' ? '}' : c))
+          pos++;
+        pos++;
+        if (this.depth > 0)
+          atomIn (this.stack[this.depth - 1], start, Math.min (pos, length) - start);
+      } else {
+        start = pos;
+        while (pos < length && (c = text.get (pos)) != '(' && c != ')' && c != ' ' &&
+               c != '\n' && c != '\t' && c != '\r' && c != ';')
+          pos++;
+        if (this.depth > 0)
+          atomIn (this.stack[this.depth - 1], start, pos - start);
+      }
+    }
+    if (this.error == null && this.depth > 0)
+      fail ("unbalanced (");
+    this.text = null;
+    if (this.error == null)
+      return null;
+    line = 1;
+    for (int i = 0; i < this.errorPos && i < length; i++)
+      if (text.get (i) == '\n')
+        line++;
+    return "line " + line + ": " + this.error;
+  }
+
+}
@@ -0,0 +1,167 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.math.*;
+import java.util.*;
+
+/* options of a parameter sweep with the values they range over.
+ * A range is a list such as 4,8,16 or lo..hi, which is stepped by 1,
+ * by +<step> or multiplied by x<factor>, e.g. 1..64x2 or 1.0..6.0+0.5.
+ * Values are computed as decimals, so 1.0..2.0+0.1 ends at 2.0 exactly.
+ * The points of the sweep are either all combinations of values or a
+ * Latin hypercube sample, which covers every stratum of the values of
+ * each option once with far fewer points than the grid. */
+public class Sweep {
+
+  /* values of one option at most */
+  public static final int MAX_VALUES = 100000;
+
+  protected ArrayList<String> options;
+
+  protected ArrayList<String []> values; /* by option */
+
+  public Sweep (){
+    this.options = new ArrayList<String>();
+    this.values = new ArrayList<String []>();
+  }
+
+  /* parses a specification such as "-Mv 1..64x2 -Mbw 1..64" */
+  public void parse (String spec){
+    String []parts;
+
+    assert (spec != null);
+    parts = spec.trim().split ("\\s+");
+    if (parts.length % 2 != 0)
+      throw new IllegalArgumentException ("invalid sweep specification: " + spec);
+    for (int i = 0; i < parts.length; i += 2) {
+      if (!parts[i].startsWith ("-"))
+        throw new IllegalArgumentException ("invalid option: " + parts[i]);
+      if (this.options.contains (parts[i]))
+        throw new IllegalArgumentException ("option swept twice: " + parts[i]);
+      this.options.add (parts[i]);
+      this.values.add (parseRange (parts[i + 1]));
+    }
+  }
+
+  private static BigDecimal parseNumber (String s, String range){
+    try {
+      return new BigDecimal (s);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException ("invalid range: " + range);
+    }
+  }
+
+  /* values of 'range' in increasing order */
+  public static String []parseRange (String range){
+    ArrayList<String> result;
+    BigDecimal lo, hi, step, factor, v;
+    String bound;
+    int dots, op;
+
+    assert (range != null);
+    dots = range.indexOf ("..");
+    if (dots < 0)
+      return range.split (",");
+    lo = parseNumber (range.substring (0, dots), range);
+    bound = range.substring (dots + 2);
+    op = Math.max (bound.indexOf ('x'), bound.indexOf ('+'));
+    step = BigDecimal.ONE;
+    factor = null;
+    if (op > 0) {
+      if (bound.charAt (op) == 'x')
+        factor = parseNumber (bound.substring (op + 1), range);
+      else
+        step = parseNumber (bound.substring (op + 1), range);
+      bound = bound.substring (0, op);
+    }
+    hi = parseNumber (bound, range);
+    if (hi.compareTo (lo) < 0 || step.signum() <= 0 ||
+        (factor != null && (factor.compareTo (BigDecimal.ONE) <= 0 ||
+                            lo.signum() <= 0)))
+      throw new IllegalArgumentException ("invalid range: " + range);
+    result = new ArrayList<String>();
+    for (v = lo; v.compareTo (hi) <= 0;
+         v = factor == null ? v.add (step) : v.multiply (factor)) {
+      if (result.size() == MAX_VALUES)
+        throw new IllegalArgumentException ("too many values: " + range);
+      result.add (v.toPlainString());
+    }
+    return result.toArray (new String[0]);
+  }
+
+  public int getNumOptions (){
+    return this.options.size();
+  }
+
+  public String getOption (int i){
+    return this.options.get (i);
+  }
+
+  /* all combinations of values, the first option changes slowest */
+  public List<String []> grid (){
+    ArrayList<String []> result;
+    String []point;
+    long size;
+    int index;
+
+    size = 1;
+    for (String []v : this.values) {
+      size *= v.length;
+      if (size > Integer.MAX_VALUE)
+        throw new IllegalArgumentException ("too many points");
+    }
+    result = new ArrayList<String []>();
+    for (int i = 0; i < size; i++) {
+      point = new String[this.values.size()];
+      index = i;
+      for (int j = point.length - 1; j >= 0; j--) {
+        point[j] = this.values.get (j)[index % this.values.get (j).length];
+        index /= this.values.get (j).length;
+      }
+      result.add (point);
+    }
+    return result;
+  }
+
+  /* 'n' points, for each option the i-th of them takes a value from the
+   * i-th of 'n' strata of its values, in random order */
+  public List<String []> latinHypercube (Random r, int n){
+    ArrayList<String []> result;
+    ArrayList<Integer> strata;
+    String []v;
+
+    assert (r != null);
+    assert (n > 0);
+    result = new ArrayList<String []>();
+    for (int i = 0; i < n; i++)
+      result.add (new String[this.values.size()]);
+    strata = new ArrayList<Integer>();
+    for (int i = 0; i < n; i++)
+      strata.add (i);
+    for (int j = 0; j < this.values.size(); j++) {
+      v = this.values.get (j);
+      Collections.shuffle (strata, r);
+      for (int i = 0; i < n; i++)
+        result.get (i)[j] =
+          v[(int) ((strata.get (i) + r.nextDouble()) * v.length / n)];
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,176 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.io.*;
+import java.util.*;
+
+/* buckets failing instances by a normalized failure signature.
+ * Each bucket is a directory named after the hash of its signature and
+ * holds the signature, the number of failures and only the 'keep'
+ * smallest instances, ranked by the number of generated nodes. */
+public class Triage {
+
+  private static final String []errorWords = {"assert", "error", "exception",
+                                              "fault", "abort", "panic",
+                                              "terminate", "killed"};
+
+  protected File dir;
+
+  protected int keep;
+
+  public Triage (File dir, int keep) throws IOException {
+    assert (dir != null);
+    assert (keep > 0);
+    if (!dir.isDirectory() && !dir.mkdirs())
+      throw new IOException ("can not create directory " + dir);
+    this.dir = dir;
+    this.keep = keep;
+  }
+
+  /* removes instance specific parts such as addresses, counters and
+   * symbol names from a line of solver output, but keeps line numbers
+   * of source locations */
+  public static String normalize (String line){
+    String result;
+
+    assert (line != null);
+    result = line.trim();
+    result = result.replaceAll ("0x[0-9a-fA-F]+", "0x?");
+    result = result.replaceAll ("(?<![:\\w])\\d+(?!\\w)", "N");
+    result = result.replaceAll ("\\b[a-zA-Z_$?][a-zA-Z_]*\\d+\\b", "_");
+    result = result.replaceAll ("\\s+", " ");
+    if (result.length() > 200)
+      result = result.substring (0, 200);
+    return result;
+  }
+
+  /* the first line of 'output' which reports an error, normalized */
+  public static String errorLine (String output){
+    String []lines;
+    String lower;
+
+    assert (output != null);
+    lines = output.split ("\n");
+    for (int i = 0; i < lines.length; i++) {
+      lower = lines[i].toLowerCase();
+      for (int j = 0; j < errorWords.length; j++)
+        if (lower.indexOf (errorWords[j]) >= 0)
+          return normalize (lines[i]);
+    }
+    for (int i = 0; i < lines.length; i++)
+      if (lines[i].trim().length() > 0)
+        return normalize (lines[i]);
+    return "";
+  }
+
+  /* exit code or signal of a crashed solver */
+  public static String exitStatus (int exitCode){
+    if (exitCode > 128)
+      return "signal " + (exitCode - 128);
+    return "exit " + exitCode;
+  }
+
+  /* 64 bit FNV-1a hash, used to name buckets */
+  public static String bucketId (String signature){
+    long hash = 0xcbf29ce484222325l;
+
+    assert (signature != null);
+    for (int i = 0; i < signature.length(); i++) {
+      hash ^= signature.charAt(i);
+      hash *= 0x100000001b3l;
+    }
+    return String.format ("%016x", hash);
+  }
+
+  private static String read (File file) throws IOException {
+    BufferedReader reader;
+    String line;
+
+    reader = new BufferedReader (new FileReader (file));
+    try {
+      line = reader.readLine();
+    } finally {
+      reader.close();
+    }
+    return line == null ? "" : line.trim();
+  }
+
+  private static void write (File file, String text) throws IOException {
+    PrintStream out;
+
+    out = new PrintStream (new FileOutputStream (file));
+    out.println (text);
+    out.close();
+  }
+
+  /* adds a failing instance with 'nodes' generated nodes to the bucket of
+   * 'signature' and returns the id of the bucket */
+  public String add (String signature, String instance, int nodes,
+                     String name) throws IOException {
+    String id;
+    File bucket, count;
+    File []kept;
+    int failures;
+
+    assert (signature != null);
+    assert (instance != null);
+    assert (nodes >= 0);
+    assert (name != null);
+    id = bucketId (signature);
+    bucket = new File (this.dir, id);
+    count = new File (bucket, "count");
+    if (!bucket.isDirectory()) {
+      if (!bucket.mkdirs())
+        throw new IOException ("can not create directory " + bucket);
+      write (new File (bucket, "signature"), signature);
+      failures = 0;
+    } else {
+      failures = Integer.parseInt (read (count));
+    }
+    write (count, Integer.toString (failures + 1));
+
+    kept = instances (bucket);
+    if (kept.length >= this.keep &&
+        nodes >= nodes (kept[kept.length - 1].getName()))
+      return id;
+    write (new File (bucket, String.format ("%010d_%s", nodes, name)), instance);
+    kept = instances (bucket);
+    for (int i = this.keep; i < kept.length; i++)
+      kept[i].delete();
+    return id;
+  }
+
+  private static int nodes (String fileName){
+    return Integer.parseInt (fileName.substring (0, fileName.indexOf ('_')));
+  }
+
+  /* kept instances of 'bucket', smallest first */
+  private static File []instances (File bucket){
+    File []result;
+
+    result = bucket.listFiles (new FilenameFilter() {
+      public boolean accept (File dir, String name){
+        return name.length() > 11 && name.charAt(10) == '_';
+      }
+    });
+    Arrays.sort (result);
+    return result;
+  }
+
+}
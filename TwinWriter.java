@@ -0,0 +1,338 @@
+/*  FuzzSMT: Fuzzing tool for Satisfiablity Modulo Theories (SMT) benchmarks.
+ *  Copyright (C) 2009  Robert Daniel Brummayer
+ *
+ *  This file is part of FuzzSMT.
+ *
+ *  FuzzSMT is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  FuzzSMT is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.util.*;
+
+/* writes an equisatisfiable twin of a generated instance. Declared and
+ * let-bound symbols are renamed by a random permutation of the symbols
+ * with the same prefix, e.g. v3 and v7 are swapped, declarations are
+ * shuffled, and the terms of the let chain are rewritten by a syntactic
+ * EquivRewriter. In SMT-LIB 2, a random number of leading let bindings
+ * is turned into define-funs. The let chain is written iteratively, as
+ * it is nested too deeply for SMTEvaluator.toString. */
+public class TwinWriter {
+
+  protected Random r;
+
+  protected boolean smtlib1;
+
+  protected EquivRewriter rewriter;
+
+  protected HashMap<String, String> names; /* permutation of the symbols */
+
+  /* sort of numerals, which sortOf takes for Int, null in logics
+   * mixing Int and Real */
+  protected SMTType numeral;
+
+  public TwinWriter (Random r, boolean smtlib1){
+    assert (r != null);
+    this.r = r;
+    this.smtlib1 = smtlib1;
+  }
+
+  private static boolean isLet (Object t){
+    Object head;
+
+    if (! (t instanceof Object[]) || ((Object []) t).length != 3)
+      return false;
+    head = ((Object []) t)[0];
+    return "let".equals (head) || "flet".equals (head);
+  }
+
+  /* bindings of a let, SMT-LIB 1.2 lets have exactly one */
+  private Object []bindings (Object []let){
+    if (this.smtlib1)
+      return new Object[] {let[1]};
+    return (Object []) let[1];
+  }
+
+  /* adds the symbols bound by the let chain of 'formula' to 'symbols' */
+  private void bound (Object formula, List<String> symbols){
+    while (isLet (formula)) {
+      for (Object binding : bindings ((Object []) formula))
+        symbols.add ((String) ((Object []) binding)[0]);
+      formula = ((Object []) formula)[2];
+    }
+  }
+
+  /* permutes the declared and bound symbols of 'script' among the
+   * symbols with the same prefix, such as v, e, ?e or $e */
+  private void permute (List<Object> script){
+    ArrayList<String> symbols, shuffled;
+    TreeMap<String, ArrayList<String>> groups;
+    Object []cmd, list;
+    String prefix;
+    int end;
+
+    symbols = new ArrayList<String>();
+    for (Object o : script) {
+      cmd = (Object []) o;
+      if (cmd.length == 4 && "declare-fun".equals (cmd[0])) {
+        symbols.add ((String) cmd[1]);
+      } else if (cmd.length == 2 && "assert".equals (cmd[0])) {
+        bound (cmd[1], symbols);
+      } else if (cmd.length > 0 && "benchmark".equals (cmd[0])) {
+        for (int i = 2; i < cmd.length - 1; i++) {
+          if (":formula".equals (cmd[i])) {
+            bound (cmd[i + 1], symbols);
+          } else if (":extrafuns".equals (cmd[i]) ||
+                     ":extrapreds".equals (cmd[i])) {
+            list = (Object []) cmd[i + 1];
+            for (int j = 0; j < list.length; j++)
+              symbols.add ((String) ((Object []) list[j])[0]);
+          }
+        }
+      }
+    }
+    groups = new TreeMap<String, ArrayList<String>>();
+    for (String s : symbols) {
+      for (end = s.length(); end > 0 && Character.isDigit (s.charAt (end - 1));
+           end--)
+        ;
+      if (end == 0 || end == s.length())
+        continue;
+      prefix = s.substring (0, end);
+      if (!groups.containsKey (prefix))
+        groups.put (prefix, new ArrayList<String>());
+      groups.get (prefix).add (s);
+    }
+    this.names = new HashMap<String, String>();
+    for (ArrayList<String> group : groups.values()) {
+      shuffled = new ArrayList<String> (group);
+      Collections.shuffle (shuffled, this.r);
+      for (int i = 0; i < group.size(); i++)
+        this.names.put (group.get (i), shuffled.get (i));
+    }
+  }
+
+  private Object rename (Object t){
+    Object []l, result;
+    String renamed;
+
+    if (t instanceof String) {
+      renamed = this.names.get (t);
+      return renamed == null ? t : renamed;
+    }
+    l = (Object []) t;
+    result = new Object[l.length];
+    for (int i = 0; i < l.length; i++)
+      result[i] = rename (l[i]);
+    return result;
+  }
+
+  /* restores the bars of quoted symbols, which the parser removes */
+  private static Object quote (Object t){
+    Object []l, result;
+    String s;
+
+    if (t instanceof String) {
+      s = (String) t;
+      for (int i = 0; i < s.length(); i++)
+        if (Character.isWhitespace (s.charAt (i)))
+          return "|" + s + "|";
+      return s.length() == 0 ? "||" : s;
+    }
+    l = (Object []) t;
+    result = new Object[l.length];
+    for (int i = 0; i < l.length; i++)
+      result[i] = quote (l[i]);
+    return result;
+  }
+
+  /* sort of a define-fun of 'type', null if it is unknown */
+  private String sortName (SMTType type){
+    if (type == IntType.intType || type == RealType.realType)
+      return this.numeral == null ? null : this.numeral.toString (false);
+    /* BoolType prints the SMT-LIB 1.2 sort */
+    if (type == BoolType.boolType)
+      return "Bool";
+    return type == null ? null : type.toString (false);
+  }
+
+  /* appends the shuffled declarations of 'decls' and clears them, in
+   * SMT-LIB 1.2 a declaration is a pair of attribute and declaration */
+  private void flush (StringBuilder builder, List<Object> decls){
+    Object []pair;
+
+    Collections.shuffle (decls, this.r);
+    for (Object decl : decls) {
+      if (this.smtlib1) {
+        pair = (Object []) decl;
+        builder.append (pair[0]);
+        builder.append (" (");
+        builder.append (SMTEvaluator.toString (rename (pair[1])));
+        builder.append (")\n");
+      } else {
+        builder.append (SMTEvaluator.toString (rename (decl)));
+        builder.append ("\n");
+      }
+    }
+    decls.clear();
+  }
+
+  /* appends the rewritten let chain of 'formula' followed by 'closing',
+   * the first bindings are written as define-funs in front of 'open' */
+  private void formula (StringBuilder builder, Object formula, String open,
+                        String closing){
+    ArrayList<Object []> lets;
+    ArrayList<SMTType> types;
+    ArrayList<Object> terms;
+    Object []binding;
+    SMTType type;
+    int numDefined, numBindings;
+
+    lets = new ArrayList<Object []>();
+    types = new ArrayList<SMTType>();
+    terms = new ArrayList<Object>();
+    while (isLet (formula)) {
+      lets.add ((Object []) formula);
+      for (Object o : bindings ((Object []) formula)) {
+        binding = (Object []) o;
+        type = this.rewriter.sortOf (binding[1]);
+        this.rewriter.setSort ((String) binding[0], type);
+        types.add (type);
+        terms.add (rename (this.rewriter.rewrite (binding[1])));
+      }
+      formula = ((Object []) formula)[2];
+    }
+    numDefined = this.smtlib1 ? 0 : this.r.nextInt (lets.size() + 1);
+    numBindings = 0;
+    for (int i = 0; i < numDefined; i++) {
+      for (int j = 0; j < bindings (lets.get (i)).length; j++) {
+        if (sortName (types.get (numBindings + j)) == null) {
+          /* the sort of the term is unknown */
+          numDefined = i;
+          break;
+        }
+      }
+      numBindings += bindings (lets.get (i)).length;
+    }
+    numBindings = 0;
+    for (int i = 0; i < lets.size(); i++) {
+      if (i == numDefined)
+        builder.append (open);
+      if (i >= numDefined) {
+        builder.append ("(");
+        builder.append (lets.get (i)[0]);
+        builder.append (this.smtlib1 ? " " : " (");
+      }
+      for (Object o : bindings (lets.get (i))) {
+        binding = (Object []) o;
+        builder.append (i < numDefined ? "(define-fun " : "(");
+        builder.append (rename (binding[0]));
+        if (i < numDefined) {
+          builder.append (" () ");
+          builder.append (sortName (types.get (numBindings)));
+        }
+        builder.append (" ");
+        builder.append (SMTEvaluator.toString (terms.get (numBindings)));
+        builder.append (i < numDefined ? ")\n" : ")");
+        numBindings++;
+      }
+      if (i >= numDefined)
+        builder.append (this.smtlib1 ? "\n" : ")\n");
+    }
+    if (numDefined == lets.size())
+      builder.append (open);
+    builder.append (SMTEvaluator.toString (rename (this.rewriter.rewrite (formula))));
+    builder.append ("\n");
+    for (int i = numDefined; i < lets.size(); i++)
+      builder.append (")");
+    builder.append (closing);
+  }
+
+  private void benchmark (StringBuilder builder, Object []cmd){
+    ArrayList<Object> decls;
+
+    builder.append ("(benchmark ");
+    builder.append (SMTEvaluator.toString (quote (cmd[1])));
+    builder.append ("\n");
+    decls = new ArrayList<Object>();
+    for (int i = 2; i < cmd.length; i += 2) {
+      if (i + 1 < cmd.length && (":extrafuns".equals (cmd[i]) ||
+                                 ":extrapreds".equals (cmd[i]))) {
+        /* each declaration gets an attribute of its own */
+        for (Object decl : (Object []) cmd[i + 1])
+          decls.add (new Object[] {cmd[i], decl});
+        continue;
+      }
+      flush (builder, decls);
+      if (i + 1 < cmd.length && ":formula".equals (cmd[i])) {
+        builder.append (":formula\n");
+        formula (builder, cmd[i + 1], "", "\n");
+        continue;
+      }
+      builder.append (SMTEvaluator.toString (quote (cmd[i])));
+      if (i + 1 < cmd.length) {
+        builder.append (" ");
+        builder.append (SMTEvaluator.toString (quote (cmd[i + 1])));
+      }
+      builder.append ("\n");
+    }
+    flush (builder, decls);
+    builder.append (")\n");
+  }
+
+  /* returns the twin of 'instance' */
+  public String write (CharSequence instance){
+    List<Object> script;
+    StringBuilder builder;
+    ArrayList<Object> decls;
+    Object []cmd;
+    String logic;
+
+    assert (instance != null);
+    script = SMTEvaluator.parse (instance);
+    this.rewriter = new EquivRewriter (this.r, this.smtlib1, true);
+    this.rewriter.declare (script);
+    permute (script);
+    this.numeral = IntType.intType;
+    builder = new StringBuilder (instance.length() + instance.length() / 4);
+    decls = new ArrayList<Object>();
+    for (Object o : script) {
+      cmd = (Object []) o;
+      if (cmd.length > 0 && "benchmark".equals (cmd[0])) {
+        benchmark (builder, cmd);
+        continue;
+      }
+      if (cmd.length > 0 && "declare-fun".equals (cmd[0])) {
+        decls.add (cmd);
+        continue;
+      }
+      if (cmd.length == 2 && "set-logic".equals (cmd[0])) {
+        logic = (String) cmd[1];
+        if (logic.endsWith ("LRA") || logic.endsWith ("NRA") ||
+            logic.endsWith ("RDL"))
+          this.numeral = RealType.realType;
+        else if (logic.endsWith ("IRA"))
+          this.numeral = null;
+        else
+          this.numeral = IntType.intType;
+      }
+      flush (builder, decls);
+      if (cmd.length == 2 && "assert".equals (cmd[0]))
+        formula (builder, cmd[1], "(assert\n", ")\n");
+      else
+        builder.append (SMTEvaluator.toString (quote (cmd)) + "\n");
+    }
+    flush (builder, decls);
+    return builder.toString();
+  }
+
+}
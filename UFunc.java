@@ -25,15 +25,24 @@ public class UFunc {
 
   protected Signature sig;
 
+  protected int id;
+
 
   public UFunc (String name, Signature sig){
     assert (name != null);
     assert (sig != null);
     this.name = name;
     this.sig = sig;
+    this.id = funcsCtr;
     funcsCtr++;
   }
 
+  public int hashCode() {
+    if (SMTNode.hasStableHashCodes())
+      return this.id * 0x9E3779B1;
+    return super.hashCode();
+  }
+
   public String getName() {
     return this.name;
   }
@@ -46,4 +55,8 @@ public class UFunc {
     return funcsCtr;
   }
 
+  public static void resetFuncsCtr () {
+    funcsCtr = 0;
+  }
+
 }
@@ -25,6 +25,8 @@ public class UPred {
 
   protected Signature sig;
 
+  protected int id;
+
 
   public UPred (String name, Signature sig){
     assert (name != null);
@@ -32,9 +34,16 @@ public class UPred {
     assert (sig.getResultType() == BoolType.boolType);
     this.name = name;
     this.sig = sig;
+    this.id = predsCtr;
     predsCtr++;
   }
 
+  public int hashCode() {
+    if (SMTNode.hasStableHashCodes())
+      return this.id * 0x9E3779B1;
+    return super.hashCode();
+  }
+
   public String getName() {
     return this.name;
   }
@@ -47,4 +56,8 @@ public class UPred {
     return predsCtr;
   }
 
+  public static void resetPredsCtr() {
+    predsCtr = 0;
+  }
+
 }
@@ -17,16 +17,41 @@
  *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
 
+import java.util.*;
+
 public class UType extends SMTType {
 
 
-  protected String name;
+  private static final HashMap<String, UType> types =
+    new HashMap<String, UType>();
+
+  private static int typesGeneration;
 
-  public UType (String name){
+  protected final String name;
+
+  private UType (String name){
     assert (name != null);
     this.name = name;
   }
 
+  public static UType get (String name){
+    UType result;
+
+    assert (name != null);
+    synchronized (types) {
+      if (typesGeneration != getGeneration()) {
+        types.clear();
+        typesGeneration = getGeneration();
+      }
+      result = types.get (name);
+      if (result == null) {
+        result = new UType (name);
+        types.put (name, result);
+      }
+    }
+    return result;
+  }
+
   public String toString(boolean smtlib1){
     return this.name;
   }
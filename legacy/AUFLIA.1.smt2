@@ -0,0 +1,332 @@
+(set-info :source | fuzzsmt 0.3 |)
+(set-logic  AUFLIA)
+(set-info :status unknown)
+(declare-fun f0 (Int Int ) Int)
+(declare-fun f1 ((Array Int Int) (Array Int Int) ) (Array Int Int))
+(declare-fun p0 (Int Int Int  ) Bool )
+(declare-fun p1 ((Array Int Int) (Array Int Int) (Array Int Int)  ) Bool )
+(declare-fun v0 () Int)
+(declare-fun v1 () Int)
+(declare-fun v2 () (Array Int Int))
+(declare-fun v3 () (Array Int Int))
+(declare-fun v4 () (Array Int Int))
+(assert
+(forall ((?qvar0 Int) )
+(forall ((?qvar1 Int) (?qvar2 Int) )
+(let (($qf0 (= (f0 ?qvar0 ?qvar0) (f0 ?qvar0 ?qvar2))))
+(let (($qf1 (<= (f0 ?qvar0 ?qvar0) (f0 ?qvar0 ?qvar0))))
+(let (($qf2 (distinct (f0 ?qvar0 ?qvar2) (f0 ?qvar0 ?qvar1))))
+(let (($qf3 (ite $qf2 $qf2 $qf2)))
+(let (($qf4 (= $qf0 $qf3)))
+(let (($qf5 (xor $qf4 $qf1)))
+$qf5
+)))))))))
+(assert
+(let ((e5 0))
+(let ((e6 (ite (p0 v1 v0 v0) 1 0)))
+(let ((e7 (* e5 v1)))
+(let ((e8 (- v0 e6)))
+(let ((e9 (* e8 (- e5))))
+(let ((e10 (+ v0 e6)))
+(let ((e11 (f0 e9 e9)))
+(let ((e12 (store v2 e6 e6)))
+(let ((e13 (select v3 e11)))
+(let ((e14 (select v3 e10)))
+(let ((e15 (f1 e12 e12)))
+(let ((e16 (f1 e12 v4)))
+(let ((e17 (f1 v3 v3)))
+(let ((e18 (f1 v2 v2)))
+(let ((e19 (p1 e18 v3 v3)))
+(let ((e20 (p1 e12 e15 e15)))
+(let ((e21 (p1 v4 v3 e12)))
+(let ((e22 (p1 e16 v3 e16)))
+(let ((e23 (p1 e17 e17 v2)))
+(let ((e24 (<= e8 e11)))
+(let ((e25 (<= e10 e14)))
+(let ((e26 (>= e10 e10)))
+(let ((e27 (distinct e9 e13)))
+(let ((e28 (< e7 v0)))
+(let ((e29 (p0 e14 v0 e9)))
+(let ((e30 (>= e6 e13)))
+(let ((e31 (<= e6 v1)))
+(let ((e32 (ite e28 e17 e15)))
+(let ((e33 (ite e31 v3 e17)))
+(let ((e34 (ite e22 v2 e18)))
+(let ((e35 (ite e29 v4 e16)))
+(let ((e36 (ite e26 e12 v4)))
+(let ((e37 (ite e31 e36 e15)))
+(let ((e38 (ite e24 e15 e15)))
+(let ((e39 (ite e25 e37 v3)))
+(let ((e40 (ite e20 e38 v3)))
+(let ((e41 (ite e27 e38 v2)))
+(let ((e42 (ite e30 v3 v4)))
+(let ((e43 (ite e21 e42 e16)))
+(let ((e44 (ite e23 e32 e15)))
+(let ((e45 (ite e19 e38 e12)))
+(let ((e46 (ite e25 v1 e9)))
+(let ((e47 (ite e22 v0 e11)))
+(let ((e48 (ite e28 e6 e10)))
+(let ((e49 (ite e21 e11 e6)))
+(let ((e50 (ite e19 e48 e14)))
+(let ((e51 (ite e19 e13 e47)))
+(let ((e52 (ite e27 e50 e9)))
+(let ((e53 (ite e30 e14 e11)))
+(let ((e54 (ite e31 e7 e47)))
+(let ((e55 (ite e26 e8 e7)))
+(let ((e56 (ite e21 e7 e13)))
+(let ((e57 (ite e25 e56 e9)))
+(let ((e58 (ite e19 e9 e51)))
+(let ((e59 (ite e24 e14 e13)))
+(let ((e60 (ite e20 e14 e9)))
+(let ((e61 (ite e26 e55 e9)))
+(let ((e62 (ite e29 e13 e47)))
+(let ((e63 (ite e19 e10 v0)))
+(let ((e64 (ite e23 e55 e59)))
+(let ((e65 (store e33 e9 e52)))
+(let ((e66 (select e37 e8)))
+(let ((e67 (select v2 e9)))
+(let ((e68 (select e38 e48)))
+(let ((e69 (f1 e34 e34)))
+(let ((e70 (f1 e32 e43)))
+(let ((e71 (f1 e36 e36)))
+(let ((e72 (f1 e38 e38)))
+(let ((e73 (f1 e65 e65)))
+(let ((e74 (f1 v3 e18)))
+(let ((e75 (f1 e33 e44)))
+(let ((e76 (f1 e16 e16)))
+(let ((e77 (f1 e15 e15)))
+(let ((e78 (f1 e39 e39)))
+(let ((e79 (f1 e42 e42)))
+(let ((e80 (f1 e37 e70)))
+(let ((e81 (f1 e40 e40)))
+(let ((e82 (f1 e77 e38)))
+(let ((e83 (f1 e65 e40)))
+(let ((e84 (f1 e12 e12)))
+(let ((e85 (f1 e34 e79)))
+(let ((e86 (f1 e33 e41)))
+(let ((e87 (f1 v4 e17)))
+(let ((e88 (f1 e69 e87)))
+(let ((e89 (f1 e35 e74)))
+(let ((e90 (f1 e45 e45)))
+(let ((e91 (f1 v2 e45)))
+(let ((e92 (+ e54 e10)))
+(let ((e93 (* e5 e52)))
+(let ((e94 (- e60)))
+(let ((e95 (f0 e6 e49)))
+(let ((e96 (- e51)))
+(let ((e97 (f0 e67 e56)))
+(let ((e98 (ite (p0 e60 e8 e56) 1 0)))
+(let ((e99 (+ e55 e6)))
+(let ((e100 (+ e54 e61)))
+(let ((e101 (+ e11 v1)))
+(let ((e102 (- e66 e7)))
+(let ((e103 (+ e98 e50)))
+(let ((e104 (f0 e48 e66)))
+(let ((e105 (+ e13 e14)))
+(let ((e106 (- e9)))
+(let ((e107 (- v0)))
+(let ((e108 (- e14)))
+(let ((e109 (ite (p0 e68 e53 e55) 1 0)))
+(let ((e110 (ite (p0 e57 e109 e10) 1 0)))
+(let ((e111 (- e62)))
+(let ((e112 (f0 e61 e54)))
+(let ((e113 (* e5 e46)))
+(let ((e114 (- e63 e64)))
+(let ((e115 (- e47)))
+(let ((e116 (- e114)))
+(let ((e117 (* e59 e5)))
+(let ((e118 (- e58 e53)))
+(let ((e119 (p1 e86 e41 e81)))
+(let ((e120 (p1 e43 e12 e18)))
+(let ((e121 (p1 e81 e42 e90)))
+(let ((e122 (p1 e45 e76 e44)))
+(let ((e123 (p1 e91 e84 e17)))
+(let ((e124 (p1 e86 e65 e44)))
+(let ((e125 (p1 e17 e43 e43)))
+(let ((e126 (p1 e32 e37 e86)))
+(let ((e127 (p1 e71 e90 e15)))
+(let ((e128 (p1 v4 e41 e85)))
+(let ((e129 (p1 e87 e45 e65)))
+(let ((e130 (p1 e12 e45 v4)))
+(let ((e131 (p1 e17 e45 e16)))
+(let ((e132 (p1 e65 e84 e71)))
+(let ((e133 (p1 e12 e72 e39)))
+(let ((e134 (p1 e33 e69 e41)))
+(let ((e135 (p1 e34 v3 e74)))
+(let ((e136 (p1 e71 e84 e18)))
+(let ((e137 (p1 e38 e72 e85)))
+(let ((e138 (p1 e36 e82 e16)))
+(let ((e139 (p1 v2 v2 e75)))
+(let ((e140 (p1 e80 e80 e91)))
+(let ((e141 (p1 e40 e69 v2)))
+(let ((e142 (p1 e70 e42 e34)))
+(let ((e143 (p1 e71 e78 e81)))
+(let ((e144 (p1 e73 e83 e84)))
+(let ((e145 (p1 e77 e85 e88)))
+(let ((e146 (p1 e89 v2 e72)))
+(let ((e147 (p1 e70 e86 e44)))
+(let ((e148 (p1 e81 e69 e89)))
+(let ((e149 (p1 e79 e17 e88)))
+(let ((e150 (p1 e35 e70 e90)))
+(let ((e151 (> e103 e102)))
+(let ((e152 (distinct e106 e55)))
+(let ((e153 (p0 e102 e10 e58)))
+(let ((e154 (<= e107 e92)))
+(let ((e155 (= e116 e58)))
+(let ((e156 (< e105 e56)))
+(let ((e157 (< e61 e118)))
+(let ((e158 (> e94 e114)))
+(let ((e159 (= e63 v1)))
+(let ((e160 (= e98 e55)))
+(let ((e161 (<= e98 e51)))
+(let ((e162 (= e61 e108)))
+(let ((e163 (distinct e54 e68)))
+(let ((e164 (>= e60 e104)))
+(let ((e165 (distinct e67 e115)))
+(let ((e166 (> e101 e60)))
+(let ((e167 (>= e47 e98)))
+(let ((e168 (>= e115 e92)))
+(let ((e169 (distinct e57 e14)))
+(let ((e170 (> e47 v1)))
+(let ((e171 (= e14 e56)))
+(let ((e172 (< e95 e100)))
+(let ((e173 (<= e8 e13)))
+(let ((e174 (= e6 e104)))
+(let ((e175 (<= e96 e11)))
+(let ((e176 (> e9 e52)))
+(let ((e177 (= e10 e9)))
+(let ((e178 (<= e66 e101)))
+(let ((e179 (p0 e111 e93 e68)))
+(let ((e180 (> e61 v0)))
+(let ((e181 (>= e53 e94)))
+(let ((e182 (> e113 e104)))
+(let ((e183 (> e95 e47)))
+(let ((e184 (distinct e66 e62)))
+(let ((e185 (> e46 e47)))
+(let ((e186 (< e97 e62)))
+(let ((e187 (= v1 e7)))
+(let ((e188 (< e94 e53)))
+(let ((e189 (<= e115 e64)))
+(let ((e190 (= e104 v0)))
+(let ((e191 (< e48 e7)))
+(let ((e192 (> e49 e94)))
+(let ((e193 (< e109 e66)))
+(let ((e194 (distinct e49 v0)))
+(let ((e195 (distinct e103 e98)))
+(let ((e196 (>= e112 e63)))
+(let ((e197 (< e7 e6)))
+(let ((e198 (= e60 e112)))
+(let ((e199 (< e117 e66)))
+(let ((e200 (p0 e59 e50 e114)))
+(let ((e201 (distinct e63 e6)))
+(let ((e202 (= e99 e106)))
+(let ((e203 (<= e110 e63)))
+(let ((e204 (xor e170 e167)))
+(let ((e205 (=> e153 e194)))
+(let ((e206 (xor e175 e123)))
+(let ((e207 (ite e149 e31 e192)))
+(let ((e208 (=> e181 e129)))
+(let ((e209 (not e185)))
+(let ((e210 (=> e176 e204)))
+(let ((e211 (not e174)))
+(let ((e212 (or e144 e164)))
+(let ((e213 (=> e209 e22)))
+(let ((e214 (xor e154 e131)))
+(let ((e215 (or e190 e139)))
+(let ((e216 (xor e19 e171)))
+(let ((e217 (xor e134 e216)))
+(let ((e218 (= e136 e21)))
+(let ((e219 (or e142 e140)))
+(let ((e220 (xor e195 e26)))
+(let ((e221 (not e162)))
+(let ((e222 (= e124 e130)))
+(let ((e223 (=> e125 e125)))
+(let ((e224 (= e157 e133)))
+(let ((e225 (xor e219 e212)))
+(let ((e226 (not e151)))
+(let ((e227 (and e160 e222)))
+(let ((e228 (and e199 e191)))
+(let ((e229 (= e24 e145)))
+(let ((e230 (= e180 e23)))
+(let ((e231 (xor e230 e143)))
+(let ((e232 (xor e148 e223)))
+(let ((e233 (and e226 e127)))
+(let ((e234 (xor e132 e177)))
+(let ((e235 (ite e229 e29 e196)))
+(let ((e236 (ite e210 e138 e186)))
+(let ((e237 (ite e25 e119 e121)))
+(let ((e238 (=> e228 e224)))
+(let ((e239 (= e207 e147)))
+(let ((e240 (ite e232 e173 e214)))
+(let ((e241 (not e233)))
+(let ((e242 (or e220 e172)))
+(let ((e243 (and e193 e165)))
+(let ((e244 (xor e152 e179)))
+(let ((e245 (not e218)))
+(let ((e246 (xor e242 e213)))
+(let ((e247 (= e208 e30)))
+(let ((e248 (and e158 e239)))
+(let ((e249 (and e189 e159)))
+(let ((e250 (not e215)))
+(let ((e251 (=> e217 e200)))
+(let ((e252 (ite e231 e126 e183)))
+(let ((e253 (and e188 e241)))
+(let ((e254 (and e249 e163)))
+(let ((e255 (= e252 e247)))
+(let ((e256 (ite e184 e251 e234)))
+(let ((e257 (= e205 e120)))
+(let ((e258 (ite e245 e235 e221)))
+(let ((e259 (= e206 e20)))
+(let ((e260 (not e137)))
+(let ((e261 (=> e28 e187)))
+(let ((e262 (xor e257 e253)))
+(let ((e263 (=> e260 e156)))
+(let ((e264 (and e150 e244)))
+(let ((e265 (ite e237 e168 e178)))
+(let ((e266 (=> e240 e201)))
+(let ((e267 (= e135 e258)))
+(let ((e268 (not e27)))
+(let ((e269 (not e248)))
+(let ((e270 (not e227)))
+(let ((e271 (not e263)))
+(let ((e272 (not e122)))
+(let ((e273 (and e266 e272)))
+(let ((e274 (or e161 e128)))
+(let ((e275 (ite e155 e261 e265)))
+(let ((e276 (=> e270 e141)))
+(let ((e277 (or e255 e197)))
+(let ((e278 (ite e246 e198 e274)))
+(let ((e279 (or e166 e166)))
+(let ((e280 (not e262)))
+(let ((e281 (= e279 e243)))
+(let ((e282 (=> e280 e267)))
+(let ((e283 (not e203)))
+(let ((e284 (not e259)))
+(let ((e285 (= e269 e282)))
+(let ((e286 (and e268 e254)))
+(let ((e287 (=> e284 e286)))
+(let ((e288 (ite e236 e287 e225)))
+(let ((e289 (xor e250 e285)))
+(let ((e290 (not e169)))
+(let ((e291 (ite e211 e256 e281)))
+(let ((e292 (and e264 e202)))
+(let ((e293 (ite e273 e276 e290)))
+(let ((e294 (=> e238 e278)))
+(let ((e295 (=> e271 e288)))
+(let ((e296 (not e294)))
+(let ((e297 (xor e283 e291)))
+(let ((e298 (xor e293 e277)))
+(let ((e299 (= e146 e292)))
+(let ((e300 (ite e275 e296 e298)))
+(let ((e301 (= e295 e299)))
+(let ((e302 (=> e300 e300)))
+(let ((e303 (xor e297 e301)))
+(let ((e304 (xor e182 e303)))
+(let ((e305 (not e289)))
+(let ((e306 (xor e305 e305)))
+(let ((e307 (or e304 e302)))
+(let ((e308 (not e307)))
+(let ((e309 (= e306 e308)))
+e309
+))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))
+(check-sat)
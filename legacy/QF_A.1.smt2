@@ -0,0 +1,168 @@
+(set-info :source | fuzzsmt 0.3 |)
+(set-logic  QF_A)
+(set-info :status unknown)
+(declare-sort Index 0)
+(declare-sort Element 0)
+(declare-fun v0 () (Array Index Element))
+(declare-fun v1 () Index)
+(declare-fun v2 () Index)
+(declare-fun v3 () Index)
+(declare-fun v4 () Index)
+(declare-fun v5 () Element)
+(declare-fun v6 () Element)
+(declare-fun v7 () Element)
+(assert
+(let ((e8 (store v0 v2 v6)))
+(let ((e9 (store e8 v3 v6)))
+(let ((e10 (select e8 v4)))
+(let ((e11 (store v0 v4 v7)))
+(let ((e12 (select e11 v4)))
+(let ((e13 (store e11 v2 v6)))
+(let ((e14 (= v4 v1)))
+(let ((e15 (= v2 v3)))
+(let ((e16 (= e10 v7)))
+(let ((e17 (distinct v5 v5)))
+(let ((e18 (= v6 v5)))
+(let ((e19 (distinct e12 v5)))
+(let ((e20 (ite e15 e9 e9)))
+(let ((e21 (ite e16 v0 e13)))
+(let ((e22 (ite e18 e11 e8)))
+(let ((e23 (ite e15 e22 e8)))
+(let ((e24 (ite e14 e22 e21)))
+(let ((e25 (ite e19 e13 e20)))
+(let ((e26 (ite e17 e20 e9)))
+(let ((e27 (ite e19 v2 v1)))
+(let ((e28 (ite e15 v2 v4)))
+(let ((e29 (ite e19 v3 v2)))
+(let ((e30 (ite e16 e29 e28)))
+(let ((e31 (ite e19 e30 v2)))
+(let ((e32 (ite e14 v1 v2)))
+(let ((e33 (ite e17 v4 v4)))
+(let ((e34 (ite e18 e28 v4)))
+(let ((e35 (ite e18 v5 v5)))
+(let ((e36 (ite e19 e12 e12)))
+(let ((e37 (ite e18 v7 e12)))
+(let ((e38 (ite e14 v6 e36)))
+(let ((e39 (ite e18 e36 v5)))
+(let ((e40 (ite e18 e10 v7)))
+(let ((e41 (ite e16 e40 v5)))
+(let ((e42 (ite e16 e41 e35)))
+(let ((e43 (ite e17 e38 e40)))
+(let ((e44 (ite e15 e39 e41)))
+(let ((e45 (store e26 e29 e36)))
+(let ((e46 (store e20 e31 e35)))
+(let ((e47 (store e20 e27 e37)))
+(let ((e48 (select e25 v1)))
+(let ((e49 (store e20 e33 e39)))
+(let ((e50 (select e26 v1)))
+(let ((e51 (store e46 e31 e43)))
+(let ((e52 (distinct e29 e34)))
+(let ((e53 (= e27 e29)))
+(let ((e54 (distinct v4 e31)))
+(let ((e55 (= e29 e28)))
+(let ((e56 (= v1 e34)))
+(let ((e57 (= e28 v1)))
+(let ((e58 (= e30 e29)))
+(let ((e59 (= e33 e27)))
+(let ((e60 (= e32 e28)))
+(let ((e61 (= e33 v1)))
+(let ((e62 (distinct v4 v3)))
+(let ((e63 (distinct e34 e33)))
+(let ((e64 (= v1 e32)))
+(let ((e65 (distinct e32 e27)))
+(let ((e66 (distinct e29 e27)))
+(let ((e67 (= e30 e33)))
+(let ((e68 (distinct e34 e31)))
+(let ((e69 (= e33 e34)))
+(let ((e70 (distinct e27 e29)))
+(let ((e71 (distinct e32 e33)))
+(let ((e72 (= e32 e31)))
+(let ((e73 (distinct v3 v1)))
+(let ((e74 (distinct v4 e30)))
+(let ((e75 (distinct e28 e31)))
+(let ((e76 (= e27 e33)))
+(let ((e77 (distinct e34 e32)))
+(let ((e78 (distinct e33 e33)))
+(let ((e79 (distinct v4 v3)))
+(let ((e80 (= e32 v4)))
+(let ((e81 (distinct e30 e31)))
+(let ((e82 (= v4 e29)))
+(let ((e83 (distinct e28 e31)))
+(let ((e84 (distinct e32 v2)))
+(let ((e85 (distinct e39 e10)))
+(let ((e86 (distinct e50 e38)))
+(let ((e87 (distinct e50 e48)))
+(let ((e88 (= e43 e12)))
+(let ((e89 (= e38 v5)))
+(let ((e90 (distinct e40 e39)))
+(let ((e91 (= e37 e41)))
+(let ((e92 (= e41 v7)))
+(let ((e93 (distinct e48 e36)))
+(let ((e94 (distinct e42 e48)))
+(let ((e95 (= v6 e48)))
+(let ((e96 (distinct e12 e35)))
+(let ((e97 (= e50 e50)))
+(let ((e98 (distinct e12 e40)))
+(let ((e99 (= e10 e50)))
+(let ((e100 (distinct e50 v6)))
+(let ((e101 (= e50 e10)))
+(let ((e102 (= e44 e36)))
+(let ((e103 (or e17 e64)))
+(let ((e104 (not e90)))
+(let ((e105 (ite e60 e53 e86)))
+(let ((e106 (or e73 e102)))
+(let ((e107 (and e91 e82)))
+(let ((e108 (not e78)))
+(let ((e109 (= e77 e59)))
+(let ((e110 (or e105 e80)))
+(let ((e111 (= e93 e75)))
+(let ((e112 (and e56 e106)))
+(let ((e113 (xor e84 e83)))
+(let ((e114 (= e72 e99)))
+(let ((e115 (or e57 e18)))
+(let ((e116 (ite e113 e63 e94)))
+(let ((e117 (ite e98 e89 e16)))
+(let ((e118 (not e116)))
+(let ((e119 (or e95 e96)))
+(let ((e120 (and e104 e62)))
+(let ((e121 (=> e54 e14)))
+(let ((e122 (or e74 e117)))
+(let ((e123 (and e120 e97)))
+(let ((e124 (ite e118 e15 e109)))
+(let ((e125 (=> e85 e55)))
+(let ((e126 (not e61)))
+(let ((e127 (ite e124 e76 e101)))
+(let ((e128 (=> e100 e81)))
+(let ((e129 (or e114 e71)))
+(let ((e130 (ite e69 e111 e19)))
+(let ((e131 (xor e112 e103)))
+(let ((e132 (and e129 e52)))
+(let ((e133 (xor e79 e110)))
+(let ((e134 (or e88 e107)))
+(let ((e135 (not e122)))
+(let ((e136 (ite e115 e66 e66)))
+(let ((e137 (xor e68 e58)))
+(let ((e138 (not e70)))
+(let ((e139 (xor e126 e119)))
+(let ((e140 (or e128 e133)))
+(let ((e141 (xor e131 e67)))
+(let ((e142 (and e125 e121)))
+(let ((e143 (ite e138 e141 e65)))
+(let ((e144 (xor e140 e143)))
+(let ((e145 (=> e134 e137)))
+(let ((e146 (ite e108 e139 e92)))
+(let ((e147 (xor e146 e145)))
+(let ((e148 (= e87 e136)))
+(let ((e149 (=> e132 e132)))
+(let ((e150 (xor e148 e127)))
+(let ((e151 (and e150 e130)))
+(let ((e152 (xor e142 e135)))
+(let ((e153 (and e149 e123)))
+(let ((e154 (ite e147 e152 e153)))
+(let ((e155 (or e154 e144)))
+(let ((e156 (= e151 e151)))
+(let ((e157 (not e155)))
+(let ((e158 (xor e156 e157)))
+e158
+))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))
+(check-sat)
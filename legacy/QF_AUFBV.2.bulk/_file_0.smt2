@@ -0,0 +1,163 @@
+(set-info :source | fuzzsmt 0.3 |)
+(set-logic  QF_AUFBV)
+(set-info :status unknown)
+(declare-fun v0 () (_ BitVec 14))
+(declare-fun v1 () (_ BitVec 15))
+(declare-fun v2 () (_ BitVec 16))
+(declare-fun v3 () (_ BitVec 8))
+(declare-fun a4 () (Array (_ BitVec 4) (_ BitVec 9)))
+(declare-fun a5 () (Array (_ BitVec 2) (_ BitVec 14)))
+(declare-fun a6 () (Array (_ BitVec 12) (_ BitVec 4)))
+(assert
+(let ((e7 (_ bv24302 16)))
+(let ((e8 (bvor e7 v2)))
+(let ((e9 ((_ rotate_left 17) e7)))
+(let ((e10 (bvneg v3)))
+(let ((e11 (bvor ((_ sign_extend 1) v1) e7)))
+(let ((e12 ((_ sign_extend 2) v0)))
+(let ((e13 (store a6 ((_ extract 15 4) e8) ((_ extract 9 6) e11))))
+(let ((e14 (store a4 ((_ extract 10 7) e7) ((_ zero_extend 1) v3))))
+(let ((e15 (select e14 ((_ extract 9 6) e9))))
+(let ((e16 (select a5 ((_ extract 5 4) e11))))
+(let ((e17 (store e13 ((_ sign_extend 3) e15) ((_ extract 7 4) v2))))
+(let ((e18 (select e14 ((_ extract 6 3) e15))))
+(let ((e19 (bvnot e12)))
+(let ((e20 (ite (bvsge e8 e8)(_ bv1 1) (_ bv0 1))))
+(let ((e21 (ite (bvsle e19 e11)(_ bv1 1) (_ bv0 1))))
+(let ((e22 (bvxnor v2 v2)))
+(let ((e23 (ite (bvugt e19 ((_ zero_extend 2) v0))(_ bv1 1) (_ bv0 1))))
+(let ((e24 (ite (distinct e22 ((_ sign_extend 15) e21))(_ bv1 1) (_ bv0 1))))
+(let ((e25 (ite (bvsge ((_ sign_extend 7) e20) e10)(_ bv1 1) (_ bv0 1))))
+(let ((e26 ((_ rotate_right 4) v3)))
+(let ((e27 (ite (bvuge e16 ((_ sign_extend 5) e18))(_ bv1 1) (_ bv0 1))))
+(let ((e28 (ite (= (_ bv1 1) ((_ extract 0 0) e24)) ((_ sign_extend 7) e18) e19)))
+(let ((e29 ((_ rotate_left 7) e15)))
+(let ((e30 (bvadd ((_ zero_extend 1) v1) e22)))
+(let ((e31 (ite (= e28 e19)(_ bv1 1) (_ bv0 1))))
+(let ((e32 (ite (bvsle e7 e8)(_ bv1 1) (_ bv0 1))))
+(let ((e33 (bvashr e9 e28)))
+(let ((e34 (bvsge e12 ((_ sign_extend 7) e15))))
+(let ((e35 (bvult v3 ((_ sign_extend 7) e31))))
+(let ((e36 (bvsle ((_ zero_extend 1) e26) e18)))
+(let ((e37 (bvsge v1 v1)))
+(let ((e38 (bvsle e29 ((_ zero_extend 1) v3))))
+(let ((e39 (bvule v3 ((_ zero_extend 7) e31))))
+(let ((e40 (bvult ((_ sign_extend 1) v1) e9)))
+(let ((e41 (bvugt ((_ zero_extend 8) e10) e11)))
+(let ((e42 (bvuge e12 ((_ zero_extend 8) v3))))
+(let ((e43 (bvslt e24 e23)))
+(let ((e44 (distinct v2 e11)))
+(let ((e45 (bvugt e8 e11)))
+(let ((e46 (bvult e12 ((_ sign_extend 1) v1))))
+(let ((e47 (bvsgt e8 e33)))
+(let ((e48 (bvsle ((_ zero_extend 15) e31) e9)))
+(let ((e49 (distinct ((_ sign_extend 15) e23) e30)))
+(let ((e50 (distinct e32 e25)))
+(let ((e51 (bvsge e29 ((_ sign_extend 8) e31))))
+(let ((e52 (bvugt e11 ((_ zero_extend 7) e29))))
+(let ((e53 (distinct ((_ zero_extend 1) v1) e9)))
+(let ((e54 (bvsle e12 e33)))
+(let ((e55 (bvule e27 e21)))
+(let ((e56 (bvugt e15 ((_ sign_extend 1) e10))))
+(let ((e57 (bvsge e29 ((_ sign_extend 8) e32))))
+(let ((e58 (bvsge ((_ zero_extend 15) e32) e7)))
+(let ((e59 (bvsge e9 e11)))
+(let ((e60 (= e24 e24)))
+(let ((e61 (bvugt ((_ zero_extend 7) e31) e10)))
+(let ((e62 (bvsle e11 e19)))
+(let ((e63 (bvule ((_ zero_extend 15) e27) e9)))
+(let ((e64 (= e33 e22)))
+(let ((e65 (distinct e20 e23)))
+(let ((e66 (bvult e16 ((_ sign_extend 13) e21))))
+(let ((e67 (bvule ((_ zero_extend 1) v1) e19)))
+(let ((e68 (bvsgt e25 e24)))
+(let ((e69 (bvult e24 e23)))
+(let ((e70 (bvuge e7 ((_ sign_extend 7) e18))))
+(let ((e71 (distinct ((_ sign_extend 1) v1) e12)))
+(let ((e72 (= e11 ((_ sign_extend 2) e16))))
+(let ((e73 (bvsgt e27 e31)))
+(let ((e74 (bvugt ((_ zero_extend 15) e23) e7)))
+(let ((e75 (bvult ((_ sign_extend 13) e25) v0)))
+(let ((e76 (bvult e22 ((_ sign_extend 8) e10))))
+(let ((e77 (bvsle e9 ((_ zero_extend 8) e26))))
+(let ((e78 (bvsge v1 ((_ sign_extend 14) e32))))
+(let ((e79 (distinct e18 ((_ zero_extend 8) e27))))
+(let ((e80 (bvult e9 e30)))
+(let ((e81 (bvuge e10 ((_ zero_extend 7) e24))))
+(let ((e82 (= ((_ zero_extend 2) v0) e11)))
+(let ((e83 (= e30 ((_ zero_extend 15) e21))))
+(let ((e84 (bvsle ((_ sign_extend 2) e16) e33)))
+(let ((e85 (bvule e19 e22)))
+(let ((e86 (distinct ((_ zero_extend 15) e31) v2)))
+(let ((e87 (bvult ((_ sign_extend 13) e32) e16)))
+(let ((e88 (= e19 ((_ sign_extend 7) e29))))
+(let ((e89 (bvugt e28 e28)))
+(let ((e90 (= e42 e53)))
+(let ((e91 (and e87 e70)))
+(let ((e92 (or e74 e74)))
+(let ((e93 (and e73 e44)))
+(let ((e94 (xor e85 e54)))
+(let ((e95 (not e83)))
+(let ((e96 (or e75 e59)))
+(let ((e97 (or e66 e66)))
+(let ((e98 (=> e77 e78)))
+(let ((e99 (not e56)))
+(let ((e100 (xor e84 e37)))
+(let ((e101 (and e39 e82)))
+(let ((e102 (ite e50 e93 e90)))
+(let ((e103 (= e41 e86)))
+(let ((e104 (not e88)))
+(let ((e105 (= e43 e96)))
+(let ((e106 (ite e98 e45 e40)))
+(let ((e107 (ite e68 e38 e100)))
+(let ((e108 (and e106 e60)))
+(let ((e109 (xor e72 e63)))
+(let ((e110 (= e102 e64)))
+(let ((e111 (=> e36 e109)))
+(let ((e112 (ite e103 e62 e58)))
+(let ((e113 (not e104)))
+(let ((e114 (not e91)))
+(let ((e115 (xor e92 e105)))
+(let ((e116 (xor e69 e95)))
+(let ((e117 (or e111 e97)))
+(let ((e118 (ite e52 e76 e48)))
+(let ((e119 (xor e49 e101)))
+(let ((e120 (= e118 e61)))
+(let ((e121 (= e116 e99)))
+(let ((e122 (xor e114 e57)))
+(let ((e123 (or e119 e107)))
+(let ((e124 (=> e123 e35)))
+(let ((e125 (= e117 e71)))
+(let ((e126 (or e55 e120)))
+(let ((e127 (ite e89 e79 e94)))
+(let ((e128 (or e113 e110)))
+(let ((e129 (ite e128 e124 e81)))
+(let ((e130 (not e65)))
+(let ((e131 (or e67 e122)))
+(let ((e132 (= e115 e130)))
+(let ((e133 (ite e126 e108 e46)))
+(let ((e134 (not e132)))
+(let ((e135 (=> e134 e80)))
+(let ((e136 (xor e129 e129)))
+(let ((e137 (and e125 e125)))
+(let ((e138 (=> e127 e121)))
+(let ((e139 (ite e51 e47 e51)))
+(let ((e140 (not e139)))
+(let ((e141 (= e34 e133)))
+(let ((e142 (and e138 e136)))
+(let ((e143 (not e112)))
+(let ((e144 (= e142 e143)))
+(let ((e145 (xor e137 e135)))
+(let ((e146 (or e141 e144)))
+(let ((e147 (xor e146 e146)))
+(let ((e148 (ite e140 e147 e140)))
+(let ((e149 (not e145)))
+(let ((e150 (ite e131 e131 e131)))
+(let ((e151 (or e149 e150)))
+(let ((e152 (xor e148 e148)))
+(let ((e153 (or e152 e152)))
+(let ((e154 (and e151 e151)))
+(let ((e155 (and e154 e153)))
+e155
+))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))
+(check-sat)
@@ -0,0 +1,96 @@
+(set-info :source | fuzzsmt 0.3 |)
+(set-logic  QF_AUFBV)
+(set-info :status unknown)
+(declare-fun f0 ( (_ BitVec 9) (_ BitVec 14)) (_ BitVec 7))
+(declare-fun f1 ( (_ BitVec 2) (_ BitVec 12)) (_ BitVec 14))
+(declare-fun v156 () (_ BitVec 3))
+(declare-fun v157 () (_ BitVec 5))
+(declare-fun a158 () (Array (_ BitVec 1) (_ BitVec 10)))
+(assert
+(let ((e159 (_ bv1 2)))
+(let ((e160 (_ bv3 6)))
+(let ((e161 (f1 e159 ((_ sign_extend 9) v156))))
+(let ((e162 (ite (bvsgt ((_ zero_extend 3) e159) v157)(_ bv1 1) (_ bv0 1))))
+(let ((e163 (bvnand e160 ((_ zero_extend 3) v156))))
+(let ((e164 (f0 ((_ zero_extend 7) e159) ((_ zero_extend 11) v156))))
+(let ((e165 (store a158 ((_ extract 1 1) e159) ((_ zero_extend 5) v157))))
+(let ((e166 (store e165 ((_ extract 2 2) e164) ((_ sign_extend 4) e163))))
+(let ((e167 (select e166 ((_ extract 8 8) e161))))
+(let ((e168 (select a158 ((_ extract 2 2) v156))))
+(let ((e169 (store a158 ((_ extract 1 1) e163) ((_ sign_extend 8) e159))))
+(let ((e170 (select e166 ((_ extract 1 1) e163))))
+(let ((e171 (select e165 ((_ extract 0 0) e159))))
+(let ((e172 (bvsdiv ((_ zero_extend 2) v157) e164)))
+(let ((e173 (bvand e167 ((_ zero_extend 5) v157))))
+(let ((e174 (f1 ((_ extract 6 5) e170) ((_ extract 12 1) e161))))
+(let ((e175 (ite (bvsgt e168 ((_ sign_extend 9) e162))(_ bv1 1) (_ bv0 1))))
+(let ((e176 ((_ zero_extend 3) e160)))
+(let ((e177 (f1 ((_ zero_extend 1) e175) ((_ sign_extend 9) v156))))
+(let ((e178 (ite (= e177 ((_ sign_extend 8) e163))(_ bv1 1) (_ bv0 1))))
+(let ((e179 (bvxnor e174 ((_ zero_extend 12) e159))))
+(let ((e180 (bvor e171 ((_ sign_extend 1) e176))))
+(let ((e181 (f0 ((_ extract 11 3) e177) ((_ sign_extend 7) e172))))
+(let ((e182 (= ((_ zero_extend 4) e168) e179)))
+(let ((e183 (bvsge e180 e170)))
+(let ((e184 (bvult ((_ sign_extend 5) e159) e172)))
+(let ((e185 (bvsgt ((_ sign_extend 4) e171) e161)))
+(let ((e186 (bvsge ((_ sign_extend 9) e175) e171)))
+(let ((e187 (= e171 e173)))
+(let ((e188 (bvule ((_ sign_extend 6) e175) e164)))
+(let ((e189 (bvslt e174 ((_ zero_extend 4) e171))))
+(let ((e190 (bvsle e173 e173)))
+(let ((e191 (= v156 v156)))
+(let ((e192 (bvsle e179 ((_ sign_extend 4) e167))))
+(let ((e193 (bvugt ((_ sign_extend 1) e163) e181)))
+(let ((e194 (distinct ((_ zero_extend 9) e175) e167)))
+(let ((e195 (bvsge e159 ((_ sign_extend 1) e178))))
+(let ((e196 (bvslt ((_ zero_extend 5) e178) e163)))
+(let ((e197 (bvuge e181 ((_ sign_extend 4) v156))))
+(let ((e198 (bvslt ((_ sign_extend 9) e175) e167)))
+(let ((e199 (bvult e173 e171)))
+(let ((e200 (bvslt e161 ((_ sign_extend 7) e172))))
+(let ((e201 (bvsle ((_ zero_extend 9) v157) e179)))
+(let ((e202 (bvule e161 ((_ zero_extend 13) e162))))
+(let ((e203 (bvslt v157 ((_ sign_extend 4) e178))))
+(let ((e204 (bvslt ((_ zero_extend 8) e159) e168)))
+(let ((e205 (bvslt ((_ sign_extend 7) e181) e174)))
+(let ((e206 (bvsle e177 ((_ zero_extend 11) v156))))
+(let ((e207 (bvsle ((_ sign_extend 13) e175) e177)))
+(let ((e208 (bvsle e178 e178)))
+(let ((e209 (bvult e179 ((_ zero_extend 8) e163))))
+(let ((e210 (bvsge e176 ((_ zero_extend 3) e160))))
+(let ((e211 (=> e189 e183)))
+(let ((e212 (not e208)))
+(let ((e213 (or e197 e198)))
+(let ((e214 (= e186 e199)))
+(let ((e215 (=> e211 e209)))
+(let ((e216 (xor e188 e200)))
+(let ((e217 (not e187)))
+(let ((e218 (ite e203 e191 e190)))
+(let ((e219 (or e184 e207)))
+(let ((e220 (or e219 e195)))
+(let ((e221 (=> e220 e215)))
+(let ((e222 (= e196 e221)))
+(let ((e223 (ite e202 e216 e193)))
+(let ((e224 (and e214 e218)))
+(let ((e225 (xor e205 e210)))
+(let ((e226 (=> e217 e224)))
+(let ((e227 (not e194)))
+(let ((e228 (not e227)))
+(let ((e229 (ite e212 e225 e204)))
+(let ((e230 (xor e229 e228)))
+(let ((e231 (ite e213 e226 e226)))
+(let ((e232 (= e201 e185)))
+(let ((e233 (=> e230 e222)))
+(let ((e234 (or e206 e223)))
+(let ((e235 (ite e231 e231 e231)))
+(let ((e236 (= e234 e235)))
+(let ((e237 (ite e236 e192 e233)))
+(let ((e238 (not e232)))
+(let ((e239 (xor e182 e238)))
+(let ((e240 (xor e239 e237)))
+(let ((e241 (and e240 (not (= e164 (_ bv0 7))))))
+(let ((e242 (and e241 (not (= e164 (bvnot (_ bv0 7)))))))
+e242
+)))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))
+(check-sat)
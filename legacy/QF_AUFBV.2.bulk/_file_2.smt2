@@ -0,0 +1,142 @@
+(set-info :source | fuzzsmt 0.3 |)
+(set-logic  QF_AUFBV)
+(set-info :status unknown)
+(declare-fun f2 ( (_ BitVec 1) (_ BitVec 16)) (_ BitVec 4))
+(declare-fun f3 ( (_ BitVec 2)) (_ BitVec 9))
+(declare-fun p0 ((_ BitVec 9) (_ BitVec 10)  ) Bool )
+(declare-fun v243 () (_ BitVec 14))
+(declare-fun v244 () (_ BitVec 16))
+(declare-fun v245 () (_ BitVec 2))
+(declare-fun a246 () (Array (_ BitVec 6) (_ BitVec 5)))
+(declare-fun a247 () (Array (_ BitVec 6) (_ BitVec 16)))
+(assert
+(let ((e248 (_ bv54193 16)))
+(let ((e249 (f3 ((_ extract 12 11) e248))))
+(let ((e250 (f2 ((_ extract 13 13) v244) ((_ zero_extend 14) v245))))
+(let ((e251 (ite (bvsgt v243 v243)(_ bv1 1) (_ bv0 1))))
+(let ((e252 (ite (bvule v244 ((_ zero_extend 15) e251))(_ bv1 1) (_ bv0 1))))
+(let ((e253 (ite (p0 ((_ extract 8 0) v244) ((_ zero_extend 6) e250))(_ bv1 1) (_ bv0 1))))
+(let ((e254 (store a246 ((_ sign_extend 4) v245) ((_ zero_extend 1) e250))))
+(let ((e255 (store e254 ((_ extract 6 1) v244) ((_ sign_extend 4) e251))))
+(let ((e256 (store e255 ((_ zero_extend 5) e251) ((_ sign_extend 4) e251))))
+(let ((e257 (select a246 ((_ extract 9 4) v243))))
+(let ((e258 (select a246 ((_ zero_extend 1) e257))))
+(let ((e259 (store e256 ((_ zero_extend 1) e258) ((_ sign_extend 4) e251))))
+(let ((e260 (select e255 ((_ extract 12 7) v244))))
+(let ((e261 (store a246 ((_ sign_extend 1) e258) ((_ zero_extend 3) v245))))
+(let ((e262 (select e259 ((_ sign_extend 1) e258))))
+(let ((e263 (ite (= (_ bv1 1) ((_ extract 0 0) e251)) e250 ((_ sign_extend 3) e251))))
+(let ((e264 (f2 e252 ((_ zero_extend 11) e257))))
+(let ((e265 (f2 ((_ extract 2 2) e260) ((_ sign_extend 11) e258))))
+(let ((e266 (f2 e253 ((_ zero_extend 11) e258))))
+(let ((e267 (ite (p0 ((_ extract 9 1) v243) ((_ sign_extend 9) e251))(_ bv1 1) (_ bv0 1))))
+(let ((e268 (f2 ((_ extract 2 2) e248) ((_ zero_extend 14) v245))))
+(let ((e269 (bvsdiv ((_ zero_extend 1) e263) e257)))
+(let ((e270 ((_ zero_extend 4) e249)))
+(let ((e271 (f3 ((_ extract 2 1) e258))))
+(let ((e272 (bvsub ((_ zero_extend 4) e262) e249)))
+(let ((e273 (bvadd ((_ zero_extend 1) e265) e258)))
+(let ((e274 (ite (bvugt e258 e258)(_ bv1 1) (_ bv0 1))))
+(let ((e275 (ite (bvult v244 ((_ sign_extend 11) e262))(_ bv1 1) (_ bv0 1))))
+(let ((e276 (bvule ((_ zero_extend 4) e267) e258)))
+(let ((e277 (p0 ((_ extract 14 6) e248) ((_ extract 11 2) v244))))
+(let ((e278 (bvsgt v244 ((_ sign_extend 2) v243))))
+(let ((e279 (bvsle e248 ((_ zero_extend 7) e271))))
+(let ((e280 (distinct v244 ((_ zero_extend 11) e273))))
+(let ((e281 (bvsle e262 ((_ sign_extend 4) e253))))
+(let ((e282 (p0 ((_ zero_extend 4) e269) ((_ sign_extend 5) e258))))
+(let ((e283 (bvslt ((_ sign_extend 15) e275) e248)))
+(let ((e284 (bvslt v244 ((_ zero_extend 11) e262))))
+(let ((e285 (bvsgt e260 ((_ sign_extend 4) e267))))
+(let ((e286 (bvsge ((_ zero_extend 8) e273) e270)))
+(let ((e287 (bvsge e251 e267)))
+(let ((e288 (= ((_ zero_extend 2) v243) e248)))
+(let ((e289 (bvult e253 e252)))
+(let ((e290 (bvslt e262 ((_ zero_extend 4) e253))))
+(let ((e291 (p0 ((_ zero_extend 8) e275) ((_ zero_extend 5) e273))))
+(let ((e292 (bvult ((_ zero_extend 1) e266) e258)))
+(let ((e293 (bvsgt ((_ zero_extend 15) e252) v244)))
+(let ((e294 (bvule ((_ zero_extend 8) e253) e249)))
+(let ((e295 (bvsle ((_ sign_extend 9) e258) v243)))
+(let ((e296 (distinct ((_ zero_extend 13) e252) v243)))
+(let ((e297 (bvult ((_ zero_extend 5) e265) e249)))
+(let ((e298 (distinct ((_ sign_extend 11) e257) e248)))
+(let ((e299 (bvult e271 ((_ zero_extend 8) e251))))
+(let ((e300 (bvult e260 e262)))
+(let ((e301 (distinct e263 ((_ zero_extend 3) e267))))
+(let ((e302 (bvsgt e265 e268)))
+(let ((e303 (bvult v244 ((_ zero_extend 14) v245))))
+(let ((e304 (bvule v243 ((_ sign_extend 12) v245))))
+(let ((e305 (bvule ((_ zero_extend 4) e257) e271)))
+(let ((e306 (bvsgt ((_ sign_extend 5) e250) e271)))
+(let ((e307 (bvslt v244 ((_ sign_extend 11) e262))))
+(let ((e308 (= e262 ((_ sign_extend 4) e253))))
+(let ((e309 (p0 ((_ zero_extend 5) e250) ((_ sign_extend 5) e262))))
+(let ((e310 (distinct ((_ sign_extend 9) e263) e270)))
+(let ((e311 (bvsge ((_ zero_extend 15) e252) v244)))
+(let ((e312 (bvslt ((_ zero_extend 4) e253) e260)))
+(let ((e313 (bvuge e273 ((_ zero_extend 1) e266))))
+(let ((e314 (bvslt e275 e252)))
+(let ((e315 (distinct v244 ((_ zero_extend 11) e269))))
+(let ((e316 (p0 ((_ zero_extend 4) e269) ((_ sign_extend 5) e258))))
+(let ((e317 (bvsgt e273 ((_ zero_extend 1) e264))))
+(let ((e318 (bvslt e262 ((_ zero_extend 4) e274))))
+(let ((e319 (bvsge e273 e257)))
+(let ((e320 (bvslt ((_ sign_extend 15) e252) v244)))
+(let ((e321 (bvule e249 e249)))
+(let ((e322 (bvsle ((_ sign_extend 1) e264) e269)))
+(let ((e323 (bvslt ((_ sign_extend 8) e253) e271)))
+(let ((e324 (bvuge e272 ((_ sign_extend 8) e274))))
+(let ((e325 (= e287 e303)))
+(let ((e326 (and e302 e306)))
+(let ((e327 (= e310 e307)))
+(let ((e328 (xor e292 e299)))
+(let ((e329 (xor e304 e277)))
+(let ((e330 (=> e309 e312)))
+(let ((e331 (= e321 e323)))
+(let ((e332 (=> e294 e290)))
+(let ((e333 (xor e328 e331)))
+(let ((e334 (xor e284 e284)))
+(let ((e335 (or e311 e317)))
+(let ((e336 (xor e330 e281)))
+(let ((e337 (not e282)))
+(let ((e338 (ite e313 e335 e322)))
+(let ((e339 (= e279 e293)))
+(let ((e340 (= e332 e285)))
+(let ((e341 (= e298 e283)))
+(let ((e342 (ite e300 e325 e297)))
+(let ((e343 (ite e324 e295 e326)))
+(let ((e344 (ite e280 e315 e286)))
+(let ((e345 (not e288)))
+(let ((e346 (and e314 e341)))
+(let ((e347 (or e316 e305)))
+(let ((e348 (=> e346 e320)))
+(let ((e349 (ite e334 e334 e276)))
+(let ((e350 (or e343 e348)))
+(let ((e351 (and e350 e308)))
+(let ((e352 (xor e291 e318)))
+(let ((e353 (ite e327 e345 e296)))
+(let ((e354 (and e351 e353)))
+(let ((e355 (ite e336 e336 e352)))
+(let ((e356 (not e340)))
+(let ((e357 (ite e355 e301 e278)))
+(let ((e358 (= e354 e354)))
+(let ((e359 (xor e333 e349)))
+(let ((e360 (= e358 e319)))
+(let ((e361 (= e338 e360)))
+(let ((e362 (ite e337 e339 e337)))
+(let ((e363 (or e357 e329)))
+(let ((e364 (not e359)))
+(let ((e365 (and e364 e347)))
+(let ((e366 (and e363 e289)))
+(let ((e367 (=> e342 e366)))
+(let ((e368 (=> e365 e365)))
+(let ((e369 (ite e367 e356 e344)))
+(let ((e370 (=> e362 e369)))
+(let ((e371 (and e370 e361)))
+(let ((e372 (and e371 e368)))
+(let ((e373 (and e372 (not (= e257 (_ bv0 5))))))
+(let ((e374 (and e373 (not (= e257 (bvnot (_ bv0 5)))))))
+e374
+))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))
+(check-sat)
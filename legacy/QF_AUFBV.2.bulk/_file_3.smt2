@@ -0,0 +1,193 @@
+(set-info :source | fuzzsmt 0.3 |)
+(set-logic  QF_AUFBV)
+(set-info :status unknown)
+(declare-fun f4 ( (_ BitVec 5) (_ BitVec 5)) (_ BitVec 8))
+(declare-fun v375 () (_ BitVec 5))
+(declare-fun v376 () (_ BitVec 13))
+(declare-fun a377 () (Array (_ BitVec 4) (_ BitVec 10)))
+(declare-fun a378 () (Array (_ BitVec 16) (_ BitVec 6)))
+(assert
+(let ((e379 (_ bv0 4)))
+(let ((e380 (_ bv8 10)))
+(let ((e381 (bvsmod ((_ zero_extend 1) e379) v375)))
+(let ((e382 (f4 ((_ extract 5 1) e380) v375)))
+(let ((e383 (bvadd v376 ((_ sign_extend 3) e380))))
+(let ((e384 (store a378 ((_ sign_extend 8) e382) ((_ sign_extend 1) v375))))
+(let ((e385 (select a378 ((_ zero_extend 11) v375))))
+(let ((e386 (select e384 ((_ sign_extend 11) v375))))
+(let ((e387 (select a378 ((_ sign_extend 11) e381))))
+(let ((e388 (store e384 ((_ sign_extend 6) e380) e387)))
+(let ((e389 (select a377 ((_ extract 9 6) v376))))
+(let ((e390 (select a377 ((_ extract 4 1) e386))))
+(let ((e391 (f4 ((_ extract 7 3) e382) ((_ extract 5 1) e382))))
+(let ((e392 (bvshl v376 v376)))
+(let ((e393 ((_ sign_extend 7) e386)))
+(let ((e394 (bvshl e380 ((_ sign_extend 5) e381))))
+(let ((e395 ((_ extract 3 0) e379)))
+(let ((e396 (bvnand ((_ zero_extend 5) e381) e390)))
+(let ((e397 (bvor e383 ((_ sign_extend 3) e380))))
+(let ((e398 (f4 ((_ extract 4 0) e389) ((_ extract 7 3) e389))))
+(let ((e399 (bvand ((_ zero_extend 2) e382) e380)))
+(let ((e400 (bvor e392 ((_ sign_extend 3) e390))))
+(let ((e401 (bvnot e398)))
+(let ((e402 (bvsrem ((_ sign_extend 2) e385) e382)))
+(let ((e403 ((_ extract 1 0) e387)))
+(let ((e404 ((_ zero_extend 4) v375)))
+(let ((e405 (= e393 ((_ zero_extend 8) e381))))
+(let ((e406 (bvslt e393 ((_ sign_extend 7) e386))))
+(let ((e407 (bvsge e382 ((_ sign_extend 2) e386))))
+(let ((e408 (bvsgt v376 e393)))
+(let ((e409 (bvsgt e393 ((_ sign_extend 4) e404))))
+(let ((e410 (bvsge e383 ((_ sign_extend 5) e391))))
+(let ((e411 (= e396 e390)))
+(let ((e412 (bvsle ((_ sign_extend 3) e385) e404)))
+(let ((e413 (bvsle e380 e390)))
+(let ((e414 (bvult ((_ zero_extend 4) e387) e394)))
+(let ((e415 (distinct e394 ((_ sign_extend 2) e401))))
+(let ((e416 (distinct ((_ sign_extend 2) e386) e398)))
+(let ((e417 (distinct e394 ((_ sign_extend 2) e401))))
+(let ((e418 (bvult e400 ((_ zero_extend 5) e401))))
+(let ((e419 (bvugt ((_ sign_extend 6) e379) e396)))
+(let ((e420 (bvuge e382 ((_ sign_extend 3) e381))))
+(let ((e421 (bvugt e400 ((_ zero_extend 5) e401))))
+(let ((e422 (bvuge e389 ((_ zero_extend 2) e382))))
+(let ((e423 (bvult e389 e396)))
+(let ((e424 (= e392 e397)))
+(let ((e425 (bvslt ((_ zero_extend 8) e381) e400)))
+(let ((e426 (bvugt e379 ((_ zero_extend 2) e403))))
+(let ((e427 (= ((_ zero_extend 2) e385) e401)))
+(let ((e428 (bvsle v376 ((_ sign_extend 3) e390))))
+(let ((e429 (bvugt e393 ((_ zero_extend 9) e379))))
+(let ((e430 (bvult ((_ zero_extend 11) e403) e392)))
+(let ((e431 (bvule ((_ sign_extend 5) v375) e399)))
+(let ((e432 (bvugt ((_ zero_extend 1) v375) e387)))
+(let ((e433 (bvslt ((_ sign_extend 9) e379) e393)))
+(let ((e434 (distinct e393 v376)))
+(let ((e435 (distinct e385 ((_ sign_extend 1) v375))))
+(let ((e436 (bvugt ((_ sign_extend 1) e404) e389)))
+(let ((e437 (bvugt e401 e382)))
+(let ((e438 (bvslt e392 ((_ zero_extend 3) e389))))
+(let ((e439 (bvuge ((_ sign_extend 11) e403) e397)))
+(let ((e440 (bvslt ((_ zero_extend 2) e382) e389)))
+(let ((e441 (bvult e399 e399)))
+(let ((e442 (bvsle e394 ((_ zero_extend 5) e381))))
+(let ((e443 (bvule e398 e398)))
+(let ((e444 (bvslt ((_ sign_extend 1) v375) e385)))
+(let ((e445 (bvult e392 ((_ sign_extend 8) v375))))
+(let ((e446 (bvsle e392 ((_ zero_extend 3) e396))))
+(let ((e447 (bvslt e393 ((_ zero_extend 3) e390))))
+(let ((e448 (bvsge e382 e402)))
+(let ((e449 (distinct ((_ sign_extend 4) e387) e389)))
+(let ((e450 (= e382 e382)))
+(let ((e451 (bvsge ((_ zero_extend 9) e379) e383)))
+(let ((e452 (= e390 ((_ sign_extend 6) e379))))
+(let ((e453 (distinct e400 e383)))
+(let ((e454 (bvslt e389 ((_ zero_extend 4) e385))))
+(let ((e455 (bvult ((_ sign_extend 3) e396) e392)))
+(let ((e456 (bvslt ((_ sign_extend 2) e386) e382)))
+(let ((e457 (bvslt ((_ zero_extend 8) e403) e399)))
+(let ((e458 (distinct e399 ((_ sign_extend 8) e403))))
+(let ((e459 (bvslt e396 ((_ zero_extend 4) e385))))
+(let ((e460 (bvsle ((_ sign_extend 5) v375) e399)))
+(let ((e461 (bvsge e383 e397)))
+(let ((e462 (bvugt e401 ((_ sign_extend 6) e403))))
+(let ((e463 (bvult ((_ zero_extend 3) e394) e392)))
+(let ((e464 (distinct e390 e399)))
+(let ((e465 (bvsgt e389 ((_ sign_extend 2) e391))))
+(let ((e466 (bvult e398 ((_ sign_extend 3) e381))))
+(let ((e467 (bvsge v376 ((_ zero_extend 3) e380))))
+(let ((e468 (bvugt ((_ zero_extend 6) e403) e398)))
+(let ((e469 (bvsgt ((_ zero_extend 9) e379) e400)))
+(let ((e470 (bvsgt ((_ zero_extend 5) e401) e393)))
+(let ((e471 (bvult ((_ zero_extend 7) e387) e400)))
+(let ((e472 (bvslt ((_ sign_extend 1) e381) e385)))
+(let ((e473 (bvugt e402 e402)))
+(let ((e474 (bvult e400 ((_ sign_extend 3) e390))))
+(let ((e475 (bvule e404 ((_ zero_extend 7) e403))))
+(let ((e476 (bvugt ((_ sign_extend 4) e385) e394)))
+(let ((e477 (bvule ((_ zero_extend 4) e395) e391)))
+(let ((e478 (or e456 e467)))
+(let ((e479 (=> e445 e433)))
+(let ((e480 (ite e468 e454 e423)))
+(let ((e481 (ite e470 e476 e422)))
+(let ((e482 (ite e469 e421 e412)))
+(let ((e483 (ite e442 e479 e413)))
+(let ((e484 (ite e405 e481 e447)))
+(let ((e485 (ite e452 e460 e410)))
+(let ((e486 (and e438 e480)))
+(let ((e487 (not e437)))
+(let ((e488 (ite e450 e434 e473)))
+(let ((e489 (xor e425 e474)))
+(let ((e490 (= e461 e431)))
+(let ((e491 (not e417)))
+(let ((e492 (and e439 e475)))
+(let ((e493 (= e487 e459)))
+(let ((e494 (ite e492 e441 e428)))
+(let ((e495 (=> e491 e466)))
+(let ((e496 (ite e451 e451 e488)))
+(let ((e497 (= e440 e482)))
+(let ((e498 (not e449)))
+(let ((e499 (and e414 e414)))
+(let ((e500 (=> e432 e429)))
+(let ((e501 (not e498)))
+(let ((e502 (=> e430 e483)))
+(let ((e503 (or e435 e502)))
+(let ((e504 (=> e406 e484)))
+(let ((e505 (= e420 e446)))
+(let ((e506 (xor e463 e503)))
+(let ((e507 (=> e416 e505)))
+(let ((e508 (not e455)))
+(let ((e509 (= e453 e453)))
+(let ((e510 (xor e508 e504)))
+(let ((e511 (xor e457 e506)))
+(let ((e512 (xor e408 e444)))
+(let ((e513 (not e511)))
+(let ((e514 (= e419 e436)))
+(let ((e515 (ite e513 e494 e507)))
+(let ((e516 (not e409)))
+(let ((e517 (xor e418 e515)))
+(let ((e518 (=> e486 e489)))
+(let ((e519 (not e510)))
+(let ((e520 (and e471 e464)))
+(let ((e521 (and e517 e518)))
+(let ((e522 (xor e458 e462)))
+(let ((e523 (xor e424 e448)))
+(let ((e524 (and e477 e520)))
+(let ((e525 (or e499 e497)))
+(let ((e526 (=> e525 e490)))
+(let ((e527 (or e524 e485)))
+(let ((e528 (= e501 e407)))
+(let ((e529 (and e521 e527)))
+(let ((e530 (ite e496 e495 e509)))
+(let ((e531 (xor e465 e516)))
+(let ((e532 (=> e415 e478)))
+(let ((e533 (and e523 e528)))
+(let ((e534 (not e533)))
+(let ((e535 (= e512 e522)))
+(let ((e536 (and e529 e526)))
+(let ((e537 (not e426)))
+(let ((e538 (= e532 e443)))
+(let ((e539 (ite e519 e534 e519)))
+(let ((e540 (=> e538 e472)))
+(let ((e541 (= e493 e493)))
+(let ((e542 (= e537 e530)))
+(let ((e543 (not e541)))
+(let ((e544 (or e539 e539)))
+(let ((e545 (xor e540 e427)))
+(let ((e546 (ite e411 e536 e536)))
+(let ((e547 (ite e545 e545 e545)))
+(let ((e548 (ite e546 e531 e500)))
+(let ((e549 (= e548 e543)))
+(let ((e550 (and e542 e549)))
+(let ((e551 (ite e550 e544 e550)))
+(let ((e552 (or e551 e535)))
+(let ((e553 (or e547 e552)))
+(let ((e554 (or e514 e514)))
+(let ((e555 (=> e553 e554)))
+(let ((e556 (and e555 (not (= v375 (_ bv0 5))))))
+(let ((e557 (and e556 (not (= v375 (bvnot (_ bv0 5)))))))
+(let ((e558 (and e557 (not (= e382 (_ bv0 8))))))
+(let ((e559 (and e558 (not (= e382 (bvnot (_ bv0 8)))))))
+e559
+))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))
+(check-sat)
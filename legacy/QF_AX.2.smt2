@@ -0,0 +1,356 @@
+(set-info :source | fuzzsmt 0.3 |)
+(set-logic  QF_AX)
+(set-info :status unknown)
+(declare-sort Index 0)
+(declare-sort Element 0)
+(declare-fun v0 () (Array Index Element))
+(declare-fun v1 () (Array Index Element))
+(declare-fun v2 () Index)
+(declare-fun v3 () Index)
+(declare-fun v4 () Index)
+(declare-fun v5 () Element)
+(assert
+(let ((e6 (store v1 v2 v5)))
+(let ((e7 (store v1 v2 v5)))
+(let ((e8 (select v1 v3)))
+(let ((e9 (select e6 v4)))
+(let ((e10 (store e7 v3 v5)))
+(let ((e11 (select v0 v4)))
+(let ((e12 (store e7 v2 e9)))
+(let ((e13 (select e10 v3)))
+(let ((e14 (= v0 e12)))
+(let ((e15 (distinct e7 v1)))
+(let ((e16 (distinct v0 e6)))
+(let ((e17 (= e10 e7)))
+(let ((e18 (= v3 v4)))
+(let ((e19 (= v4 v4)))
+(let ((e20 (= v3 v2)))
+(let ((e21 (distinct e13 e8)))
+(let ((e22 (= e9 e8)))
+(let ((e23 (= e11 e13)))
+(let ((e24 (= e13 e9)))
+(let ((e25 (= v5 e13)))
+(let ((e26 (ite e24 e6 e6)))
+(let ((e27 (ite e16 e7 e12)))
+(let ((e28 (ite e17 e10 v0)))
+(let ((e29 (ite e25 v1 e26)))
+(let ((e30 (ite e21 e26 e12)))
+(let ((e31 (ite e23 e10 v1)))
+(let ((e32 (ite e17 e7 e27)))
+(let ((e33 (ite e18 e7 e31)))
+(let ((e34 (ite e19 v0 v0)))
+(let ((e35 (ite e20 e6 v1)))
+(let ((e36 (ite e15 e6 e10)))
+(let ((e37 (ite e18 e36 e28)))
+(let ((e38 (ite e22 e36 e37)))
+(let ((e39 (ite e14 e38 e6)))
+(let ((e40 (ite e15 v4 v4)))
+(let ((e41 (ite e15 v2 v4)))
+(let ((e42 (ite e25 v3 e41)))
+(let ((e43 (ite e17 e41 e40)))
+(let ((e44 (ite e23 e40 v3)))
+(let ((e45 (ite e14 v4 e44)))
+(let ((e46 (ite e25 v3 e44)))
+(let ((e47 (ite e19 e46 e45)))
+(let ((e48 (ite e16 v2 e43)))
+(let ((e49 (ite e19 v2 e42)))
+(let ((e50 (ite e23 e40 v3)))
+(let ((e51 (ite e23 v4 v3)))
+(let ((e52 (ite e21 e49 e41)))
+(let ((e53 (ite e20 v2 e48)))
+(let ((e54 (ite e23 e49 e44)))
+(let ((e55 (ite e22 e44 e54)))
+(let ((e56 (ite e24 e42 e41)))
+(let ((e57 (ite e18 e54 v4)))
+(let ((e58 (ite e16 e13 v5)))
+(let ((e59 (ite e18 e9 e8)))
+(let ((e60 (ite e25 e8 e59)))
+(let ((e61 (ite e20 e60 e8)))
+(let ((e62 (ite e22 e9 e11)))
+(let ((e63 (ite e17 e62 e8)))
+(let ((e64 (ite e19 e63 e61)))
+(let ((e65 (ite e14 e62 e60)))
+(let ((e66 (ite e23 e63 e8)))
+(let ((e67 (ite e24 e61 e64)))
+(let ((e68 (ite e21 e62 e65)))
+(let ((e69 (ite e15 e61 e13)))
+(let ((e70 (store v0 e44 e67)))
+(let ((e71 (store e36 e44 e62)))
+(let ((e72 (store e29 e43 e62)))
+(let ((e73 (select e39 e43)))
+(let ((e74 (select e12 e42)))
+(let ((e75 (store e10 e52 e62)))
+(let ((e76 (select e37 e41)))
+(let ((e77 (store e32 e43 e69)))
+(let ((e78 (select e28 v2)))
+(let ((e79 (distinct e38 e75)))
+(let ((e80 (distinct e36 e10)))
+(let ((e81 (distinct e38 e32)))
+(let ((e82 (distinct e34 e29)))
+(let ((e83 (= v0 e31)))
+(let ((e84 (distinct e30 e39)))
+(let ((e85 (= e36 e28)))
+(let ((e86 (= e70 e26)))
+(let ((e87 (= e32 e35)))
+(let ((e88 (= e37 e72)))
+(let ((e89 (distinct e77 e38)))
+(let ((e90 (= v1 e36)))
+(let ((e91 (= e75 e75)))
+(let ((e92 (distinct e27 v1)))
+(let ((e93 (= e70 e7)))
+(let ((e94 (= e29 e31)))
+(let ((e95 (distinct e77 e39)))
+(let ((e96 (distinct e27 e38)))
+(let ((e97 (= e39 e77)))
+(let ((e98 (= e72 e10)))
+(let ((e99 (= e31 e7)))
+(let ((e100 (= e27 e72)))
+(let ((e101 (distinct e28 e26)))
+(let ((e102 (= e7 e7)))
+(let ((e103 (distinct e31 e36)))
+(let ((e104 (distinct e30 e26)))
+(let ((e105 (= e27 e12)))
+(let ((e106 (distinct v0 e77)))
+(let ((e107 (distinct v0 e33)))
+(let ((e108 (= e39 e71)))
+(let ((e109 (= e33 e38)))
+(let ((e110 (= e12 e29)))
+(let ((e111 (distinct v1 v0)))
+(let ((e112 (= e71 e29)))
+(let ((e113 (= e26 e27)))
+(let ((e114 (= e7 e77)))
+(let ((e115 (distinct e35 e38)))
+(let ((e116 (distinct e30 e6)))
+(let ((e117 (= v4 e50)))
+(let ((e118 (= v4 e52)))
+(let ((e119 (= e41 e42)))
+(let ((e120 (distinct e56 e42)))
+(let ((e121 (= e56 v2)))
+(let ((e122 (= e55 e53)))
+(let ((e123 (= e53 e42)))
+(let ((e124 (distinct e40 e51)))
+(let ((e125 (= e49 e40)))
+(let ((e126 (= e53 e46)))
+(let ((e127 (distinct e50 e47)))
+(let ((e128 (distinct v3 e47)))
+(let ((e129 (distinct e48 e50)))
+(let ((e130 (= e50 v2)))
+(let ((e131 (= e47 e53)))
+(let ((e132 (= e56 e53)))
+(let ((e133 (distinct v4 e42)))
+(let ((e134 (= v3 v2)))
+(let ((e135 (distinct e48 e55)))
+(let ((e136 (distinct e48 e54)))
+(let ((e137 (distinct e47 e44)))
+(let ((e138 (= v3 e48)))
+(let ((e139 (distinct e52 e48)))
+(let ((e140 (distinct e53 v2)))
+(let ((e141 (distinct e40 e43)))
+(let ((e142 (distinct e47 e53)))
+(let ((e143 (distinct e51 e42)))
+(let ((e144 (distinct e49 e54)))
+(let ((e145 (distinct e41 e53)))
+(let ((e146 (= e46 e43)))
+(let ((e147 (distinct e48 e50)))
+(let ((e148 (distinct e50 e40)))
+(let ((e149 (distinct e44 e55)))
+(let ((e150 (= e57 e40)))
+(let ((e151 (= e50 e48)))
+(let ((e152 (distinct e57 e48)))
+(let ((e153 (distinct e55 e50)))
+(let ((e154 (distinct e47 e50)))
+(let ((e155 (distinct e45 e52)))
+(let ((e156 (distinct e8 e68)))
+(let ((e157 (= e58 e9)))
+(let ((e158 (= e64 e8)))
+(let ((e159 (distinct e68 e11)))
+(let ((e160 (= e8 e62)))
+(let ((e161 (= e8 e64)))
+(let ((e162 (distinct e74 e68)))
+(let ((e163 (= e58 e67)))
+(let ((e164 (distinct v5 e68)))
+(let ((e165 (distinct e67 e8)))
+(let ((e166 (= e78 e67)))
+(let ((e167 (= e64 e66)))
+(let ((e168 (= e62 v5)))
+(let ((e169 (distinct e9 e62)))
+(let ((e170 (distinct e13 e69)))
+(let ((e171 (distinct e62 e73)))
+(let ((e172 (distinct e11 e9)))
+(let ((e173 (= e13 e63)))
+(let ((e174 (distinct e58 e11)))
+(let ((e175 (distinct e67 e62)))
+(let ((e176 (= e64 e76)))
+(let ((e177 (= e68 e11)))
+(let ((e178 (= e58 e61)))
+(let ((e179 (= e63 e67)))
+(let ((e180 (= e8 e63)))
+(let ((e181 (= e74 e74)))
+(let ((e182 (distinct e9 e73)))
+(let ((e183 (distinct e69 e60)))
+(let ((e184 (distinct e60 e66)))
+(let ((e185 (distinct e62 e68)))
+(let ((e186 (= v5 e63)))
+(let ((e187 (= e13 e78)))
+(let ((e188 (= e13 e62)))
+(let ((e189 (distinct e9 e60)))
+(let ((e190 (= e67 e60)))
+(let ((e191 (distinct e66 e73)))
+(let ((e192 (distinct e62 e67)))
+(let ((e193 (= e62 e11)))
+(let ((e194 (distinct e78 e69)))
+(let ((e195 (= e78 e60)))
+(let ((e196 (distinct e61 e62)))
+(let ((e197 (distinct e11 e61)))
+(let ((e198 (distinct e11 e60)))
+(let ((e199 (= e64 e78)))
+(let ((e200 (distinct e63 e61)))
+(let ((e201 (distinct e61 e73)))
+(let ((e202 (= e67 e59)))
+(let ((e203 (= e65 v5)))
+(let ((e204 (ite e182 e140 e122)))
+(let ((e205 (xor e162 e97)))
+(let ((e206 (=> e118 e118)))
+(let ((e207 (not e124)))
+(let ((e208 (or e156 e207)))
+(let ((e209 (ite e180 e174 e108)))
+(let ((e210 (xor e192 e172)))
+(let ((e211 (= e205 e166)))
+(let ((e212 (= e177 e104)))
+(let ((e213 (not e202)))
+(let ((e214 (= e91 e133)))
+(let ((e215 (or e127 e212)))
+(let ((e216 (=> e159 e141)))
+(let ((e217 (xor e189 e115)))
+(let ((e218 (= e125 e126)))
+(let ((e219 (and e217 e171)))
+(let ((e220 (and e183 e134)))
+(let ((e221 (not e121)))
+(let ((e222 (and e110 e14)))
+(let ((e223 (or e220 e132)))
+(let ((e224 (=> e146 e219)))
+(let ((e225 (and e176 e150)))
+(let ((e226 (or e203 e98)))
+(let ((e227 (not e211)))
+(let ((e228 (ite e81 e85 e226)))
+(let ((e229 (not e131)))
+(let ((e230 (or e173 e99)))
+(let ((e231 (xor e18 e15)))
+(let ((e232 (= e221 e197)))
+(let ((e233 (and e222 e89)))
+(let ((e234 (= e190 e213)))
+(let ((e235 (and e111 e148)))
+(let ((e236 (xor e153 e188)))
+(let ((e237 (=> e234 e175)))
+(let ((e238 (xor e149 e184)))
+(let ((e239 (not e79)))
+(let ((e240 (or e92 e106)))
+(let ((e241 (ite e107 e21 e24)))
+(let ((e242 (not e208)))
+(let ((e243 (or e224 e228)))
+(let ((e244 (= e170 e152)))
+(let ((e245 (=> e204 e101)))
+(let ((e246 (xor e142 e239)))
+(let ((e247 (not e103)))
+(let ((e248 (ite e119 e113 e114)))
+(let ((e249 (or e168 e165)))
+(let ((e250 (or e136 e123)))
+(let ((e251 (=> e139 e250)))
+(let ((e252 (= e227 e196)))
+(let ((e253 (ite e230 e235 e128)))
+(let ((e254 (and e94 e240)))
+(let ((e255 (xor e25 e206)))
+(let ((e256 (=> e95 e218)))
+(let ((e257 (not e93)))
+(let ((e258 (not e238)))
+(let ((e259 (ite e80 e255 e96)))
+(let ((e260 (xor e135 e143)))
+(let ((e261 (ite e225 e130 e116)))
+(let ((e262 (= e186 e246)))
+(let ((e263 (=> e158 e86)))
+(let ((e264 (or e147 e236)))
+(let ((e265 (ite e84 e164 e157)))
+(let ((e266 (= e242 e169)))
+(let ((e267 (ite e241 e19 e90)))
+(let ((e268 (not e194)))
+(let ((e269 (xor e154 e259)))
+(let ((e270 (xor e269 e231)))
+(let ((e271 (xor e102 e210)))
+(let ((e272 (xor e253 e160)))
+(let ((e273 (=> e252 e268)))
+(let ((e274 (ite e82 e256 e263)))
+(let ((e275 (and e249 e260)))
+(let ((e276 (not e254)))
+(let ((e277 (xor e145 e262)))
+(let ((e278 (=> e233 e144)))
+(let ((e279 (=> e276 e179)))
+(let ((e280 (and e129 e83)))
+(let ((e281 (ite e23 e187 e120)))
+(let ((e282 (=> e17 e200)))
+(let ((e283 (not e229)))
+(let ((e284 (=> e215 e258)))
+(let ((e285 (or e237 e20)))
+(let ((e286 (not e167)))
+(let ((e287 (and e272 e163)))
+(let ((e288 (not e257)))
+(let ((e289 (ite e105 e248 e265)))
+(let ((e290 (ite e273 e281 e199)))
+(let ((e291 (and e282 e109)))
+(let ((e292 (=> e181 e280)))
+(let ((e293 (= e270 e275)))
+(let ((e294 (xor e195 e214)))
+(let ((e295 (and e261 e294)))
+(let ((e296 (=> e285 e251)))
+(let ((e297 (ite e243 e274 e289)))
+(let ((e298 (and e232 e296)))
+(let ((e299 (or e137 e209)))
+(let ((e300 (not e284)))
+(let ((e301 (not e161)))
+(let ((e302 (and e16 e191)))
+(let ((e303 (= e277 e244)))
+(let ((e304 (ite e267 e88 e223)))
+(let ((e305 (= e193 e287)))
+(let ((e306 (xor e279 e279)))
+(let ((e307 (= e295 e291)))
+(let ((e308 (not e283)))
+(let ((e309 (=> e304 e305)))
+(let ((e310 (and e308 e300)))
+(let ((e311 (and e288 e309)))
+(let ((e312 (= e22 e264)))
+(let ((e313 (xor e151 e307)))
+(let ((e314 (xor e313 e201)))
+(let ((e315 (xor e245 e310)))
+(let ((e316 (or e315 e100)))
+(let ((e317 (or e178 e286)))
+(let ((e318 (= e303 e138)))
+(let ((e319 (not e117)))
+(let ((e320 (and e306 e299)))
+(let ((e321 (= e311 e317)))
+(let ((e322 (xor e318 e316)))
+(let ((e323 (=> e266 e314)))
+(let ((e324 (=> e323 e290)))
+(let ((e325 (= e298 e247)))
+(let ((e326 (and e198 e198)))
+(let ((e327 (= e320 e301)))
+(let ((e328 (and e297 e155)))
+(let ((e329 (xor e321 e327)))
+(let ((e330 (= e185 e312)))
+(let ((e331 (or e326 e216)))
+(let ((e332 (=> e322 e112)))
+(let ((e333 (not e293)))
+(let ((e334 (ite e332 e324 e325)))
+(let ((e335 (xor e334 e302)))
+(let ((e336 (and e329 e271)))
+(let ((e337 (or e330 e319)))
+(let ((e338 (or e278 e335)))
+(let ((e339 (or e337 e337)))
+(let ((e340 (or e333 e336)))
+(let ((e341 (=> e338 e331)))
+(let ((e342 (= e341 e87)))
+(let ((e343 (ite e339 e292 e340)))
+(let ((e344 (or e328 e328)))
+(let ((e345 (=> e344 e342)))
+(let ((e346 (=> e345 e343)))
+e346
+))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))
+(check-sat)
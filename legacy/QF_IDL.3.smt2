@@ -0,0 +1,56 @@
+(set-info :source | fuzzsmt 0.3 |)
+(set-logic  QF_IDL)
+(set-info :status unknown)
+(declare-fun v0 () Int)
+(declare-fun v1 () Int)
+(declare-fun v2 () Int)
+(declare-fun v3 () Int)
+(declare-fun v4 () Int)
+(declare-fun v5 () Int)
+(assert
+(let ((e6 0))
+(let ((e7 0))
+(let ((e8 8))
+(let ((e9 (> (- v1 v3) e7)))
+(let ((e10 (>= (- v4 v0) (- e6))))
+(let ((e11 (> (- v0 v1) e8)))
+(let ((e12 (distinct v5 v2)))
+(let ((e13 (distinct (- v0 v0) e8)))
+(let ((e14 (< (- v3 v1) e7)))
+(let ((e15 (= v2 v4)))
+(let ((e16 (= (- v2 v3) e6)))
+(let ((e17 (>= (- v4 v3) e7)))
+(let ((e18 (<= v1 v1)))
+(let ((e19 (>= v1 v0)))
+(let ((e20 (distinct v2 v4)))
+(let ((e21 (<= v5 v5)))
+(let ((e22 (distinct v5 v4)))
+(let ((e23 (<= v2 v2)))
+(let ((e24 (< (- v4 v5) (- e7))))
+(let ((e25 (< v5 v3)))
+(let ((e26 (= v2 v5)))
+(let ((e27 (> (- v1 v3) e8)))
+(let ((e28 (= v0 v3)))
+(let ((e29 (xor e25 e22)))
+(let ((e30 (not e29)))
+(let ((e31 (ite e27 e18 e26)))
+(let ((e32 (=> e23 e20)))
+(let ((e33 (ite e13 e32 e11)))
+(let ((e34 (xor e17 e15)))
+(let ((e35 (xor e19 e9)))
+(let ((e36 (or e14 e12)))
+(let ((e37 (= e35 e10)))
+(let ((e38 (xor e28 e34)))
+(let ((e39 (xor e31 e37)))
+(let ((e40 (xor e16 e39)))
+(let ((e41 (not e36)))
+(let ((e42 (or e33 e41)))
+(let ((e43 (=> e42 e30)))
+(let ((e44 (or e24 e21)))
+(let ((e45 (= e40 e38)))
+(let ((e46 (not e44)))
+(let ((e47 (and e46 e45)))
+(let ((e48 (=> e47 e43)))
+e48
+))))))))))))))))))))))))))))))))))))))))))))
+(check-sat)
@@ -0,0 +1,61 @@
+(set-info :source | fuzzsmt 0.3 |)
+(set-logic  QF_RDL)
+(set-info :status unknown)
+(declare-fun v0 () Real)
+(declare-fun v1 () Real)
+(declare-fun v2 () Real)
+(declare-fun v3 () Real)
+(declare-fun v4 () Real)
+(declare-fun v5 () Real)
+(assert
+(let ((e6 7))
+(let ((e7 (< v3 v1)))
+(let ((e8 (= v0 v2)))
+(let ((e9 (<= (- v5 v0) e6)))
+(let ((e10 (= (- (+ v5 v5 v5 v5 v5 v5) (+ v3 v5 v3 v3 v3 v3)) (- e6))))
+(let ((e11 (<= v4 v2)))
+(let ((e12 (<= v2 v1)))
+(let ((e13 (< v4 v3)))
+(let ((e14 (= v4 v1)))
+(let ((e15 (= (- v2 v5) (/ e6 e6))))
+(let ((e16 (< (- v4 v4) (/ e6 e6))))
+(let ((e17 (>= v4 v3)))
+(let ((e18 (> (- (+ v0 v0) (+ v4 v0)) e6)))
+(let ((e19 (distinct v2 v0)))
+(let ((e20 (>= (- v1 v2) e6)))
+(let ((e21 (<= (- (+ v3 v3 v3 v3 v3 v3 v3 v3 v3 v3 v3 v3 v3) (+ v0 v3 v0 v0 v0 v0 v0 v0 v0 v0 v0 v0 v0)) e6)))
+(let ((e22 (distinct (- (+ v4 v4 v4 v4 v4 v4 v4 v4 v4 v4 v4) (+ v5 v4 v5 v5 v5 v5 v5 v5 v5 v5 v5)) e6)))
+(let ((e23 (> (- (+ v4 v4 v4 v4 v4 v4 v4 v4 v4 v4 v4 v4 v4) (+ v5 v4 v5 v5 v5 v5 v5 v5 v5 v5 v5 v5 v5)) (- e6))))
+(let ((e24 (= (- v4 v5) (/ e6 e6))))
+(let ((e25 (> (- v4 v5) (/ e6 e6))))
+(let ((e26 (= (- v4 v5) e6)))
+(let ((e27 (= (- v3 v3) e6)))
+(let ((e28 (> v2 v1)))
+(let ((e29 (=> e10 e8)))
+(let ((e30 (xor e26 e26)))
+(let ((e31 (or e7 e17)))
+(let ((e32 (= e12 e14)))
+(let ((e33 (or e9 e22)))
+(let ((e34 (and e11 e19)))
+(let ((e35 (xor e32 e16)))
+(let ((e36 (or e24 e33)))
+(let ((e37 (=> e29 e27)))
+(let ((e38 (= e15 e23)))
+(let ((e39 (or e20 e18)))
+(let ((e40 (or e25 e13)))
+(let ((e41 (xor e39 e38)))
+(let ((e42 (ite e28 e41 e35)))
+(let ((e43 (ite e31 e31 e37)))
+(let ((e44 (=> e30 e36)))
+(let ((e45 (=> e42 e42)))
+(let ((e46 (= e34 e40)))
+(let ((e47 (= e44 e44)))
+(let ((e48 (ite e21 e21 e21)))
+(let ((e49 (xor e47 e45)))
+(let ((e50 (xor e46 e49)))
+(let ((e51 (or e50 e50)))
+(let ((e52 (xor e48 e51)))
+(let ((e53 (or e52 e43)))
+e53
+)))))))))))))))))))))))))))))))))))))))))))))))))
+(check-sat)
@@ -0,0 +1,171 @@
+(set-info :source | fuzzsmt 0.3 |)
+(set-logic  QF_UF)
+(set-info :status unknown)
+(declare-sort S0 0 )
+(declare-sort S1 0 )
+(declare-fun v0 () S0)
+(declare-fun v1 () S1)
+(declare-fun f0 (S0 S0 ) S0)
+(declare-fun f1 (S1 S1 S1 ) S0)
+(declare-fun f2 (S1 S0 ) S1)
+(declare-fun f3 (S1 S1 ) S1)
+(declare-fun f4 (S0 S1 S0 ) S0)
+(declare-fun p0 (S0 S1 S1  ) Bool )
+(declare-fun p1 (S1  ) Bool )
+(declare-fun p2 (S1 S1  ) Bool )
+(declare-fun p3 (S0 S1  ) Bool )
+(declare-fun p4 (S1  ) Bool )
+(assert
+(let ((e2 (f3 v1 v1)))
+(let ((e3 (f0 v0 v0)))
+(let ((e4 (f2 v1 v0)))
+(let ((e5 (f0 e3 v0)))
+(let ((e6 (f1 e4 e2 e4)))
+(let ((e7 (f3 e2 e2)))
+(let ((e8 (f3 e7 e2)))
+(let ((e9 (f0 v0 e6)))
+(let ((e10 (f0 e3 e5)))
+(let ((e11 (f1 e2 v1 e8)))
+(let ((e12 (f4 v0 e7 e11)))
+(let ((e13 (= e12 e12)))
+(let ((e14 (distinct e10 e10)))
+(let ((e15 (p1 e7)))
+(let ((e16 (distinct e8 e8)))
+(let ((e17 (= e9 e6)))
+(let ((e18 (p1 e7)))
+(let ((e19 (distinct v0 e9)))
+(let ((e20 (p4 v1)))
+(let ((e21 (p0 e11 e8 e7)))
+(let ((e22 (= e4 e4)))
+(let ((e23 (= e5 e5)))
+(let ((e24 (p0 v0 e8 e4)))
+(let ((e25 (distinct e3 e3)))
+(let ((e26 (p3 e10 e7)))
+(let ((e27 (p1 v1)))
+(let ((e28 (distinct e2 e2)))
+(let ((e29 (p2 e4 e2)))
+(let ((e30 (ite e26 e5 e12)))
+(let ((e31 (ite e25 e9 e12)))
+(let ((e32 (ite e26 e10 e3)))
+(let ((e33 (ite e17 e11 e5)))
+(let ((e34 (ite e18 e5 e5)))
+(let ((e35 (ite e15 e6 e5)))
+(let ((e36 (ite e19 v1 e8)))
+(let ((e37 (ite e28 e11 e9)))
+(let ((e38 (ite e29 v0 e11)))
+(let ((e39 (ite e20 e35 e10)))
+(let ((e40 (ite e22 e7 e4)))
+(let ((e41 (ite e24 e2 e40)))
+(let ((e42 (ite e16 e3 e35)))
+(let ((e43 (ite e16 v1 e8)))
+(let ((e44 (ite e21 e33 e39)))
+(let ((e45 (ite e22 e39 e44)))
+(let ((e46 (ite e23 v1 v1)))
+(let ((e47 (ite e27 e45 e6)))
+(let ((e48 (ite e29 e3 e9)))
+(let ((e49 (ite e23 e32 e12)))
+(let ((e50 (ite e13 e41 e8)))
+(let ((e51 (ite e14 v1 e8)))
+(let ((e52 (p3 e39 e50)))
+(let ((e53 (distinct e33 e9)))
+(let ((e54 (p2 e51 v1)))
+(let ((e55 (= e2 e36)))
+(let ((e56 (p0 e33 e7 e40)))
+(let ((e57 (p4 e51)))
+(let ((e58 (distinct e45 e5)))
+(let ((e59 (p4 e51)))
+(let ((e60 (p3 v0 e50)))
+(let ((e61 (= e46 e40)))
+(let ((e62 (= e31 e6)))
+(let ((e63 (= e44 e30)))
+(let ((e64 (p0 e33 e4 e40)))
+(let ((e65 (= e11 e31)))
+(let ((e66 (distinct e42 e30)))
+(let ((e67 (= e48 e45)))
+(let ((e68 (= e35 e31)))
+(let ((e69 (distinct e47 e11)))
+(let ((e70 (p0 e32 e2 e51)))
+(let ((e71 (p2 e7 e51)))
+(let ((e72 (distinct e8 e43)))
+(let ((e73 (distinct e49 e35)))
+(let ((e74 (= e10 e9)))
+(let ((e75 (p0 e45 e8 v1)))
+(let ((e76 (p3 e44 e46)))
+(let ((e77 (distinct e37 e33)))
+(let ((e78 (p2 v1 e36)))
+(let ((e79 (p1 e2)))
+(let ((e80 (= e34 e3)))
+(let ((e81 (distinct e38 e37)))
+(let ((e82 (p0 e9 e36 e41)))
+(let ((e83 (p0 e10 e36 e7)))
+(let ((e84 (p1 e36)))
+(let ((e85 (p0 e3 e4 e8)))
+(let ((e86 (p0 e30 e2 e2)))
+(let ((e87 (p1 e7)))
+(let ((e88 (p2 e41 e50)))
+(let ((e89 (p2 e40 e43)))
+(let ((e90 (= e12 e6)))
+(let ((e91 (and e67 e62)))
+(let ((e92 (ite e59 e13 e78)))
+(let ((e93 (or e79 e83)))
+(let ((e94 (not e53)))
+(let ((e95 (ite e60 e65 e90)))
+(let ((e96 (xor e86 e82)))
+(let ((e97 (and e55 e21)))
+(let ((e98 (=> e72 e81)))
+(let ((e99 (or e69 e16)))
+(let ((e100 (xor e77 e96)))
+(let ((e101 (or e91 e63)))
+(let ((e102 (ite e28 e18 e68)))
+(let ((e103 (ite e61 e88 e56)))
+(let ((e104 (= e100 e64)))
+(let ((e105 (not e22)))
+(let ((e106 (and e99 e99)))
+(let ((e107 (= e26 e95)))
+(let ((e108 (or e84 e103)))
+(let ((e109 (or e92 e101)))
+(let ((e110 (not e76)))
+(let ((e111 (xor e23 e71)))
+(let ((e112 (=> e102 e14)))
+(let ((e113 (and e27 e15)))
+(let ((e114 (or e58 e17)))
+(let ((e115 (and e25 e108)))
+(let ((e116 (=> e94 e110)))
+(let ((e117 (=> e111 e85)))
+(let ((e118 (=> e97 e29)))
+(let ((e119 (not e66)))
+(let ((e120 (not e118)))
+(let ((e121 (xor e113 e73)))
+(let ((e122 (not e87)))
+(let ((e123 (not e24)))
+(let ((e124 (or e54 e109)))
+(let ((e125 (=> e117 e112)))
+(let ((e126 (ite e122 e20 e98)))
+(let ((e127 (and e52 e57)))
+(let ((e128 (= e125 e106)))
+(let ((e129 (and e74 e80)))
+(let ((e130 (not e105)))
+(let ((e131 (=> e104 e128)))
+(let ((e132 (xor e75 e120)))
+(let ((e133 (or e126 e121)))
+(let ((e134 (not e93)))
+(let ((e135 (ite e129 e124 e129)))
+(let ((e136 (= e89 e89)))
+(let ((e137 (and e70 e136)))
+(let ((e138 (xor e123 e19)))
+(let ((e139 (ite e133 e130 e138)))
+(let ((e140 (xor e119 e114)))
+(let ((e141 (= e115 e140)))
+(let ((e142 (or e141 e139)))
+(let ((e143 (xor e137 e134)))
+(let ((e144 (or e131 e142)))
+(let ((e145 (=> e143 e107)))
+(let ((e146 (xor e144 e127)))
+(let ((e147 (= e116 e132)))
+(let ((e148 (not e135)))
+(let ((e149 (xor e146 e146)))
+(let ((e150 (ite e147 e148 e145)))
+(let ((e151 (xor e150 e149)))
+e151
+)))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))
+(check-sat)
@@ -0,0 +1,43 @@
+(set-info :source | fuzzsmt 0.3 |)
+(set-logic  QF_UFBV)
+(set-info :status unknown)
+(declare-fun f0 ( (_ BitVec 10)) (_ BitVec 13))
+(declare-fun f1 ( (_ BitVec 4) (_ BitVec 14)) (_ BitVec 11))
+(declare-fun p0 ((_ BitVec 13) (_ BitVec 2)  ) Bool )
+(declare-fun p1 ((_ BitVec 7)  ) Bool )
+(declare-fun v0 () (_ BitVec 13))
+(assert
+(let ((e1 (_ bv4 3)))
+(let ((e2 (_ bv7820 14)))
+(let ((e3 (f0 ((_ sign_extend 7) e1))))
+(let ((e4 (f1 ((_ extract 11 8) v0) e2)))
+(let ((e5 (ite (p1 ((_ extract 9 3) e3))(_ bv1 1) (_ bv0 1))))
+(let ((e6 (bvsmod e1 e1)))
+(let ((e7 (ite (p0 v0 ((_ extract 9 8) e4))(_ bv1 1) (_ bv0 1))))
+(let ((e8 (p1 ((_ extract 8 2) e4))))
+(let ((e9 (bvult e2 ((_ sign_extend 13) e5))))
+(let ((e10 (p0 e3 ((_ extract 5 4) e2))))
+(let ((e11 (bvsge e3 ((_ sign_extend 10) e1))))
+(let ((e12 (bvsge v0 e3)))
+(let ((e13 (bvule e1 e1)))
+(let ((e14 (bvult ((_ sign_extend 1) e3) e2)))
+(let ((e15 (bvsge e3 ((_ zero_extend 2) e4))))
+(let ((e16 (bvuge ((_ zero_extend 3) e4) e2)))
+(let ((e17 (bvuge e2 ((_ sign_extend 11) e6))))
+(let ((e18 (bvule e7 e7)))
+(let ((e19 (=> e14 e10)))
+(let ((e20 (=> e13 e17)))
+(let ((e21 (or e9 e9)))
+(let ((e22 (or e21 e12)))
+(let ((e23 (=> e11 e11)))
+(let ((e24 (=> e16 e20)))
+(let ((e25 (not e24)))
+(let ((e26 (not e19)))
+(let ((e27 (ite e15 e22 e23)))
+(let ((e28 (=> e26 e18)))
+(let ((e29 (ite e8 e27 e8)))
+(let ((e30 (=> e28 e29)))
+(let ((e31 (xor e25 e30)))
+e31
+))))))))))))))))))))))))))))))))
+(check-sat)
@@ -0,0 +1,193 @@
+(set-info :source | fuzzsmt 0.3 |)
+(set-logic  QF_UFLRA)
+(set-info :status unknown)
+(declare-fun f0 (Real Real Real ) Real)
+(declare-fun p0 (Real Real  ) Bool )
+(declare-fun v0 () Real)
+(assert
+(let ((e1 14))
+(let ((e2 4))
+(let ((e3 (+ v0 v0)))
+(let ((e4 (ite (p0 v0 v0) 1 0)))
+(let ((e5 (ite (p0 e4 e4) 1 0)))
+(let ((e6 (f0 e4 v0 e5)))
+(let ((e7 (* (- e1) v0)))
+(let ((e8 (ite (p0 e4 e5) 1 0)))
+(let ((e9 (/ e2 (- e2))))
+(let ((e10 (distinct e7 e3)))
+(let ((e11 (>= e4 v0)))
+(let ((e12 (< e6 e6)))
+(let ((e13 (< e9 e4)))
+(let ((e14 (distinct e6 e3)))
+(let ((e15 (distinct v0 e7)))
+(let ((e16 (> e3 e3)))
+(let ((e17 (< e5 e3)))
+(let ((e18 (>= e9 e3)))
+(let ((e19 (< e3 e8)))
+(let ((e20 (< e3 e5)))
+(let ((e21 (> e9 e6)))
+(let ((e22 (p0 e9 e6)))
+(let ((e23 (ite e16 e8 e9)))
+(let ((e24 (ite e17 e3 e23)))
+(let ((e25 (ite e19 v0 e7)))
+(let ((e26 (ite e21 e4 e25)))
+(let ((e27 (ite e20 e26 e7)))
+(let ((e28 (ite e11 e6 e6)))
+(let ((e29 (ite e14 e5 e27)))
+(let ((e30 (ite e19 e6 e29)))
+(let ((e31 (ite e15 e23 e27)))
+(let ((e32 (ite e12 e27 e5)))
+(let ((e33 (ite e17 e30 e6)))
+(let ((e34 (ite e10 e23 e24)))
+(let ((e35 (ite e19 e5 e32)))
+(let ((e36 (ite e20 e23 e4)))
+(let ((e37 (ite e13 e32 e5)))
+(let ((e38 (ite e18 e35 e6)))
+(let ((e39 (ite e14 e37 e34)))
+(let ((e40 (ite e17 e6 e35)))
+(let ((e41 (ite e18 e36 e25)))
+(let ((e42 (ite e13 e8 e30)))
+(let ((e43 (ite e22 e33 e32)))
+(let ((e44 (distinct e41 e27)))
+(let ((e45 (distinct e3 e25)))
+(let ((e46 (= e37 e9)))
+(let ((e47 (>= e7 e7)))
+(let ((e48 (<= e24 e37)))
+(let ((e49 (> e39 e5)))
+(let ((e50 (< e27 e28)))
+(let ((e51 (p0 e6 e36)))
+(let ((e52 (= e41 e6)))
+(let ((e53 (= e27 e36)))
+(let ((e54 (> e28 e31)))
+(let ((e55 (>= v0 e26)))
+(let ((e56 (< e7 e26)))
+(let ((e57 (p0 e7 e42)))
+(let ((e58 (<= e39 e4)))
+(let ((e59 (<= e25 e41)))
+(let ((e60 (= e38 e34)))
+(let ((e61 (= e30 v0)))
+(let ((e62 (< e42 e4)))
+(let ((e63 (distinct e29 e27)))
+(let ((e64 (= e23 e36)))
+(let ((e65 (> e26 e38)))
+(let ((e66 (>= e29 e27)))
+(let ((e67 (< e32 e43)))
+(let ((e68 (p0 e39 e39)))
+(let ((e69 (p0 e32 e33)))
+(let ((e70 (distinct e38 e23)))
+(let ((e71 (>= e43 e29)))
+(let ((e72 (distinct e41 e34)))
+(let ((e73 (= e5 e9)))
+(let ((e74 (< e6 e40)))
+(let ((e75 (distinct e34 e43)))
+(let ((e76 (<= e26 e38)))
+(let ((e77 (> e25 e5)))
+(let ((e78 (p0 e26 e41)))
+(let ((e79 (<= v0 e28)))
+(let ((e80 (< e32 e27)))
+(let ((e81 (>= e3 e7)))
+(let ((e82 (p0 e26 e43)))
+(let ((e83 (p0 e39 e42)))
+(let ((e84 (= e5 e7)))
+(let ((e85 (<= e37 e37)))
+(let ((e86 (= e29 e40)))
+(let ((e87 (< e7 e41)))
+(let ((e88 (< e41 e43)))
+(let ((e89 (p0 e40 e33)))
+(let ((e90 (p0 e24 e42)))
+(let ((e91 (<= e30 e30)))
+(let ((e92 (> e31 e38)))
+(let ((e93 (< e7 e42)))
+(let ((e94 (<= e5 e3)))
+(let ((e95 (p0 e7 e6)))
+(let ((e96 (> e6 e23)))
+(let ((e97 (> e41 e8)))
+(let ((e98 (>= e5 e24)))
+(let ((e99 (< e28 e25)))
+(let ((e100 (> e37 e42)))
+(let ((e101 (> e7 e38)))
+(let ((e102 (<= e5 e36)))
+(let ((e103 (< e27 e37)))
+(let ((e104 (< e42 e4)))
+(let ((e105 (< e7 e29)))
+(let ((e106 (p0 e28 e37)))
+(let ((e107 (distinct e9 e43)))
+(let ((e108 (= e35 e34)))
+(let ((e109 (ite e22 e68 e21)))
+(let ((e110 (ite e14 e62 e74)))
+(let ((e111 (=> e70 e52)))
+(let ((e112 (=> e65 e107)))
+(let ((e113 (or e84 e56)))
+(let ((e114 (ite e92 e101 e82)))
+(let ((e115 (xor e46 e108)))
+(let ((e116 (and e75 e110)))
+(let ((e117 (xor e87 e113)))
+(let ((e118 (or e48 e58)))
+(let ((e119 (not e112)))
+(let ((e120 (ite e115 e105 e49)))
+(let ((e121 (xor e120 e10)))
+(let ((e122 (not e72)))
+(let ((e123 (xor e57 e80)))
+(let ((e124 (or e66 e119)))
+(let ((e125 (xor e18 e54)))
+(let ((e126 (and e125 e83)))
+(let ((e127 (ite e126 e19 e126)))
+(let ((e128 (xor e64 e117)))
+(let ((e129 (=> e73 e98)))
+(let ((e130 (ite e90 e124 e89)))
+(let ((e131 (xor e59 e85)))
+(let ((e132 (= e45 e16)))
+(let ((e133 (=> e121 e60)))
+(let ((e134 (xor e103 e127)))
+(let ((e135 (and e130 e100)))
+(let ((e136 (xor e53 e53)))
+(let ((e137 (and e123 e63)))
+(let ((e138 (ite e129 e86 e106)))
+(let ((e139 (or e50 e136)))
+(let ((e140 (or e77 e134)))
+(let ((e141 (and e122 e94)))
+(let ((e142 (or e17 e116)))
+(let ((e143 (and e131 e135)))
+(let ((e144 (= e95 e91)))
+(let ((e145 (= e128 e104)))
+(let ((e146 (or e140 e93)))
+(let ((e147 (xor e20 e11)))
+(let ((e148 (=> e142 e51)))
+(let ((e149 (ite e133 e114 e55)))
+(let ((e150 (= e141 e67)))
+(let ((e151 (ite e132 e99 e139)))
+(let ((e152 (xor e102 e96)))
+(let ((e153 (xor e76 e69)))
+(let ((e154 (xor e111 e61)))
+(let ((e155 (not e144)))
+(let ((e156 (=> e109 e149)))
+(let ((e157 (or e145 e13)))
+(let ((e158 (xor e47 e79)))
+(let ((e159 (not e97)))
+(let ((e160 (ite e71 e158 e15)))
+(let ((e161 (ite e138 e118 e44)))
+(let ((e162 (not e153)))
+(let ((e163 (=> e137 e146)))
+(let ((e164 (not e150)))
+(let ((e165 (= e147 e162)))
+(let ((e166 (or e152 e81)))
+(let ((e167 (and e159 e154)))
+(let ((e168 (xor e161 e148)))
+(let ((e169 (ite e157 e78 e155)))
+(let ((e170 (ite e169 e163 e156)))
+(let ((e171 (not e12)))
+(let ((e172 (ite e170 e167 e164)))
+(let ((e173 (xor e143 e171)))
+(let ((e174 (and e172 e160)))
+(let ((e175 (=> e151 e173)))
+(let ((e176 (or e168 e175)))
+(let ((e177 (xor e176 e166)))
+(let ((e178 (or e177 e177)))
+(let ((e179 (ite e88 e165 e174)))
+(let ((e180 (not e178)))
+(let ((e181 (or e179 e179)))
+(let ((e182 (not e181)))
+(let ((e183 (=> e182 e180)))
+e183
+))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))))
+(check-sat)